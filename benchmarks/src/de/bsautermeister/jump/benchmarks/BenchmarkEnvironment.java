@@ -0,0 +1,36 @@
+package de.bsautermeister.jump.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+
+import de.bsautermeister.jump.assets.AssetPaths;
+import de.bsautermeister.jump.headless.Noop;
+
+/**
+ * Starts the headless backend once per benchmark JVM, which has to be run within the assets
+ * directory.
+ */
+final class BenchmarkEnvironment {
+    private static HeadlessApplication application;
+    private static TextureAtlas atlas;
+
+    private BenchmarkEnvironment() { }
+
+    static synchronized void init() {
+        if (application != null) {
+            return;
+        }
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.renderInterval = -1f;
+        application = new HeadlessApplication(new ApplicationAdapter() { }, config);
+        Noop.installGL();
+        atlas = new TextureAtlas(AssetPaths.Atlas.GAMEPLAY);
+    }
+
+    static TextureAtlas getAtlas() {
+        return atlas;
+    }
+}
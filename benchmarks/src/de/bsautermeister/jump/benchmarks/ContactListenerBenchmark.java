@@ -0,0 +1,138 @@
+package de.bsautermeister.jump.benchmarks;
+
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.badlogic.gdx.physics.box2d.ContactListener;
+import com.badlogic.gdx.physics.box2d.Manifold;
+import com.badlogic.gdx.physics.box2d.World;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+import de.bsautermeister.jump.headless.HeadlessSession;
+import de.bsautermeister.jump.physics.WorldContactListener;
+
+/**
+ * Measures the contact dispatch of {@link WorldContactListener} while a level is simulated. The
+ * listener cannot simply be removed for comparison, because the game would not behave the same
+ * anymore, e.g. the player would never touch the ground and one-way platforms would block. Instead,
+ * the listener is wrapped by one that delegates every callback and sums up the time spent in it,
+ * so that the simulation stays exactly the same.
+ * <p>
+ * The primary result is the time of a whole simulation step. The secondary results are the total
+ * time spent in each callback within an iteration, including the overhead of reading the timer
+ * twice per callback, and the number of steps to divide them by. The level is restarted as soon
+ * as the game is over, like in {@link GameControllerBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContactListenerBenchmark {
+
+    @Param({"2", "5"})
+    public int level;
+
+    private HeadlessSession session;
+    private final TimingContactListener contactListener =
+            new TimingContactListener(new WorldContactListener());
+    /**
+     * The world the timing listener has been installed in, which is replaced when the level
+     * is restarted.
+     */
+    private World timedWorld;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class DispatchTimes {
+        public long steps;
+        public long beginContactNanos;
+        public long endContactNanos;
+        public long preSolveNanos;
+        public long postSolveNanos;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            steps = 0;
+            beginContactNanos = 0;
+            endContactNanos = 0;
+            preSolveNanos = 0;
+            postSolveNanos = 0;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        BenchmarkEnvironment.init();
+        session = new HeadlessSession(BenchmarkEnvironment.getAtlas(), level);
+        timedWorld = null;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        session.dispose();
+    }
+
+    @Benchmark
+    public World update(DispatchTimes times) {
+        if (session.isFinished()) {
+            session.restart();
+        }
+        World world = session.getController().getWorld();
+        if (world != timedWorld) {
+            world.setContactListener(contactListener);
+            timedWorld = world;
+        }
+        contactListener.times = times;
+        session.tick();
+        times.steps++;
+        return world;
+    }
+
+    private static class TimingContactListener implements ContactListener {
+        private final ContactListener delegate;
+        private DispatchTimes times;
+
+        TimingContactListener(ContactListener delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void beginContact(Contact contact) {
+            long startTime = System.nanoTime();
+            delegate.beginContact(contact);
+            times.beginContactNanos += System.nanoTime() - startTime;
+        }
+
+        @Override
+        public void endContact(Contact contact) {
+            long startTime = System.nanoTime();
+            delegate.endContact(contact);
+            times.endContactNanos += System.nanoTime() - startTime;
+        }
+
+        @Override
+        public void preSolve(Contact contact, Manifold oldManifold) {
+            long startTime = System.nanoTime();
+            delegate.preSolve(contact, oldManifold);
+            times.preSolveNanos += System.nanoTime() - startTime;
+        }
+
+        @Override
+        public void postSolve(Contact contact, ContactImpulse impulse) {
+            long startTime = System.nanoTime();
+            delegate.postSolve(contact, impulse);
+            times.postSolveNanos += System.nanoTime() - startTime;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package de.bsautermeister.jump.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+import de.bsautermeister.jump.headless.HeadlessSession;
+import de.bsautermeister.jump.screens.game.GameController;
+
+/**
+ * Measures a single fixed simulation step of a loaded level. Without any input, the player dies
+ * after a few thousand steps, which is only a fraction of an iteration. The level is restarted as
+ * soon as the game is over, so that the measurement does not mostly consist of the steps that
+ * return early because the game is over. The restart respawns the entities from the level
+ * prototype, which is cheap compared to the thousands of steps in between.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameControllerBenchmark {
+
+    @Param({"0", "2", "5"})
+    public int level;
+
+    private HeadlessSession session;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        BenchmarkEnvironment.init();
+        session = new HeadlessSession(BenchmarkEnvironment.getAtlas(), level);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        session.dispose();
+    }
+
+    @Benchmark
+    public GameController update() {
+        if (session.isFinished()) {
+            session.restart();
+        }
+        GameController controller = session.getController();
+        controller.update(GameController.SIMULATION_STEP_TIME);
+        return controller;
+    }
+}
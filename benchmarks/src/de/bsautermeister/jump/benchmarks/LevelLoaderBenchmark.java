@@ -0,0 +1,63 @@
+package de.bsautermeister.jump.benchmarks;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import de.bsautermeister.jump.screens.game.level.LevelData;
+import de.bsautermeister.jump.screens.game.level.LevelLoader;
+
+/**
+ * Compares loading a level from its TMX file with loading the compiled binary level, as done on
+ * every level start and restart.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LevelLoaderBenchmark {
+
+    @Param({"1", "5", "11"})
+    public int level;
+
+    private LevelLoader levelLoader;
+
+    @Setup(Level.Trial)
+    public void setUpLoader() {
+        BenchmarkEnvironment.init();
+        levelLoader = new LevelLoader();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownLoader() {
+        levelLoader.dispose();
+    }
+
+    @Benchmark
+    public TiledMap loadTmx() {
+        TiledMap map = new TmxMapLoader().load(
+                String.format(Locale.ROOT, "maps/level%02d.tmx", level));
+        map.dispose();
+        return map;
+    }
+
+    @Benchmark
+    public TiledMap loadCompiled() {
+        LevelData levelData = LevelLoader.load(level);
+        TiledMap map = levelLoader.createMap(levelData);
+        map.dispose();
+        return map;
+    }
+}
@@ -0,0 +1,61 @@
+package de.bsautermeister.jump.benchmarks;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapImageLayer;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+import de.bsautermeister.jump.Cfg;
+import de.bsautermeister.jump.headless.Noop;
+import de.bsautermeister.jump.physics.WorldCreator;
+import de.bsautermeister.jump.rendering.ParallaxRenderer;
+
+/**
+ * Measures the per-layer setup of the parallax background, without the draw calls themselves.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParallaxRendererBenchmark {
+
+    private TiledMap map;
+    private OrthographicCamera camera;
+    private ParallaxRenderer parallaxRenderer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkEnvironment.init();
+        map = new TmxMapLoader().load("maps/level01.tmx");
+        camera = new OrthographicCamera();
+        camera.setToOrtho(false, Cfg.WORLD_WIDTH / Cfg.PPM, Cfg.WORLD_HEIGHT / Cfg.PPM);
+        OrthogonalTiledMapRenderer mapRenderer = new OrthogonalTiledMapRenderer(
+                map, 1 / Cfg.PPM, Noop.create(Batch.class));
+        parallaxRenderer = new ParallaxRenderer(camera, mapRenderer);
+        parallaxRenderer.setMap(map);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        map.dispose();
+    }
+
+    @Benchmark
+    public TiledMapImageLayer setUpLayer() {
+        camera.position.x += 0.01f;
+        return parallaxRenderer.setUpLayer(WorldCreator.BG_IMG_MOUNTAINS_KEY, 0.2f, 0.15f, 0f);
+    }
+}
@@ -0,0 +1,110 @@
+package de.bsautermeister.jump.benchmarks;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import de.bsautermeister.jump.audio.MusicPlayer;
+import de.bsautermeister.jump.headless.HeadlessSession;
+import de.bsautermeister.jump.headless.Noop;
+import de.bsautermeister.jump.screens.game.GameController;
+import de.bsautermeister.jump.screens.game.GameScreenCallbacks;
+import de.bsautermeister.jump.screens.game.GameSoundEffects;
+import de.bsautermeister.jump.screens.game.level.PreparedLevel;
+import de.bsautermeister.jump.serializer.BinarySerializer;
+
+/**
+ * Measures saving and restoring the full game state. A game state can only be read into a freshly
+ * built level, which is built before each invocation of {@link #read()} without being measured,
+ * the same way as when a saved game is resumed. Building the level takes much longer than reading
+ * the state, so there are only few invocations per iteration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializerBenchmark {
+
+    private static final int WARM_UP_TICKS = 120;
+
+    @Param({"2", "5"})
+    public int level;
+
+    private HeadlessSession session;
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream(64 * 1024);
+    private byte[] savedState;
+    private final GameScreenCallbacks screenCallbacks = Noop.create(GameScreenCallbacks.class);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkEnvironment.init();
+        session = new HeadlessSession(BenchmarkEnvironment.getAtlas(), level);
+        for (int i = 0; i < WARM_UP_TICKS; ++i) {
+            session.tick();
+        }
+
+        BinarySerializer.write(session.getController(), output);
+        savedState = output.toByteArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        session.dispose();
+    }
+
+    @Benchmark
+    public int write() {
+        output.reset();
+        BinarySerializer.write(session.getController(), output);
+        return output.size();
+    }
+
+    @Benchmark
+    public boolean read(EmptyLevel emptyLevel) {
+        return BinarySerializer.read(emptyLevel.controller, new ByteArrayInputStream(savedState));
+    }
+
+    /**
+     * The level the saved state is read into, which is built again for every invocation, because
+     * a state can only be read once.
+     */
+    @State(Scope.Thread)
+    public static class EmptyLevel {
+        /**
+         * A saved game that does not exist, so that the level is built without the enemies and
+         * coins, which are restored from the saved state instead.
+         */
+        private final FileHandle missingSavedStateHandle = new FileHandle("benchmark.dat") {
+            @Override
+            public boolean exists() {
+                return false;
+            }
+        };
+        private GameController controller;
+
+        @Setup(Level.Invocation)
+        public void build(SerializerBenchmark benchmark) {
+            controller = new GameController(benchmark.screenCallbacks,
+                    BenchmarkEnvironment.getAtlas(), GameSoundEffects.createSilent(),
+                    MusicPlayer.createSilent(), MusicPlayer.createSilent(),
+                    PreparedLevel.prepare(benchmark.level), missingSavedStateHandle);
+        }
+
+        @TearDown(Level.Invocation)
+        public void dispose() {
+            controller.dispose();
+        }
+    }
+}
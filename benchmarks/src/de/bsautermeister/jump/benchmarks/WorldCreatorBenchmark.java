@@ -0,0 +1,75 @@
+package de.bsautermeister.jump.benchmarks;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+import de.bsautermeister.jump.Cfg;
+import de.bsautermeister.jump.headless.Noop;
+import de.bsautermeister.jump.physics.WorldCreator;
+import de.bsautermeister.jump.screens.game.GameCallbacks;
+import de.bsautermeister.jump.screens.game.level.LevelData;
+import de.bsautermeister.jump.screens.game.level.LevelLoader;
+
+/**
+ * Measures building the Box2D bodies and tile objects of a level from its already loaded map.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorldCreatorBenchmark {
+
+    @Param({"1", "5", "9"})
+    public int level;
+
+    private LevelLoader levelLoader;
+    private LevelData levelData;
+    private TiledMap map;
+    private World world;
+    private final GameCallbacks callbacks = Noop.create(GameCallbacks.class);
+
+    @Setup(Level.Trial)
+    public void setUpMap() {
+        BenchmarkEnvironment.init();
+        levelLoader = new LevelLoader();
+        levelData = LevelLoader.load(level);
+        map = levelLoader.createMap(levelData);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownMap() {
+        map.dispose();
+        levelLoader.dispose();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpWorld() {
+        world = new World(new Vector2(0, Cfg.GRAVITY), true);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownWorld() {
+        world.dispose();
+    }
+
+    @Benchmark
+    public WorldCreator buildFromMap() {
+        WorldCreator worldCreator = new WorldCreator(
+                callbacks, world, map, levelData, BenchmarkEnvironment.getAtlas());
+        worldCreator.buildFromMap();
+        return worldCreator;
+    }
+}
@@ -52,6 +52,17 @@ public interface Cfg {
 
     float GRAVITY = -4 * 9.81f;
 
+    boolean FIXED_TIMESTEP = true;
+    float SIMULATION_STEPS_PER_SEC = 60f;
+    int MAX_SIMULATION_STEPS_PER_FRAME = 5;
+    boolean RECORD_INPUT = false;
+
+    float AUTOSAVE_INTERVAL = 10f;
+    int AUTOSAVE_JOURNAL_RECORDS = 30;
+
+    long SOUND_BANK_MEMORY_BUDGET = 6 * 1024 * 1024;
+    int SOUND_BANK_RESIDENT_VARIANTS = 2;
+
     float SCREEN_TRANSITION_TIME = 0.5f;
 
     float BUTTON_VERTICAL_PAD = 16f;
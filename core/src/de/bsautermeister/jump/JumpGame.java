@@ -6,8 +6,10 @@ import com.badlogic.gdx.files.FileHandle;
 
 import de.bsautermeister.jump.commons.GameApp;
 import de.bsautermeister.jump.screens.loading.LoadingScreen;
+import de.bsautermeister.jump.serializer.AtomicFileWriter;
 import de.bsautermeister.jump.serializer.BinarySerializable;
 import de.bsautermeister.jump.serializer.BinarySerializer;
+import de.bsautermeister.jump.serializer.Journal;
 import de.bsautermeister.jump.services.GameServiceManager;
 import de.bsautermeister.jump.services.GameServices;
 
@@ -16,6 +18,7 @@ public class JumpGame extends GameApp {
 
     private final GameServices gameServices;
     private static GameServiceManager gameServiceManager;
+    private static AtomicFileWriter savedDataWriter;
 
     public JumpGame(GameServices gameServices) {
         this.gameServices = gameServices;
@@ -27,18 +30,46 @@ public class JumpGame extends GameApp {
         Gdx.app.setLogLevel(Application.LOG_DEBUG);
 
         gameServiceManager = new GameServiceManager(gameServices);
+        savedDataWriter = new AtomicFileWriter();
 
         setScreen(new LoadingScreen(this));
     }
 
+    @Override
+    public void dispose() {
+        super.dispose();
+        savedDataWriter.dispose();
+    }
+
+    /**
+     * Returns the file of the saved game, after any pending write or delete has finished.
+     */
     public static FileHandle getSavedDataHandle() {
+        savedDataWriter.awaitPending();
         return Gdx.files.local(SAVE_DAT_FILENAME);
     }
 
+    /**
+     * Replaces the saved game in the background, so that the caller does not have to wait for
+     * the storage. The journal of the previous saved game is discarded.
+     */
+    public static void writeSavedData(byte[] data) {
+        FileHandle handle = Gdx.files.local(SAVE_DAT_FILENAME);
+        savedDataWriter.write(handle, data);
+        savedDataWriter.delete(Journal.getHandle(handle));
+    }
+
+    /**
+     * Appends a record with the latest changes to the journal of the saved game in the background.
+     */
+    public static void appendSavedDataJournal(byte[] record) {
+        savedDataWriter.append(Journal.getHandle(Gdx.files.local(SAVE_DAT_FILENAME)), record);
+    }
+
     public static void deleteSavedData() {
-        final FileHandle handle = getSavedDataHandle();
-        if (handle.exists())
-            handle.delete();
+        FileHandle handle = Gdx.files.local(SAVE_DAT_FILENAME);
+        savedDataWriter.delete(handle);
+        savedDataWriter.delete(Journal.getHandle(handle));
     }
 
     public static boolean hasSavedData() {
@@ -1,10 +1,5 @@
 package de.bsautermeister.jump.assets;
 
-import com.badlogic.gdx.math.MathUtils;
-
-import de.bsautermeister.jump.math.Permutation;
-import de.bsautermeister.jump.tools.Supplier;
-
 public interface AssetPaths {
     interface Atlas {
         String LOADING = "loading/loading.atlas";
@@ -60,69 +55,13 @@ public interface AssetPaths {
         static String FROG = "audio/sounds/frog.wav";
         static String WHINE = "audio/sounds/whine.wav";
 
-        static final Supplier<String> COMPLAIN_GENERATOR = new Supplier<String>() {
-            Permutation perm = new Permutation(1, 12);
-            @Override
-            public String get() {
-                return template("audio/sounds/complain*.wav", perm.next());
-            }
-        };
-
-        static final Supplier<String> SWEARING_GENERATOR = new Supplier<String>() {
-            Permutation perm = new Permutation(1, 37);
-            @Override
-            public String get() {
-                return template("audio/sounds/swearing*.wav", perm.next());
-            }
-        };
-
-        static final Supplier<String> DRWON_GENERATOR = new Supplier<String>() {
-            Permutation perm = new Permutation(1, 7);
-            @Override
-            public String get() {
-                return template("audio/sounds/drown*.wav", perm.next());
-            }
-        };
-
-        static final Supplier<String> SHOUT_GENERATOR = new Supplier<String>() {
-            Permutation perm = new Permutation(1, 18);
-            @Override
-            public String get() {
-                return template("audio/sounds/shout*.wav", perm.next());
-            }
-        };
-
-        static final Supplier<String> VICTORY_GENERATOR = new Supplier<String>() {
-            Permutation perm = new Permutation(1, 9);
-            @Override
-            public String get() {
-                return template("audio/sounds/victory*.wav", perm.next());
-            }
-        };
-
-        static final Supplier<String> START_GENERATOR = new Supplier<String>() {
-            Permutation perm = new Permutation(1, 16);
-            @Override
-            public String get() {
-                return template("audio/sounds/start*.wav", perm.next());
-            }
-        };
-
-        static final Supplier<String> BEER_GENERATOR = new Supplier<String>() {
-            Permutation perm = new Permutation(1, 6);
-            @Override
-            public String get() {
-                return template("audio/sounds/beer*.wav", perm.next());
-            }
-        };
-
-        private static String sample(String template, int min, int max) {
-            return template.replace("*", String.format("%02d", MathUtils.random(min, max)));
-        }
-
-        private static String template(String template, int value) {
-            return template.replace("*", String.format("%02d", value));
-        }
+        static final String COMPLAIN = "audio/sounds/complain*.wav";
+        static final String SWEARING = "audio/sounds/swearing*.wav";
+        static final String DROWN = "audio/sounds/drown*.wav";
+        static final String SHOUT = "audio/sounds/shout*.wav";
+        static final String VICTORY = "audio/sounds/victory*.wav";
+        static final String START = "audio/sounds/start*.wav";
+        static final String BEER = "audio/sounds/beer*.wav";
     }
 
     interface Music {
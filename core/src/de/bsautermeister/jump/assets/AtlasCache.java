@@ -0,0 +1,187 @@
+package de.bsautermeister.jump.assets;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Resolves the regions and animations of an atlas only once, and shares them between all sprites
+ * that use the same atlas. The returned regions, arrays and animations are shared, so they must
+ * not be modified, e.g. by changing the play mode of an animation.
+ * <p>
+ * The game uses the single gameplay atlas of the asset manager, so there is usually only one cache
+ * for the whole lifetime of the app.
+ */
+public final class AtlasCache {
+
+    public interface AnimationFactory {
+        Animation<TextureRegion> create(AtlasCache cache);
+    }
+
+    private static final PerAtlas<AtlasCache> CACHES = new PerAtlas<>(
+            new PerAtlas.Factory<AtlasCache>() {
+                @Override
+                public AtlasCache create(PerAtlas.AtlasReference atlas) {
+                    return new AtlasCache(atlas);
+                }
+            });
+
+    private final PerAtlas.AtlasReference atlas;
+    private final ObjectMap<String, Array<TextureAtlas.AtlasRegion>> regions = new ObjectMap<>();
+    private final ObjectMap<Key, Object> entries = new ObjectMap<>();
+    private final Key lookupKey = new Key();
+
+    private AtlasCache(PerAtlas.AtlasReference atlas) {
+        this.atlas = atlas;
+    }
+
+    public static AtlasCache of(TextureAtlas atlas) {
+        return CACHES.get(atlas);
+    }
+
+    public synchronized Array<TextureAtlas.AtlasRegion> findRegions(String name) {
+        Array<TextureAtlas.AtlasRegion> result = regions.get(name);
+        if (result == null) {
+            result = atlas.get().findRegions(name);
+            regions.put(name, result);
+        }
+        return result;
+    }
+
+    public synchronized TextureAtlas.AtlasRegion findRegion(String name) {
+        Array<TextureAtlas.AtlasRegion> result = findRegions(name);
+        return result.size > 0 ? result.first() : null;
+    }
+
+    public synchronized TextureAtlas.AtlasRegion findRegion(String name, int index) {
+        Array<TextureAtlas.AtlasRegion> result = findRegions(name);
+        for (int i = 0; i < result.size; ++i) {
+            if (result.get(i).index == index) {
+                return result.get(i);
+            }
+        }
+        return null;
+    }
+
+    public synchronized Animation<TextureRegion> getAnimation(
+            String name, float frameDuration, Animation.PlayMode playMode) {
+        Animation<TextureRegion> animation = get(name, 0, frameDuration, playMode);
+        if (animation == null) {
+            animation = new Animation<TextureRegion>(frameDuration, findRegions(name), playMode);
+            put(name, 0, frameDuration, playMode, animation);
+        }
+        return animation;
+    }
+
+    /**
+     * Returns the animation with the given key, which is created by the factory on first use. This
+     * is meant for animations that are not simply made of all regions with the same name.
+     */
+    public synchronized Animation<TextureRegion> getAnimation(String key, AnimationFactory factory) {
+        Animation<TextureRegion> animation = get(key, -1, 0f, null);
+        if (animation == null) {
+            animation = factory.create(this);
+            put(key, -1, 0f, null, animation);
+        }
+        return animation;
+    }
+
+    /**
+     * Returns the animations of the given names, which all have the same frame duration and play
+     * mode. Only the animations are shared, but not the returned array.
+     */
+    public synchronized Animation<TextureRegion>[] getAnimations(
+            float frameDuration, Animation.PlayMode playMode, String... names) {
+        Animation<TextureRegion>[] result = newAnimationArray(names.length);
+        for (int i = 0; i < names.length; ++i) {
+            result[i] = getAnimation(names[i], frameDuration, playMode);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first region of each name of the template, for the values 0 to count - 1.
+     */
+    public synchronized TextureRegion[] getTemplateRegions(String templateName, int count) {
+        TextureRegion[] result = get(templateName, count, 0f, null);
+        if (result == null) {
+            result = new TextureRegion[count];
+            for (int i = 0; i < count; ++i) {
+                result[i] = findRegion(RegionNames.fromTemplate(templateName, i));
+            }
+            put(templateName, count, 0f, null, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the animation of each name of the template, for the values 0 to count - 1.
+     */
+    public synchronized Animation<TextureRegion>[] getTemplateAnimations(
+            String templateName, int count, float frameDuration, Animation.PlayMode playMode) {
+        Animation<TextureRegion>[] result = get(templateName, count, frameDuration, playMode);
+        if (result == null) {
+            result = newAnimationArray(count);
+            for (int i = 0; i < count; ++i) {
+                result[i] = getAnimation(
+                        RegionNames.fromTemplate(templateName, i), frameDuration, playMode);
+            }
+            put(templateName, count, frameDuration, playMode, result);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Animation<TextureRegion>[] newAnimationArray(int size) {
+        return (Animation<TextureRegion>[]) new Animation<?>[size];
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(String name, int count, float frameDuration, Animation.PlayMode playMode) {
+        lookupKey.set(name, count, frameDuration, playMode);
+        return (T) entries.get(lookupKey);
+    }
+
+    private void put(String name, int count, float frameDuration, Animation.PlayMode playMode,
+                     Object entry) {
+        Key key = new Key();
+        key.set(name, count, frameDuration, playMode);
+        entries.put(key, entry);
+    }
+
+    private static class Key {
+        private String name;
+        private int count;
+        private float frameDuration;
+        private Animation.PlayMode playMode;
+
+        void set(String name, int count, float frameDuration, Animation.PlayMode playMode) {
+            this.name = name;
+            this.count = count;
+            this.frameDuration = frameDuration;
+            this.playMode = playMode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return count == key.count
+                    && Float.compare(key.frameDuration, frameDuration) == 0
+                    && name.equals(key.name)
+                    && playMode == key.playMode;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = name.hashCode();
+            result = 31 * result + count;
+            result = 31 * result + Float.floatToIntBits(frameDuration);
+            result = 31 * result + (playMode != null ? playMode.hashCode() : 0);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package de.bsautermeister.jump.assets;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Holds one value per atlas, which is created on first use. The atlases are weakly referenced, so
+ * that the value of an atlas is collected together with it, after the atlas has been unloaded and
+ * is not referenced anymore. For the same reason, a value must not keep a strong reference to its
+ * atlas, because that would keep its own key in the map alive, so the atlas is only passed to the
+ * factory as an {@link AtlasReference}.
+ */
+public final class PerAtlas<T> {
+
+    public interface Factory<T> {
+        T create(AtlasReference atlas);
+    }
+
+    public static final class AtlasReference {
+        private final WeakReference<TextureAtlas> atlas;
+
+        private AtlasReference(TextureAtlas atlas) {
+            this.atlas = new WeakReference<>(atlas);
+        }
+
+        public TextureAtlas get() {
+            TextureAtlas result = atlas.get();
+            if (result == null) {
+                // cannot happen, because the value is only obtained for an atlas that is still in use
+                throw new IllegalStateException("Atlas has been collected");
+            }
+            return result;
+        }
+    }
+
+    private final Map<TextureAtlas, T> values = new WeakHashMap<>();
+    private final Factory<T> factory;
+
+    public PerAtlas(Factory<T> factory) {
+        this.factory = factory;
+    }
+
+    public synchronized T get(TextureAtlas atlas) {
+        T value = values.get(atlas);
+        if (value == null) {
+            value = factory.create(new AtlasReference(atlas));
+            values.put(atlas, value);
+        }
+        return value;
+    }
+}
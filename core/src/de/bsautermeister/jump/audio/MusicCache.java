@@ -0,0 +1,96 @@
+package de.bsautermeister.jump.audio;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.Logger;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import de.bsautermeister.jump.Cfg;
+
+/**
+ * Reference-counted music instances by file path, so that switching between tracks does not
+ * re-open and re-decode the file each time. Tracks that are not referenced anymore are kept open,
+ * until more than {@link #MAX_IDLE_TRACKS} are idle.
+ */
+public class MusicCache implements Disposable {
+    private static final Logger LOG = new Logger(MusicCache.class.getSimpleName(), Cfg.LOG_LEVEL);
+
+    private static final int MAX_IDLE_TRACKS = 4;
+
+    private final ObjectMap<String, Entry> entries = new ObjectMap<>();
+
+    /**
+     * The paths of the tracks without references, ordered from the least to the most recently
+     * released one.
+     */
+    private final Array<String> idlePaths = new Array<>();
+
+    public Music acquire(String filePath) {
+        Entry entry = entries.get(filePath);
+        if (entry == null) {
+            LOG.debug("Open: " + filePath);
+            entry = new Entry(Gdx.audio.newMusic(Gdx.files.internal(filePath)));
+            entries.put(filePath, entry);
+        }
+
+        if (entry.references == 0) {
+            idlePaths.removeValue(filePath, false);
+        }
+        entry.references++;
+        return entry.music;
+    }
+
+    public void release(String filePath) {
+        Entry entry = entries.get(filePath);
+        if (entry == null || entry.references == 0) {
+            return;
+        }
+
+        entry.references--;
+        if (entry.references == 0) {
+            entry.music.stop();
+            idlePaths.add(filePath);
+            trimIdleTracks();
+        }
+    }
+
+    /**
+     * Opens the track ahead of time, so that selecting it later does not cause any I/O.
+     */
+    public void preload(String filePath) {
+        if (entries.containsKey(filePath)) {
+            return;
+        }
+
+        acquire(filePath);
+        release(filePath);
+    }
+
+    private void trimIdleTracks() {
+        while (idlePaths.size > MAX_IDLE_TRACKS) {
+            String filePath = idlePaths.removeIndex(0);
+            LOG.debug("Close: " + filePath);
+            entries.remove(filePath).music.dispose();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        for (Entry entry : entries.values()) {
+            entry.music.dispose();
+        }
+        entries.clear();
+        idlePaths.clear();
+    }
+
+    private static class Entry {
+        private final Music music;
+        private int references;
+
+        Entry(Music music) {
+            this.music = music;
+        }
+    }
+}
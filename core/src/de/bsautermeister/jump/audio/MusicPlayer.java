@@ -1,8 +1,6 @@
 package de.bsautermeister.jump.audio;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
-import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.Logger;
@@ -18,6 +16,7 @@ public class MusicPlayer implements BinarySerializable, Disposable {
     private static final Logger LOG = new Logger(MusicPlayer.class.getSimpleName(), Cfg.LOG_LEVEL);
 
     private final static float VOLUME_CHANGE_IN_SECONDS = 2.0f;
+    private final static float CROSSFADE_IN_SECONDS = 1.0f;
     public final static float MAX_VOLUME = 0.33f;
 
     private float currentVolume = 0.0f;
@@ -25,18 +24,64 @@ public class MusicPlayer implements BinarySerializable, Disposable {
     private Music music;
     private String selectedFilePath;
 
-    private Array<Music> fadeOutAndDisposeQueue = new Array<>();
+    /**
+     * The fade-in progress of the selected music, which is below one during a crossfade.
+     */
+    private float fadeIn = 1f;
+    private float appliedVolume = -1f;
+
+    private final Array<FadingTrack> fadingTracks = new Array<>();
+
+    /**
+     * The source of the music instances, or null in case music is never actually opened, e.g. to
+     * run the game without audio backend.
+     */
+    private final MusicCache cache;
+
+    public MusicPlayer(MusicCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Creates a player that does not play anything, e.g. to run the game without audio backend.
+     */
+    public static MusicPlayer createSilent() {
+        return new MusicPlayer(null);
+    }
+
+    /**
+     * Opens the music ahead of time, so that selecting it later does not cause any I/O.
+     */
+    public void preload(String filePath) {
+        if (cache != null) {
+            cache.preload(filePath);
+        }
+    }
 
     public void selectMusic(String filePath) {
         LOG.debug("Select: " + filePath);
-        if (music != null) {
-            fadeOutAndDisposeQueue.add(music);
+        if (music != null && filePath.equals(selectedFilePath)) {
+            return;
         }
 
-        FileHandle fileHandle = Gdx.files.internal(filePath);
-        music = Gdx.audio.newMusic(fileHandle);
-        music.setLooping(true);
+        boolean crossfade = fadeOutCurrent();
+
         selectedFilePath = filePath;
+        if (cache == null) {
+            return;
+        }
+
+        FadingTrack fadingTrack = takeFadingTrack(filePath);
+        if (fadingTrack != null) {
+            // continue the track that was just faded out instead of restarting it
+            music = fadingTrack.music;
+            fadeIn = currentVolume > 0 ? Math.min(1f, fadingTrack.volume / currentVolume) : 1f;
+        } else {
+            music = cache.acquire(filePath);
+            music.setLooping(true);
+            fadeIn = crossfade ? 0f : 1f;
+        }
+        appliedVolume = -1f;
     }
 
     public void update(float delta) {
@@ -53,18 +98,25 @@ public class MusicPlayer implements BinarySerializable, Disposable {
                 }
             }
 
-            music.setVolume(currentVolume);
+            if (fadeIn < 1f) {
+                fadeIn = Math.min(1f, fadeIn + delta / CROSSFADE_IN_SECONDS);
+            }
+
+            float volume = currentVolume * fadeIn;
+            if (volume != appliedVolume) {
+                music.setVolume(volume);
+                appliedVolume = volume;
+            }
         }
 
-        if (fadeOutAndDisposeQueue.size > 0) {
-            for (Music fadeOutMusic : fadeOutAndDisposeQueue) {
-                float newVolume = fadeOutMusic.getVolume() - delta;
-                if (newVolume > 0) {
-                    fadeOutMusic.setVolume(newVolume);
-                } else {
-                    fadeOutMusic.dispose();
-                    fadeOutAndDisposeQueue.removeValue(fadeOutMusic, true);
-                }
+        for (int i = fadingTracks.size - 1; i >= 0; --i) {
+            FadingTrack fadingTrack = fadingTracks.get(i);
+            fadingTrack.volume -= fadingTrack.startVolume * delta / CROSSFADE_IN_SECONDS;
+            if (fadingTrack.volume > 0) {
+                fadingTrack.music.setVolume(fadingTrack.volume);
+            } else {
+                fadingTracks.removeIndex(i);
+                cache.release(fadingTrack.filePath);
             }
         }
     }
@@ -97,6 +149,7 @@ public class MusicPlayer implements BinarySerializable, Disposable {
     }
 
     public void pause() {
+        releaseFadingTracks();
         if (music == null) {
             return;
         }
@@ -115,12 +168,43 @@ public class MusicPlayer implements BinarySerializable, Disposable {
     }
 
     public void fadeOutStop() {
+        fadeOutCurrent();
+    }
+
+    /**
+     * Moves the selected music to the fading tracks in case it is playing, or releases it.
+     *
+     * @return whether the selected music is fading out
+     */
+    private boolean fadeOutCurrent() {
         if (music == null) {
-            return;
+            return false;
         }
 
-        fadeOutAndDisposeQueue.add(music);
+        boolean fading = music.isPlaying() && appliedVolume > 0;
+        if (fading) {
+            fadingTracks.add(new FadingTrack(selectedFilePath, music, appliedVolume));
+        } else {
+            cache.release(selectedFilePath);
+        }
         music = null;
+        return fading;
+    }
+
+    private FadingTrack takeFadingTrack(String filePath) {
+        for (int i = 0; i < fadingTracks.size; ++i) {
+            if (fadingTracks.get(i).filePath.equals(filePath)) {
+                return fadingTracks.removeIndex(i);
+            }
+        }
+        return null;
+    }
+
+    private void releaseFadingTracks() {
+        for (FadingTrack fadingTrack : fadingTracks) {
+            cache.release(fadingTrack.filePath);
+        }
+        fadingTracks.clear();
     }
 
     public void setVolume(float volume, boolean immediate) {
@@ -163,19 +247,39 @@ public class MusicPlayer implements BinarySerializable, Disposable {
         currentVolume = in.readFloat();
         targetVolume = in.readFloat();
         if (pos > 0) {
-            // at least on Desktop it is required to call play first
-            // before seeking the audio position
             selectMusic(musicPath);
-            music.setVolume(currentVolume);
-            music.play();
-            music.setPosition(pos);
+            if (music != null) {
+                fadeIn = 1f;
+                appliedVolume = currentVolume;
+                // at least on Desktop it is required to call play first
+                // before seeking the audio position
+                music.setVolume(currentVolume);
+                music.play();
+                music.setPosition(pos);
+            }
         }
     }
 
     @Override
     public void dispose() {
         if (music != null) {
-            music.dispose();
+            cache.release(selectedFilePath);
+            music = null;
+        }
+        releaseFadingTracks();
+    }
+
+    private static class FadingTrack {
+        private final String filePath;
+        private final Music music;
+        private final float startVolume;
+        private float volume;
+
+        FadingTrack(String filePath, Music music, float volume) {
+            this.filePath = filePath;
+            this.music = music;
+            this.startVolume = volume;
+            this.volume = volume;
         }
     }
 }
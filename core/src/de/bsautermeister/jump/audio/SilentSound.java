@@ -0,0 +1,76 @@
+package de.bsautermeister.jump.audio;
+
+import com.badlogic.gdx.audio.Sound;
+
+/**
+ * Sound that does not play anything, which is used when the game runs without any audio backend.
+ */
+public class SilentSound implements Sound {
+
+    public static final SilentSound INSTANCE = new SilentSound();
+
+    private SilentSound() { }
+
+    @Override
+    public long play() {
+        return -1;
+    }
+
+    @Override
+    public long play(float volume) {
+        return -1;
+    }
+
+    @Override
+    public long play(float volume, float pitch, float pan) {
+        return -1;
+    }
+
+    @Override
+    public long loop() {
+        return -1;
+    }
+
+    @Override
+    public long loop(float volume) {
+        return -1;
+    }
+
+    @Override
+    public long loop(float volume, float pitch, float pan) {
+        return -1;
+    }
+
+    @Override
+    public void stop() { }
+
+    @Override
+    public void pause() { }
+
+    @Override
+    public void resume() { }
+
+    @Override
+    public void dispose() { }
+
+    @Override
+    public void stop(long soundId) { }
+
+    @Override
+    public void pause(long soundId) { }
+
+    @Override
+    public void resume(long soundId) { }
+
+    @Override
+    public void setLooping(long soundId, boolean looping) { }
+
+    @Override
+    public void setPitch(long soundId, float pitch) { }
+
+    @Override
+    public void setVolume(long soundId, float volume) { }
+
+    @Override
+    public void setPan(long soundId, float pan, float volume) { }
+}
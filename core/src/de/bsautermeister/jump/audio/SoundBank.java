@@ -0,0 +1,190 @@
+package de.bsautermeister.jump.audio;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Logger;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import de.bsautermeister.jump.Cfg;
+
+/**
+ * Keeps only a few variants of each voice group in memory. Every time a voice is played, another
+ * variant of its group is loaded in the background, so that the variety grows over time, while
+ * the least recently played variants are unloaded as soon as the memory budget is exceeded.
+ */
+public class SoundBank {
+    private static final Logger LOG = new Logger(SoundBank.class.getSimpleName(), Cfg.LOG_LEVEL);
+
+    /**
+     * Size that is assumed when the file size cannot be determined, e.g. for compressed assets.
+     */
+    private static final int UNKNOWN_SIZE_ESTIMATE = 256 * 1024;
+
+    private final AssetManager assetManager;
+    private final long memoryBudget;
+    private final int residentVariants;
+
+    private final ObjectMap<String, VoiceGroup> groupOfPath = new ObjectMap<>();
+    private final ObjectIntMap<String> sizeOfPath = new ObjectIntMap<>();
+
+    /**
+     * The loaded variants, ordered from the least to the most recently played.
+     */
+    private final Array<String> residentPaths = new Array<>();
+    private final Array<String> pendingPaths = new Array<>();
+    private long residentBytes;
+
+    public SoundBank(AssetManager assetManager, long memoryBudget, int residentVariants) {
+        this.assetManager = assetManager;
+        this.memoryBudget = memoryBudget;
+        this.residentVariants = residentVariants;
+    }
+
+    /**
+     * Queues a few random variants of each group into the asset manager. Once loaded, at least
+     * {@code residentVariants} variants of each group are kept in memory, though not necessarily
+     * these ones, because the least recently played variants are replaced over time.
+     */
+    public void loadResident(VoiceGroup... groups) {
+        for (VoiceGroup group : groups) {
+            for (int i = 0; i < group.size(); ++i) {
+                groupOfPath.put(group.getPath(i), group);
+            }
+            for (int i = 0; i < Math.min(residentVariants, group.size()); ++i) {
+                requestVariant(group);
+            }
+        }
+    }
+
+    /**
+     * Returns a random loaded variant of the group and requests to load another one.
+     */
+    public Sound random(VoiceGroup group) {
+        int loaded = 0;
+        for (int i = 0; i < group.size(); ++i) {
+            if (isResident(group.getPath(i))) {
+                loaded++;
+            }
+        }
+
+        requestVariant(group);
+
+        if (loaded == 0) {
+            return SilentSound.INSTANCE;
+        }
+
+        int selected = MathUtils.random(loaded - 1);
+        for (int i = 0; i < group.size(); ++i) {
+            String path = group.getPath(i);
+            if (isResident(path) && selected-- == 0) {
+                touch(path);
+                return assetManager.get(path, Sound.class);
+            }
+        }
+        return SilentSound.INSTANCE;
+    }
+
+    /**
+     * Finishes the background loading and unloads the least recently played variants, in case
+     * the memory budget is exceeded. This should be called once per frame.
+     */
+    public void update() {
+        if (pendingPaths.size == 0) {
+            return;
+        }
+
+        assetManager.update();
+
+        for (int i = pendingPaths.size - 1; i >= 0; --i) {
+            String path = pendingPaths.get(i);
+            if (assetManager.isLoaded(path, Sound.class)) {
+                pendingPaths.removeIndex(i);
+                residentPaths.add(path);
+                residentBytes += sizeOf(path);
+            }
+        }
+
+        evict();
+    }
+
+    public long getResidentBytes() {
+        return residentBytes;
+    }
+
+    private void requestVariant(VoiceGroup group) {
+        int available = 0;
+        for (int i = 0; i < group.size(); ++i) {
+            if (isAvailable(group.getPath(i))) {
+                available++;
+            }
+        }
+        if (available == 0) {
+            return;
+        }
+
+        int selected = MathUtils.random(available - 1);
+        for (int i = 0; i < group.size(); ++i) {
+            String path = group.getPath(i);
+            if (isAvailable(path) && selected-- == 0) {
+                assetManager.load(path, Sound.class);
+                pendingPaths.add(path);
+                return;
+            }
+        }
+    }
+
+    private void evict() {
+        for (int i = 0; i < residentPaths.size && residentBytes > memoryBudget; ) {
+            String path = residentPaths.get(i);
+            if (countResident(groupOfPath.get(path)) <= residentVariants) {
+                ++i;
+                continue;
+            }
+
+            LOG.debug("Unload: " + path);
+            residentPaths.removeIndex(i);
+            residentBytes -= sizeOf(path);
+            assetManager.unload(path);
+        }
+    }
+
+    private int countResident(VoiceGroup group) {
+        int count = 0;
+        for (int i = 0; i < group.size(); ++i) {
+            if (isResident(group.getPath(i))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void touch(String path) {
+        int index = residentPaths.indexOf(path, false);
+        if (index >= 0 && index < residentPaths.size - 1) {
+            residentPaths.removeIndex(index);
+            residentPaths.add(path);
+        }
+    }
+
+    private boolean isResident(String path) {
+        return residentPaths.contains(path, false);
+    }
+
+    private boolean isAvailable(String path) {
+        return !isResident(path) && !pendingPaths.contains(path, false);
+    }
+
+    private int sizeOf(String path) {
+        int size = sizeOfPath.get(path, -1);
+        if (size < 0) {
+            long length = Gdx.files.internal(path).length();
+            size = length > 0 ? (int) length : UNKNOWN_SIZE_ESTIMATE;
+            sizeOfPath.put(path, size);
+        }
+        return size;
+    }
+}
@@ -0,0 +1,27 @@
+package de.bsautermeister.jump.audio;
+
+/**
+ * A group of interchangeable voice lines, of which a random variant is played.
+ */
+public class VoiceGroup {
+    private final String[] paths;
+
+    /**
+     * @param pathTemplate the file path, where '*' is replaced by the two-digit variant number
+     * @param count the number of variants, which are numbered from 1
+     */
+    public VoiceGroup(String pathTemplate, int count) {
+        paths = new String[count];
+        for (int i = 0; i < count; ++i) {
+            paths[i] = pathTemplate.replace("*", String.format("%02d", i + 1));
+        }
+    }
+
+    public int size() {
+        return paths.length;
+    }
+
+    public String getPath(int index) {
+        return paths[index];
+    }
+}
@@ -5,31 +5,44 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
+import de.bsautermeister.jump.Cfg;
+import de.bsautermeister.jump.audio.MusicCache;
 import de.bsautermeister.jump.audio.MusicPlayer;
+import de.bsautermeister.jump.audio.SoundBank;
 import de.bsautermeister.jump.screens.ScreenBase;
+import de.bsautermeister.jump.screens.game.level.LevelPreloader;
 import de.bsautermeister.jump.screens.transition.ScreenTransition;
 
 public abstract class GameApp implements ApplicationListener {
     private AssetManager assetManager;
+    private SoundBank soundBank;
     private SpriteBatch batch;
 
     private TransitionContext transitionContext;
 
+    private MusicCache musicCache;
     private MusicPlayer backgroundMusic;
     private MusicPlayer foregroundMusic;
 
     private FrameBufferManager frameBufferManager;
 
+    private LevelPreloader levelPreloader;
+
     @Override
     public void create() {
         assetManager = new AssetManager();
+        soundBank = new SoundBank(assetManager,
+                Cfg.SOUND_BANK_MEMORY_BUDGET, Cfg.SOUND_BANK_RESIDENT_VARIANTS);
         batch = new SpriteBatch();
         frameBufferManager = new FrameBufferManager();
 
         transitionContext = new TransitionContext(batch, frameBufferManager);
 
-        backgroundMusic = new MusicPlayer();
-        foregroundMusic = new MusicPlayer();
+        musicCache = new MusicCache();
+        backgroundMusic = new MusicPlayer(musicCache);
+        foregroundMusic = new MusicPlayer(musicCache);
+
+        levelPreloader = new LevelPreloader();
     }
 
     public void setScreen(ScreenBase screen) {
@@ -50,6 +63,7 @@ public abstract class GameApp implements ApplicationListener {
         transitionContext.render(delta);
         backgroundMusic.update(delta);
         foregroundMusic.update(delta);
+        soundBank.update();
     }
 
     @Override
@@ -82,12 +96,18 @@ public abstract class GameApp implements ApplicationListener {
         batch.dispose();
         backgroundMusic.dispose();
         foregroundMusic.dispose();
+        musicCache.dispose();
+        levelPreloader.dispose();
     }
 
     public AssetManager getAssetManager() {
         return assetManager;
     }
 
+    public SoundBank getSoundBank() {
+        return soundBank;
+    }
+
     public SpriteBatch getBatch() {
         return batch;
     }
@@ -103,4 +123,8 @@ public abstract class GameApp implements ApplicationListener {
     public FrameBufferManager getFrameBufferManager() {
         return frameBufferManager;
     }
+
+    public LevelPreloader getLevelPreloader() {
+        return levelPreloader;
+    }
 }
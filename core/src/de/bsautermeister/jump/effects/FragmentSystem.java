@@ -0,0 +1,221 @@
+package de.bsautermeister.jump.effects;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import de.bsautermeister.jump.Cfg;
+import de.bsautermeister.jump.assets.AtlasCache;
+import de.bsautermeister.jump.serializer.BinarySerializable;
+import de.bsautermeister.jump.serializer.SerializerUtils;
+
+/**
+ * The fragments of all shattered tile objects of a level. The state of the fragments is stored in
+ * primitive arrays, where the live fragments are always kept at the front, so that updating and
+ * drawing them only iterates over the live ones, and nothing is done at all while there are none.
+ */
+public class FragmentSystem implements BinarySerializable {
+    private static final int INITIAL_CAPACITY = 32;
+
+    /**
+     * The number of fragments, and thereby the number of regions of each template.
+     */
+    private static final int FRAGMENTS_PER_EMIT = 4;
+
+    private static final float SIZE = 8f / Cfg.PPM;
+    private static final float HALF_SIZE = SIZE / 2f;
+
+    private final String[] templateRegionNames;
+    /**
+     * The regions of all templates, which are referenced by the fragments by their index.
+     */
+    private final TextureRegion[] regions;
+
+    private int count;
+    private float[] x;
+    private float[] y;
+    private float[] velocityX;
+    private float[] velocityY;
+    private float[] rotation;
+    private float[] rotationSpeed;
+    private int[] regionIndex;
+
+    public FragmentSystem(TextureAtlas atlas, String... templateRegionNames) {
+        this.templateRegionNames = templateRegionNames;
+        regions = new TextureRegion[templateRegionNames.length * FRAGMENTS_PER_EMIT];
+        AtlasCache cache = AtlasCache.of(atlas);
+        for (int i = 0; i < templateRegionNames.length; ++i) {
+            TextureRegion[] templateRegions = cache.getTemplateRegions(
+                    templateRegionNames[i], FRAGMENTS_PER_EMIT);
+            System.arraycopy(templateRegions, 0, regions, i * FRAGMENTS_PER_EMIT,
+                    FRAGMENTS_PER_EMIT);
+        }
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Emits the fragments of the given template, one at the center of each quarter of the bounds.
+     */
+    public void emit(Rectangle sourceBounds, String templateRegionName) {
+        int firstRegionIndex = getTemplateIndex(templateRegionName) * FRAGMENTS_PER_EMIT;
+        float left = sourceBounds.x + sourceBounds.width / 4f;
+        float right = sourceBounds.x + sourceBounds.width * 3f / 4f;
+        float top = sourceBounds.y + sourceBounds.height * 3f / 4f;
+        float bottom = sourceBounds.y + sourceBounds.height / 4f;
+        add(firstRegionIndex, left, top,
+                -MathUtils.random(0.75f, 1.25f), MathUtils.random(2.0f, 3.5f), MathUtils.random(150f, 210f));
+        add(firstRegionIndex + 1, right, top,
+                MathUtils.random(0.75f, 1.25f), MathUtils.random(2.0f, 3.5f), -MathUtils.random(150f, 210f));
+        add(firstRegionIndex + 2, left, bottom,
+                -MathUtils.random(0.75f, 1.25f), MathUtils.random(1.0f, 2.0f), MathUtils.random(150f, 210f));
+        add(firstRegionIndex + 3, right, bottom,
+                MathUtils.random(0.75f, 1.25f), MathUtils.random(1.0f, 2.0f), -MathUtils.random(150f, 210f));
+    }
+
+    private int getTemplateIndex(String templateRegionName) {
+        for (int i = 0; i < templateRegionNames.length; ++i) {
+            if (templateRegionNames[i].equals(templateRegionName)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown fragment template: " + templateRegionName);
+    }
+
+    private void add(int region, float centerX, float centerY, float vx, float vy, float speed) {
+        if (count == x.length) {
+            resize(count * 2);
+        }
+        x[count] = centerX - HALF_SIZE;
+        y[count] = centerY - HALF_SIZE;
+        velocityX[count] = vx;
+        velocityY[count] = vy;
+        rotation[count] = 0f;
+        rotationSpeed[count] = speed;
+        regionIndex[count] = region;
+        count++;
+    }
+
+    public void update(float delta) {
+        int i = 0;
+        while (i < count) {
+            velocityX[i] *= 0.99f;
+            velocityY[i] -= 0.2f;
+            x[i] += velocityX[i] * delta;
+            y[i] += velocityY[i] * delta;
+            rotation[i] += rotationSpeed[i] * delta;
+
+            if (y[i] < -SIZE) {
+                // fragments are out of the screen, so the order of the remaining ones does not matter
+                remove(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private void remove(int index) {
+        int last = --count;
+        x[index] = x[last];
+        y[index] = y[last];
+        velocityX[index] = velocityX[last];
+        velocityY[index] = velocityY[last];
+        rotation[index] = rotation[last];
+        rotationSpeed[index] = rotationSpeed[last];
+        regionIndex[index] = regionIndex[last];
+    }
+
+    public void draw(Batch batch) {
+        for (int i = 0; i < count; ++i) {
+            batch.draw(regions[regionIndex[i]], x[i], y[i], HALF_SIZE, HALF_SIZE, SIZE, SIZE,
+                    1f, 1f, rotation[i]);
+        }
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    private void allocate(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        velocityX = new float[capacity];
+        velocityY = new float[capacity];
+        rotation = new float[capacity];
+        rotationSpeed = new float[capacity];
+        regionIndex = new int[capacity];
+    }
+
+    private void resize(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        rotation = Arrays.copyOf(rotation, capacity);
+        rotationSpeed = Arrays.copyOf(rotationSpeed, capacity);
+        regionIndex = Arrays.copyOf(regionIndex, capacity);
+    }
+
+    @Override
+    public void write(DataOutputStream out) throws IOException {
+        SerializerUtils.writeVarInt(out, count);
+        for (int i = 0; i < count; ++i) {
+            SerializerUtils.writeVarInt(out, regionIndex[i]);
+            out.writeFloat(x[i]);
+            out.writeFloat(y[i]);
+            out.writeFloat(velocityX[i]);
+            out.writeFloat(velocityY[i]);
+            out.writeFloat(rotation[i]);
+            out.writeFloat(rotationSpeed[i]);
+        }
+    }
+
+    @Override
+    public void read(DataInputStream in) throws IOException {
+        int numFragments = SerializerUtils.readVarInt(in);
+        if (numFragments > x.length) {
+            allocate(MathUtils.nextPowerOfTwo(numFragments));
+        }
+        for (int i = 0; i < numFragments; ++i) {
+            int region = SerializerUtils.readVarInt(in);
+            if (region >= regions.length) {
+                throw new IOException("Invalid fragment region: " + region);
+            }
+            regionIndex[i] = region;
+            x[i] = in.readFloat();
+            y[i] = in.readFloat();
+            velocityX[i] = in.readFloat();
+            velocityY[i] = in.readFloat();
+            rotation[i] = in.readFloat();
+            rotationSpeed[i] = in.readFloat();
+        }
+        count = numFragments;
+    }
+
+    /**
+     * Skips the fragments that have been stored with each brick and item box in older saves.
+     * These are dropped, because they are only flying around for a moment anyway.
+     */
+    public static void skipLegacyFragments(DataInputStream in) throws IOException {
+        int numFragments = in.readInt();
+        for (int i = 0; i < numFragments; ++i) {
+            // position, velocity, alive flag and rotation speed
+            in.readFloat();
+            in.readFloat();
+            in.readFloat();
+            in.readFloat();
+            in.readBoolean();
+            in.readFloat();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package de.bsautermeister.jump.effects;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.ParticleEffectPool;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import de.bsautermeister.jump.assets.PerAtlas;
+
+/**
+ * Loads each particle effect file only once per atlas, and shares a pool of its instances between
+ * all users of the effect. The effects have to be freed to their pool when they are not used
+ * anymore, so that the pooled instances can be reused. The pools themselves are not synchronized,
+ * so the effects of an atlas must only be used by a single thread.
+ * <p>
+ * The game uses the single gameplay atlas of the asset manager, so each effect is loaded only once
+ * for the whole lifetime of the app, and not again for every level.
+ */
+public final class ParticleEffectRegistry {
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int MAX_FREE_EFFECTS = 16;
+
+    private static final PerAtlas<ParticleEffectRegistry> REGISTRIES = new PerAtlas<>(
+            new PerAtlas.Factory<ParticleEffectRegistry>() {
+                @Override
+                public ParticleEffectRegistry create(PerAtlas.AtlasReference atlas) {
+                    return new ParticleEffectRegistry(atlas);
+                }
+            });
+
+    /**
+     * The loaded effects only reference the regions and textures, but not the atlas itself.
+     */
+    private final PerAtlas.AtlasReference atlas;
+    private final ObjectMap<String, CountingEffectPool> pools = new ObjectMap<>();
+
+    private ParticleEffectRegistry(PerAtlas.AtlasReference atlas) {
+        this.atlas = atlas;
+    }
+
+    public static ParticleEffectRegistry of(TextureAtlas atlas) {
+        return REGISTRIES.get(atlas);
+    }
+
+    /**
+     * Returns the pool of the effect, which is loaded from the file and scaled on first use.
+     */
+    public synchronized ParticleEffectPool getPool(String effectPath, float scaleFactor) {
+        String key = effectPath + "@" + scaleFactor;
+        CountingEffectPool pool = pools.get(key);
+        if (pool == null) {
+            ParticleEffect prototype = new ParticleEffect();
+            prototype.load(Gdx.files.internal(effectPath), atlas.get());
+            prototype.scaleEffect(scaleFactor);
+            pool = new CountingEffectPool(prototype);
+            pools.put(key, pool);
+        }
+        return pool;
+    }
+
+    /**
+     * Returns the number of effects of all pools, which are currently in use.
+     */
+    public synchronized int getActiveCount() {
+        int count = 0;
+        for (CountingEffectPool pool : pools.values()) {
+            count += pool.active;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sum of the highest number of effects of each pool, which were in use at the
+     * same time.
+     */
+    public synchronized int getPeakCount() {
+        int count = 0;
+        for (CountingEffectPool pool : pools.values()) {
+            count += pool.peakActive;
+        }
+        return count;
+    }
+
+    private static class CountingEffectPool extends ParticleEffectPool {
+        private int active;
+        private int peakActive;
+
+        CountingEffectPool(ParticleEffect prototype) {
+            super(prototype, INITIAL_CAPACITY, MAX_FREE_EFFECTS);
+        }
+
+        @Override
+        public PooledEffect obtain() {
+            active++;
+            peakActive = Math.max(peakActive, active);
+            return super.obtain();
+        }
+
+        @Override
+        public void free(PooledEffect effect) {
+            active--;
+            super.free(effect);
+        }
+    }
+}
@@ -1,8 +1,6 @@
 package de.bsautermeister.jump.effects;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.g2d.ParticleEffect;
 import com.badlogic.gdx.graphics.g2d.ParticleEffectPool;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.utils.Array;
@@ -13,10 +11,7 @@ public class SimplePooledEffect {
     private final Array<ParticleEffectPool.PooledEffect> activeEffects = new Array<>(16);
 
     public SimplePooledEffect(String effectPath , TextureAtlas atlas, float scaleFactor) {
-        ParticleEffect effect = new ParticleEffect();
-        effect.load(Gdx.files.internal(effectPath), atlas);
-        effect.scaleEffect(scaleFactor);
-        effectPool = new ParticleEffectPool(effect, 8, 16);
+        effectPool = ParticleEffectRegistry.of(atlas).getPool(effectPath, scaleFactor);
     }
 
     public void update(float delta) {
@@ -43,6 +38,16 @@ public class SimplePooledEffect {
         activeEffects.add(effect);
     }
 
+    /**
+     * Stops all active effects immediately.
+     */
+    public void reset() {
+        for (ParticleEffectPool.PooledEffect effect : activeEffects) {
+            effect.free();
+        }
+        activeEffects.clear();
+    }
+
     public Array<ParticleEffectPool.PooledEffect> getActiveEffects() {
         return activeEffects;
     }
@@ -0,0 +1,134 @@
+package de.bsautermeister.jump.input;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import de.bsautermeister.jump.serializer.BinarySerializable;
+
+/**
+ * Player input of a level run, stored per simulation tick as run-length-encoded bit masks. Since
+ * the simulation runs with a fixed time step, replaying the tape reproduces the same run.
+ */
+public class InputTape implements BinarySerializable {
+    public static final int UP = 1;
+    public static final int DOWN = 1 << 1;
+    public static final int LEFT = 1 << 2;
+    public static final int RIGHT = 1 << 3;
+    public static final int FIRE = 1 << 4;
+
+    private int level;
+
+    /**
+     * Pairs of input mask and the number of ticks the mask is held.
+     */
+    private final IntArray runs = new IntArray();
+    private int length;
+
+    private int cursorRun;
+    private int cursorStartTick;
+
+    public InputTape() { }
+
+    public InputTape(int level) {
+        this.level = level;
+    }
+
+    public static int mask(boolean up, boolean down, boolean left, boolean right, boolean fire) {
+        int mask = 0;
+        if (up) mask |= UP;
+        if (down) mask |= DOWN;
+        if (left) mask |= LEFT;
+        if (right) mask |= RIGHT;
+        if (fire) mask |= FIRE;
+        return mask;
+    }
+
+    public static boolean isSet(int mask, int button) {
+        return (mask & button) != 0;
+    }
+
+    /**
+     * Records the input of the given tick. Ticks without any recorded input are stored as no input.
+     */
+    public void record(int tick, int mask) {
+        if (tick < length) {
+            throw new IllegalArgumentException("Tick " + tick + " has already been recorded");
+        }
+        if (tick > length) {
+            append(0, tick - length);
+        }
+        append(mask, 1);
+    }
+
+    private void append(int mask, int ticks) {
+        int size = runs.size;
+        if (size > 0 && runs.get(size - 2) == mask) {
+            runs.incr(size - 1, ticks);
+        } else {
+            runs.add(mask, ticks);
+        }
+        length += ticks;
+    }
+
+    /**
+     * Gets the input of the given tick, or no input if the tick is beyond the end of the tape.
+     * Looking up the ticks in ascending order is amortized constant time.
+     */
+    public int get(int tick) {
+        if (tick < 0 || tick >= length) {
+            return 0;
+        }
+        if (tick < cursorStartTick) {
+            cursorRun = 0;
+            cursorStartTick = 0;
+        }
+        while (tick >= cursorStartTick + runs.get(cursorRun + 1)) {
+            cursorStartTick += runs.get(cursorRun + 1);
+            cursorRun += 2;
+        }
+        return runs.get(cursorRun);
+    }
+
+    public void clear() {
+        runs.clear();
+        length = 0;
+        cursorRun = 0;
+        cursorStartTick = 0;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * The number of recorded ticks.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    @Override
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(level);
+        out.writeInt(runs.size / 2);
+        for (int i = 0; i < runs.size; i += 2) {
+            out.writeByte(runs.get(i));
+            out.writeInt(runs.get(i + 1));
+        }
+    }
+
+    @Override
+    public void read(DataInputStream in) throws IOException {
+        clear();
+        level = in.readInt();
+        int numRuns = in.readInt();
+        for (int i = 0; i < numRuns; ++i) {
+            int mask = in.readByte();
+            int ticks = in.readInt();
+            append(mask, ticks);
+        }
+    }
+}
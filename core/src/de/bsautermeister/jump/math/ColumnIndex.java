@@ -0,0 +1,78 @@
+package de.bsautermeister.jump.math;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Spatial index that buckets objects into fixed-width columns along the x-axis of the level. Each
+ * object is stored in the column of its left edge, so that a query only has to look at the columns
+ * within the queried range, extended by the widest object to the left.
+ */
+public class ColumnIndex<T> {
+    private final float columnWidth;
+    private final Array<Array<T>> columns = new Array<>();
+    private float maxObjectWidth;
+    private int size;
+
+    public ColumnIndex(float columnWidth) {
+        this.columnWidth = columnWidth;
+    }
+
+    public void add(T object, Rectangle bounds) {
+        int column = toColumn(bounds.x);
+        while (columns.size <= column) {
+            columns.add(new Array<T>(false, 8));
+        }
+        columns.get(column).add(object);
+        maxObjectWidth = Math.max(maxObjectWidth, bounds.width);
+        size++;
+    }
+
+    /**
+     * Removes the object, where the bounds should be the ones it has been added with. In case the
+     * object has moved in between, all columns are searched.
+     */
+    public boolean remove(T object, Rectangle bounds) {
+        int column = toColumn(bounds.x);
+        if (column < columns.size && columns.get(column).removeValue(object, true)) {
+            size--;
+            return true;
+        }
+        for (int i = 0; i < columns.size; ++i) {
+            if (columns.get(i).removeValue(object, true)) {
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds all objects to the result that are located in the columns overlapping the range. The
+     * objects still have to be checked whether they actually overlap the range.
+     */
+    public Array<T> query(float minX, float maxX, Array<T> result) {
+        int firstColumn = toColumn(minX - maxObjectWidth);
+        int lastColumn = Math.min(toColumn(maxX), columns.size - 1);
+        for (int i = firstColumn; i <= lastColumn; ++i) {
+            result.addAll(columns.get(i));
+        }
+        return result;
+    }
+
+    public void clear() {
+        for (int i = 0; i < columns.size; ++i) {
+            columns.get(i).clear();
+        }
+        maxObjectWidth = 0f;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int toColumn(float x) {
+        return Math.max(0, (int) (x / columnWidth));
+    }
+}
@@ -0,0 +1,19 @@
+package de.bsautermeister.jump.physics;
+
+/**
+ * Receives the contacts of tagged sensor fixtures, so that the contact listener does not need to
+ * know the concrete type of the object that owns the sensor.
+ */
+public interface SensorContactHandler {
+    /**
+     * @param sensorTag the tag of the sensor fixture
+     * @param otherCategoryBits the category bits of the fixture the sensor started touching
+     */
+    void beginSensorContact(String sensorTag, short otherCategoryBits);
+
+    /**
+     * @param sensorTag the tag of the sensor fixture
+     * @param otherCategoryBits the category bits of the fixture the sensor stopped touching
+     */
+    void endSensorContact(String sensorTag, short otherCategoryBits);
+}
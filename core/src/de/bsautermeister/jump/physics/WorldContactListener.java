@@ -6,263 +6,328 @@ import com.badlogic.gdx.physics.box2d.ContactImpulse;
 import com.badlogic.gdx.physics.box2d.ContactListener;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.Manifold;
-import com.badlogic.gdx.utils.Logger;
+import com.badlogic.gdx.physics.box2d.WorldManifold;
 
-import de.bsautermeister.jump.Cfg;
 import de.bsautermeister.jump.sprites.CollectableItem;
-import de.bsautermeister.jump.sprites.enemies.DrunkenGuy;
 import de.bsautermeister.jump.sprites.enemies.Enemy;
-import de.bsautermeister.jump.sprites.enemies.Fox;
-import de.bsautermeister.jump.sprites.enemies.Frog;
-import de.bsautermeister.jump.sprites.enemies.Hedgehog;
 import de.bsautermeister.jump.sprites.InteractiveTileObject;
 import de.bsautermeister.jump.sprites.Item;
 import de.bsautermeister.jump.sprites.Platform;
 import de.bsautermeister.jump.sprites.Player;
 import de.bsautermeister.jump.sprites.PretzelBullet;
-import de.bsautermeister.jump.sprites.enemies.Raven;
 
+/**
+ * Dispatches the Box2D contacts using handler tables that are indexed by the category pair of the
+ * two fixtures, which are built once instead of resolving the pair on every contact.
+ */
 public class WorldContactListener implements ContactListener {
-    
-    @Override
-    public void beginContact(Contact contact) {
-        Fixture fixtureA = contact.getFixtureA();
-        Fixture fixtureB = contact.getFixtureB();
-
-        int collisionDef = fixtureA.getFilterData().categoryBits | fixtureB.getFilterData().categoryBits;
-
-        Player player;
-        Enemy enemy;
-        PretzelBullet bullet;
-        TaggedUserData<Item> taggedItem;
-        InteractiveTileObject tileObject;
-        TaggedUserData<Enemy> taggedEnemy;
-        TaggedUserData<CollectableItem> taggedCollectableItem;
-        switch (collisionDef) {
-            case Bits.PLAYER_HEAD | Bits.BRICK:
-            case Bits.PLAYER_HEAD | Bits.ITEM_BOX:
-                player = (Player) resolveUserData(fixtureA, fixtureB, Bits.PLAYER_HEAD);
-                tileObject = (InteractiveTileObject) resolveUserData(fixtureA, fixtureB, Bits.ITEM_BOX | Bits.BRICK);
+
+    private final ContactHandlerTable beginHandlers = new ContactHandlerTable();
+    private final ContactHandlerTable endHandlers = new ContactHandlerTable();
+    private final ContactHandlerTable preSolveHandlers = new ContactHandlerTable();
+
+    private final Vector2 angleVector = new Vector2();
+    private final Vector2 contactPositon = new Vector2();
+
+    public WorldContactListener() {
+        registerBeginHandlers();
+        registerEndHandlers();
+        registerPreSolveHandlers();
+    }
+
+    private void registerBeginHandlers() {
+        ContactHandler headHitTileObject = new ContactHandler() {
+            @Override
+            public void handle(Contact contact, Fixture playerHead, Fixture tileObjectFixture) {
+                Player player = (Player) playerHead.getUserData();
+                InteractiveTileObject tileObject = (InteractiveTileObject) tileObjectFixture.getUserData();
                 tileObject.onHeadHit(player);
                 player.onHeadHit();
-                break;
-            case Bits.PLAYER_HEAD | Bits.GROUND:
-                player = (Player) resolveUserData(fixtureA, fixtureB, Bits.PLAYER_HEAD);
-                player.onHeadHit();
-                break;
-            case Bits.ENEMY_HEAD | Bits.PLAYER_FEET:
-                player = (Player) resolveUserData(fixtureA, fixtureB, Bits.PLAYER_FEET);
-                enemy = (Enemy) resolveUserData(fixtureA, fixtureB, Bits.ENEMY_HEAD);
+            }
+        };
+        beginHandlers.register(Bits.PLAYER_HEAD, Bits.BRICK, headHitTileObject);
+        beginHandlers.register(Bits.PLAYER_HEAD, Bits.ITEM_BOX, headHitTileObject);
+
+        beginHandlers.register(Bits.PLAYER_HEAD, Bits.GROUND, new ContactHandler() {
+            @Override
+            public void handle(Contact contact, Fixture playerHead, Fixture ground) {
+                ((Player) playerHead.getUserData()).onHeadHit();
+            }
+        });
+
+        beginHandlers.register(Bits.PLAYER_FEET, Bits.ENEMY_HEAD, new ContactHandler() {
+            @Override
+            public void handle(Contact contact, Fixture playerFeet, Fixture enemyHead) {
+                Player player = (Player) playerFeet.getUserData();
+                Enemy enemy = (Enemy) enemyHead.getUserData();
                 if (player.getBody().getLinearVelocity().y < 1 && !player.isDrowning()) {
                     enemy.onHeadHit(player);
                     player.pumpUp();
                 }
-                break;
-            case Bits.ENEMY_SIDE | Bits.COLLIDER:
-                taggedEnemy = (TaggedUserData<Enemy>) resolveUserData(fixtureA, fixtureB, Bits.ENEMY_SIDE);
-                if (taggedEnemy.getUserData() instanceof Fox) {
-                    ((Fox) taggedEnemy.getUserData()).beginContactSensor(taggedEnemy.getTag(), true);
-                } else if (taggedEnemy.getUserData() instanceof Hedgehog) {
-                    ((Hedgehog) taggedEnemy.getUserData()).beginContactColliderSensor(taggedEnemy.getTag());
-                }
-                break;
-            case Bits.ENEMY_SIDE | Bits.GROUND:
-            case Bits.ENEMY_SIDE | Bits.PLATFORM:
-            case Bits.ENEMY_SIDE | Bits.BRICK:
-            case Bits.ENEMY_SIDE | Bits.ITEM_BOX:
-            case Bits.ENEMY_SIDE | Bits.ENEMY:
-                taggedEnemy = (TaggedUserData<Enemy>) resolveUserData(fixtureA, fixtureB, Bits.ENEMY_SIDE);
-                if (taggedEnemy.getUserData() instanceof Fox) {
-                    ((Fox) taggedEnemy.getUserData()).beginContactSensor(taggedEnemy.getTag(), false);
-                } else if (taggedEnemy.getUserData() instanceof Hedgehog) {
-                    ((Hedgehog) taggedEnemy.getUserData()).beginContactWallSensor(taggedEnemy.getTag());
-                } else if (taggedEnemy.getUserData() instanceof Frog) {
-                    ((Frog) taggedEnemy.getUserData()).beginContactSensor(taggedEnemy.getTag());
-                } else if (taggedEnemy.getUserData() instanceof Raven) {
-                    ((Raven) taggedEnemy.getUserData()).touchGround();
-                }
-                break;
-            case Bits.PLAYER | Bits.ENEMY:
-                player = (Player) resolveUserData(fixtureA, fixtureB, Bits.PLAYER);
-                enemy = (Enemy) resolveUserData(fixtureA, fixtureB, Bits.ENEMY);
-                player.hit(enemy);
-                break;
-            case Bits.ITEM | Bits.PLAYER:
-                taggedCollectableItem = (TaggedUserData<CollectableItem>) resolveUserData(fixtureA, fixtureB, Bits.ITEM);
-                player = (Player) resolveUserData(fixtureA, fixtureB, Bits.PLAYER);
-                taggedCollectableItem.getUserData().collectBy(player);
-                break;
-            case Bits.PLAYER_GROUND | Bits.GROUND:
-            case Bits.PLAYER_GROUND | Bits.PLATFORM:
-            case Bits.PLAYER_GROUND | Bits.ITEM_BOX:
-            case Bits.PLAYER_GROUND | Bits.BRICK:
-                player = (Player) resolveUserData(fixtureA, fixtureB, Bits.PLAYER_GROUND);
-                Object other = resolveUserData(fixtureA, fixtureB, ~Bits.PLAYER_GROUND);
-                player.touchGround(other);
-                break;
-            case Bits.BLOCK_TOP | Bits.ENEMY:
-                enemy = (Enemy) resolveUserData(fixtureA, fixtureB, Bits.ENEMY);
-                tileObject = (InteractiveTileObject) resolveUserData(fixtureA, fixtureB, Bits.BLOCK_TOP);
-                tileObject.steppedOn(enemy.getId());
-                break;
-            case Bits.BLOCK_TOP | Bits.ITEM:
-                taggedItem = (TaggedUserData<Item>) resolveUserData(fixtureA, fixtureB, Bits.ITEM);
-                tileObject = (InteractiveTileObject) resolveUserData(fixtureA, fixtureB, Bits.BLOCK_TOP);
+            }
+        });
+
+        beginHandlers.register(Bits.PLAYER, Bits.ENEMY, new ContactHandler() {
+            @Override
+            public void handle(Contact contact, Fixture playerFixture, Fixture enemyFixture) {
+                ((Player) playerFixture.getUserData()).hit((Enemy) enemyFixture.getUserData());
+            }
+        });
+
+        beginHandlers.register(Bits.ITEM, Bits.PLAYER, new ContactHandler() {
+            @Override
+            public void handle(Contact contact, Fixture item, Fixture playerFixture) {
+                TaggedUserData<CollectableItem> taggedCollectableItem =
+                        (TaggedUserData<CollectableItem>) item.getUserData();
+                taggedCollectableItem.getUserData().collectBy((Player) playerFixture.getUserData());
+            }
+        });
+
+        ContactHandler touchGround = new ContactHandler() {
+            @Override
+            public void handle(Contact contact, Fixture playerGround, Fixture ground) {
+                ((Player) playerGround.getUserData()).touchGround(ground.getUserData());
+            }
+        };
+        beginHandlers.register(Bits.PLAYER_GROUND, Bits.GROUND, touchGround);
+        beginHandlers.register(Bits.PLAYER_GROUND, Bits.PLATFORM, touchGround);
+        beginHandlers.register(Bits.PLAYER_GROUND, Bits.ITEM_BOX, touchGround);
+        beginHandlers.register(Bits.PLAYER_GROUND, Bits.BRICK, touchGround);
+
+        beginHandlers.register(Bits.BLOCK_TOP, Bits.ENEMY, new ContactHandler() {
+            @Override
+            public void handle(Contact contact, Fixture blockTop, Fixture enemyFixture) {
+                InteractiveTileObject tileObject = (InteractiveTileObject) blockTop.getUserData();
+                tileObject.steppedOn(((Enemy) enemyFixture.getUserData()).getId());
+            }
+        });
+        beginHandlers.register(Bits.BLOCK_TOP, Bits.ITEM, new ContactHandler() {
+            @Override
+            public void handle(Contact contact, Fixture blockTop, Fixture itemFixture) {
+                InteractiveTileObject tileObject = (InteractiveTileObject) blockTop.getUserData();
+                TaggedUserData<Item> taggedItem = (TaggedUserData<Item>) itemFixture.getUserData();
                 tileObject.steppedOn(taggedItem.getUserData().getId());
-                break;
-            case Bits.PLAYER | Bits.ENEMY_SIDE:
-                taggedEnemy = (TaggedUserData<Enemy>) resolveUserData(fixtureA, fixtureB, Bits.ENEMY_SIDE);
-                if (taggedEnemy.getUserData() instanceof DrunkenGuy) {
-                    DrunkenGuy drunkenGuy = (DrunkenGuy) taggedEnemy.getUserData();
-                    drunkenGuy.setBlocked(true);
-                }
-                break;
-            case Bits.BULLET | Bits.GROUND:
-            case Bits.BULLET | Bits.PLATFORM:
-            case Bits.BULLET | Bits.BRICK:
-            case Bits.BULLET | Bits.ITEM_BOX:
-                bullet = (PretzelBullet) resolveUserData(fixtureA, fixtureB, Bits.BULLET);
-                Vector2 contactPos = getAvgContactPosition(contact);
+            }
+        });
+
+        registerSensorHandlers(beginHandlers, true, Bits.COLLIDER, Bits.GROUND, Bits.PLATFORM,
+                Bits.BRICK, Bits.ITEM_BOX, Bits.ENEMY, Bits.PLAYER);
+
+        ContactHandler bulletHitWall = new ContactHandler() {
+            @Override
+            public void handle(Contact contact, Fixture bulletFixture, Fixture wall) {
+                PretzelBullet bullet = (PretzelBullet) bulletFixture.getUserData();
+                Vector2 contactPos = getAvgContactPosition(contact.getWorldManifold());
                 angleVector.set(contactPos);
                 float angle = angleVector.sub(bullet.getBody().getPosition()).angle();
                 if (!(angle > 210 && angle < 330 || angle > 30 && angle < 150)) {
                     bullet.hitWall(contactPos);
                 }
-                break;
-        }
+            }
+        };
+        beginHandlers.register(Bits.BULLET, Bits.GROUND, bulletHitWall);
+        beginHandlers.register(Bits.BULLET, Bits.PLATFORM, bulletHitWall);
+        beginHandlers.register(Bits.BULLET, Bits.BRICK, bulletHitWall);
+        beginHandlers.register(Bits.BULLET, Bits.ITEM_BOX, bulletHitWall);
     }
 
-    private final Vector2 angleVector = new Vector2();
-    private final Vector2 contactPositon = new Vector2();
-    private Vector2 getAvgContactPosition(Contact contact) {
-        contactPositon.set(0, 0);
-        for (int i = 0; i < contact.getWorldManifold().getNumberOfContactPoints(); ++i) {
-            contactPositon.add(contact.getWorldManifold().getPoints()[i]);
-        }
-        return contactPositon.scl(1f / contact.getWorldManifold().getNumberOfContactPoints());
-    }
+    private void registerEndHandlers() {
+        ContactHandler leftGround = new ContactHandler() {
+            @Override
+            public void handle(Contact contact, Fixture playerGround, Fixture ground) {
+                ((Player) playerGround.getUserData()).leftGround(ground.getUserData());
+            }
+        };
+        endHandlers.register(Bits.PLAYER_GROUND, Bits.GROUND, leftGround);
+        endHandlers.register(Bits.PLAYER_GROUND, Bits.PLATFORM, leftGround);
+        endHandlers.register(Bits.PLAYER_GROUND, Bits.ITEM_BOX, leftGround);
+        endHandlers.register(Bits.PLAYER_GROUND, Bits.BRICK, leftGround);
 
-    @Override
-    public void endContact(Contact contact) {
-        Fixture fixtureA = contact.getFixtureA();
-        Fixture fixtureB = contact.getFixtureB();
-
-        int collisionDef = fixtureA.getFilterData().categoryBits | fixtureB.getFilterData().categoryBits;
-
-        Player player;
-        Enemy enemy;
-        TaggedUserData<Item> taggedItem;
-        InteractiveTileObject tileObject;
-        TaggedUserData<Enemy> taggedEnemy;
-        switch (collisionDef) {
-            case Bits.PLAYER_GROUND | Bits.GROUND:
-            case Bits.PLAYER_GROUND | Bits.PLATFORM:
-            case Bits.PLAYER_GROUND | Bits.ITEM_BOX:
-            case Bits.PLAYER_GROUND | Bits.BRICK:
-                player = (Player) resolveUserData(fixtureA, fixtureB, Bits.PLAYER_GROUND);
-                Object other = resolveUserData(fixtureA, fixtureB, ~Bits.PLAYER_GROUND);
-                player.leftGround(other);
-                break;
-            case Bits.BLOCK_TOP | Bits.ENEMY:
-                enemy = (Enemy) resolveUserData(fixtureA, fixtureB, Bits.ENEMY);
-                tileObject = (InteractiveTileObject) resolveUserData(fixtureA, fixtureB, Bits.BLOCK_TOP);
-                tileObject.steppedOff(enemy.getId());
-                break;
-            case Bits.BLOCK_TOP | Bits.ITEM:
-                taggedItem = (TaggedUserData<Item>) resolveUserData(fixtureA, fixtureB, Bits.ITEM);
-                tileObject = (InteractiveTileObject) resolveUserData(fixtureA, fixtureB, Bits.BLOCK_TOP);
+        endHandlers.register(Bits.BLOCK_TOP, Bits.ENEMY, new ContactHandler() {
+            @Override
+            public void handle(Contact contact, Fixture blockTop, Fixture enemyFixture) {
+                InteractiveTileObject tileObject = (InteractiveTileObject) blockTop.getUserData();
+                tileObject.steppedOff(((Enemy) enemyFixture.getUserData()).getId());
+            }
+        });
+        endHandlers.register(Bits.BLOCK_TOP, Bits.ITEM, new ContactHandler() {
+            @Override
+            public void handle(Contact contact, Fixture blockTop, Fixture itemFixture) {
+                InteractiveTileObject tileObject = (InteractiveTileObject) blockTop.getUserData();
+                TaggedUserData<Item> taggedItem = (TaggedUserData<Item>) itemFixture.getUserData();
                 tileObject.steppedOff(taggedItem.getUserData().getId());
-                break;
-            case Bits.PLAYER | Bits.ENEMY_SIDE:
-                taggedEnemy = (TaggedUserData<Enemy>) resolveUserData(fixtureA, fixtureB, Bits.ENEMY_SIDE);
-                if (taggedEnemy.getUserData() instanceof DrunkenGuy) {
-                    DrunkenGuy drunkenGuy = (DrunkenGuy) taggedEnemy.getUserData();
-                    drunkenGuy.setBlocked(false);
-                }
-
-            case Bits.ENEMY_SIDE | Bits.COLLIDER:
-                taggedEnemy = (TaggedUserData<Enemy>) resolveUserData(fixtureA, fixtureB, Bits.ENEMY_SIDE);
-                if (taggedEnemy.getUserData() instanceof Hedgehog) {
-                    ((Hedgehog) taggedEnemy.getUserData()).endContactColliderSensor(taggedEnemy.getTag());
-                }
-                if (taggedEnemy.getUserData() instanceof Fox) {
-                    ((Fox) taggedEnemy.getUserData()).endContactSensor(taggedEnemy.getTag());
-                }
-                if (taggedEnemy.getUserData() instanceof Frog) {
-                    ((Frog) taggedEnemy.getUserData()).endContactSensor(taggedEnemy.getTag());
-                }
-                break;
-
-            case Bits.ENEMY_SIDE | Bits.GROUND:
-            case Bits.ENEMY_SIDE | Bits.PLATFORM:
-            case Bits.ENEMY_SIDE | Bits.BRICK:
-            case Bits.ENEMY_SIDE | Bits.ITEM_BOX:
-            case Bits.ENEMY_SIDE | Bits.ENEMY:
-                taggedEnemy = (TaggedUserData<Enemy>) resolveUserData(fixtureA, fixtureB, Bits.ENEMY_SIDE);
-                if (taggedEnemy.getUserData() instanceof Hedgehog) {
-                    ((Hedgehog) taggedEnemy.getUserData()).endContactWallSensor(taggedEnemy.getTag());
-                }
-                if (taggedEnemy.getUserData() instanceof Fox) {
-                    ((Fox) taggedEnemy.getUserData()).endContactSensor(taggedEnemy.getTag());
-                }
-                if (taggedEnemy.getUserData() instanceof Frog) {
-                    ((Frog) taggedEnemy.getUserData()).endContactSensor(taggedEnemy.getTag());
-                }
-                break;
-        }
-    }
+            }
+        });
 
-    private Object resolveUserData(Fixture fixtureA, Fixture fixtureB, int categoryBits) {
-        return ((fixtureA.getFilterData().categoryBits & categoryBits) != 0)
-                ? fixtureA.getUserData() : fixtureB.getUserData();
+        registerSensorHandlers(endHandlers, false, Bits.COLLIDER, Bits.GROUND, Bits.PLATFORM,
+                Bits.BRICK, Bits.ITEM_BOX, Bits.ENEMY, Bits.PLAYER);
     }
 
-    @Override
-    public void preSolve(Contact contact, Manifold oldManifold) {
-        Fixture fixtureA = contact.getFixtureA();
-        Fixture fixtureB = contact.getFixtureB();
-
-        int collisionDef = fixtureA.getFilterData().categoryBits | fixtureB.getFilterData().categoryBits;
-
-        Player player;
-        Enemy enemy;
-        Platform platform;
-        PretzelBullet pretzelBullet;
-        switch (collisionDef) {
-            case Bits.PLAYER | Bits.PLATFORM:
-            case Bits.PLAYER_FEET | Bits.PLATFORM:
-                player = (Player) resolveUserData(fixtureA, fixtureB, Bits.PLAYER | Bits.PLAYER_FEET);
-                platform = (Platform) resolveUserData(fixtureA, fixtureB, Bits.PLATFORM);
+    private void registerPreSolveHandlers() {
+        ContactHandler jumpThroughPlatform = new ContactHandler() {
+            @Override
+            public void handle(Contact contact, Fixture playerFixture, Fixture platformFixture) {
+                Player player = (Player) playerFixture.getUserData();
+                Platform platform = (Platform) platformFixture.getUserData();
 
                 if (player.hasLastJumpThroughPlatformId()) {
-                    if (platform.getId().equals(player.getLastJumpThroughPlatformId())) {
+                    if (platform.getId() == player.getLastJumpThroughPlatformId()) {
                         contact.setEnabled(false);
                     }
                 } else if (player.getVelocityRelativeToGround().y > 3f) { // not zero, because there is some positive impulse when landing on the moving platform
                     player.setLastJumpThroughPlatformId(platform.getId());
                     contact.setEnabled(false);
                 }
-                break;
+            }
+        };
+        preSolveHandlers.register(Bits.PLAYER, Bits.PLATFORM, jumpThroughPlatform);
+        preSolveHandlers.register(Bits.PLAYER_FEET, Bits.PLATFORM, jumpThroughPlatform);
 
-            case Bits.ENEMY | Bits.BULLET:
-            case Bits.ENEMY_HEAD | Bits.BULLET:
+        ContactHandler bulletHitEnemy = new ContactHandler() {
+            @Override
+            public void handle(Contact contact, Fixture bulletFixture, Fixture enemyFixture) {
                 // done in pre-solve to don't have an impulse from the pretzelBullet to the other object
-                pretzelBullet = (PretzelBullet) resolveUserData(fixtureA, fixtureB, Bits.BULLET);
-                enemy = (Enemy) resolveUserData(fixtureA, fixtureB, Bits.ENEMY | Bits.ENEMY_HEAD);
+                PretzelBullet pretzelBullet = (PretzelBullet) bulletFixture.getUserData();
+                Enemy enemy = (Enemy) enemyFixture.getUserData();
                 pretzelBullet.explode(pretzelBullet.getBody().getPosition());
                 enemy.kill(1.0f);
                 contact.setEnabled(false);
-                break;
-            case Bits.ENEMY: // enemy with enemy
-                ((Enemy) fixtureA.getUserData()).onEnemyHit((Enemy) fixtureB.getUserData());
-                ((Enemy) fixtureB.getUserData()).onEnemyHit((Enemy) fixtureA.getUserData());
+            }
+        };
+        preSolveHandlers.register(Bits.BULLET, Bits.ENEMY, bulletHitEnemy);
+        preSolveHandlers.register(Bits.BULLET, Bits.ENEMY_HEAD, bulletHitEnemy);
+
+        preSolveHandlers.register(Bits.ENEMY, Bits.ENEMY, new ContactHandler() {
+            @Override
+            public void handle(Contact contact, Fixture enemyFixtureA, Fixture enemyFixtureB) {
+                Enemy enemyA = (Enemy) enemyFixtureA.getUserData();
+                Enemy enemyB = (Enemy) enemyFixtureB.getUserData();
+                enemyA.onEnemyHit(enemyB);
+                enemyB.onEnemyHit(enemyA);
                 contact.setEnabled(false);
-                break;
+            }
+        });
+    }
+
+    private static void registerSensorHandlers(ContactHandlerTable table, boolean begin,
+                                               short... otherCategories) {
+        for (short otherCategory : otherCategories) {
+            table.register(Bits.ENEMY_SIDE, otherCategory,
+                    new SensorContactDispatcher(otherCategory, begin));
         }
     }
 
+    private Vector2 getAvgContactPosition(WorldManifold worldManifold) {
+        int numberOfContactPoints = worldManifold.getNumberOfContactPoints();
+        Vector2[] points = worldManifold.getPoints();
+        contactPositon.set(0, 0);
+        for (int i = 0; i < numberOfContactPoints; ++i) {
+            contactPositon.add(points[i]);
+        }
+        return contactPositon.scl(1f / numberOfContactPoints);
+    }
+
+    @Override
+    public void beginContact(Contact contact) {
+        beginHandlers.dispatch(contact);
+    }
+
+    @Override
+    public void endContact(Contact contact) {
+        endHandlers.dispatch(contact);
+    }
+
+    @Override
+    public void preSolve(Contact contact, Manifold oldManifold) {
+        preSolveHandlers.dispatch(contact);
+    }
+
     @Override
     public void postSolve(Contact contact, ContactImpulse impulse) {
 
     }
+
+    private interface ContactHandler {
+        /**
+         * @param first the fixture of the first category the handler was registered with
+         * @param second the fixture of the second category the handler was registered with
+         */
+        void handle(Contact contact, Fixture first, Fixture second);
+    }
+
+    /**
+     * Forwards the contacts of tagged enemy sensors to the {@link SensorContactHandler} of the
+     * enemy.
+     */
+    private static class SensorContactDispatcher implements ContactHandler {
+        private final short otherCategoryBits;
+        private final boolean begin;
+
+        SensorContactDispatcher(short otherCategoryBits, boolean begin) {
+            this.otherCategoryBits = otherCategoryBits;
+            this.begin = begin;
+        }
+
+        @Override
+        public void handle(Contact contact, Fixture sensor, Fixture other) {
+            TaggedUserData<? extends SensorContactHandler> taggedHandler =
+                    (TaggedUserData<? extends SensorContactHandler>) sensor.getUserData();
+            if (begin) {
+                taggedHandler.getUserData().beginSensorContact(taggedHandler.getTag(), otherCategoryBits);
+            } else {
+                taggedHandler.getUserData().endSensorContact(taggedHandler.getTag(), otherCategoryBits);
+            }
+        }
+    }
+
+    /**
+     * Handler lookup by the bit index of both category bits. Every fixture uses exactly one
+     * category bit, so that a pair maps to a single slot.
+     */
+    private static class ContactHandlerTable {
+        private static final int CATEGORIES = 16;
+
+        private final ContactHandler[] handlers = new ContactHandler[CATEGORIES * CATEGORIES];
+        /**
+         * Whether the fixtures have to be passed in reversed order, so that a handler always
+         * receives them in the order it was registered with.
+         */
+        private final boolean[] swapped = new boolean[CATEGORIES * CATEGORIES];
+
+        void register(short firstCategory, short secondCategory, ContactHandler handler) {
+            int firstIndex = indexOf(firstCategory);
+            int secondIndex = indexOf(secondCategory);
+            handlers[firstIndex * CATEGORIES + secondIndex] = handler;
+            if (firstIndex != secondIndex) {
+                handlers[secondIndex * CATEGORIES + firstIndex] = handler;
+                swapped[secondIndex * CATEGORIES + firstIndex] = true;
+            }
+        }
+
+        void dispatch(Contact contact) {
+            Fixture fixtureA = contact.getFixtureA();
+            Fixture fixtureB = contact.getFixtureB();
+            int indexA = indexOf(fixtureA.getFilterData().categoryBits);
+            int indexB = indexOf(fixtureB.getFilterData().categoryBits);
+            if (indexA >= CATEGORIES || indexB >= CATEGORIES) {
+                return;
+            }
+
+            int slot = indexA * CATEGORIES + indexB;
+            ContactHandler handler = handlers[slot];
+            if (handler == null) {
+                return;
+            }
+
+            if (swapped[slot]) {
+                handler.handle(contact, fixtureB, fixtureA);
+            } else {
+                handler.handle(contact, fixtureA, fixtureB);
+            }
+        }
+
+        private static int indexOf(short categoryBits) {
+            return Integer.numberOfTrailingZeros(categoryBits & 0xFFFF);
+        }
+    }
 }
@@ -1,9 +1,6 @@
 package de.bsautermeister.jump.physics;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.maps.MapObject;
-import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
@@ -19,6 +16,8 @@ import com.badlogic.gdx.utils.Array;
 import de.bsautermeister.jump.Cfg;
 import de.bsautermeister.jump.models.PlatformBouncer;
 import de.bsautermeister.jump.screens.game.GameCallbacks;
+import de.bsautermeister.jump.screens.game.level.LevelData;
+import de.bsautermeister.jump.screens.game.level.LevelObject;
 import de.bsautermeister.jump.sprites.Brick;
 import de.bsautermeister.jump.sprites.Coin;
 import de.bsautermeister.jump.sprites.InteractiveTileObject;
@@ -32,6 +31,11 @@ import de.bsautermeister.jump.sprites.enemies.Frog;
 import de.bsautermeister.jump.sprites.enemies.Hedgehog;
 import de.bsautermeister.jump.sprites.enemies.Raven;
 
+/**
+ * Creates the bodies and entities of a level. The objects of the level are already grouped by their
+ * type when the level is loaded, so that each of the methods only visits the objects of the types
+ * it creates, and building the world scales linearly with the number of objects.
+ */
 public class WorldCreator {
 
     public static final String BG_IMG_GRASS1_KEY = "bgImageGrass1";
@@ -69,42 +73,48 @@ public class WorldCreator {
     private static final String ENEMY_SIGNAL_TRIGGER_TYPE = "enemySignalTrigger";
     private static final String INFO_TYPE = "info";
     private static final String INFO_HELP_TYPE = "infoHelp";
-
-    private static final String OBJECTS_LAYER = "objects";
+    private static final String CHECKPOINT_TYPE = "checkpoint";
 
     private final World world;
     private final TiledMap map;
+    private final LevelData level;
     private TextureAtlas atlas;
     private GameCallbacks callbacks;
 
     private Array<InteractiveTileObject> tileObjects = new Array<>();
 
-    public WorldCreator(GameCallbacks callbacks, World world, TiledMap map, TextureAtlas atlas) {
+    public WorldCreator(GameCallbacks callbacks, World world, TiledMap map, LevelData level,
+                        TextureAtlas atlas) {
         this.callbacks = callbacks;
         this.world = world;
         this.map = map;
+        this.level = level;
         this.atlas = atlas;
     }
 
     public void buildFromMap() {
-        buildStaticObjects(GROUND_TYPE, Bits.GROUND, false);
-        buildStaticObjects(COLLIDER_TYPE, Bits.COLLIDER, true);
+        buildStaticBodies();
 
-        for (RectangleMapObject mapObject : getRectObjects(map)) {
-            if (isType(mapObject, BRICK_TYPE)) {
-                tileObjects.add(new Brick(callbacks, world, map, atlas, mapObject));
-            } else if (isType(mapObject, BOX_TYPE)) {
-                tileObjects.add(new ItemBox(callbacks, world, map, atlas, mapObject));
-            }
+        for (LevelObject levelObject : level.getObjects(BRICK_TYPE)) {
+            tileObjects.add(new Brick(callbacks, world, map, atlas, levelObject));
         }
+        for (LevelObject levelObject : level.getObjects(BOX_TYPE)) {
+            tileObjects.add(new ItemBox(callbacks, world, map, atlas, levelObject));
+        }
+    }
+
+    /**
+     * Creates the bodies of the ground and the colliders, which are not backed by any entity.
+     */
+    public void buildStaticBodies() {
+        buildStaticObjects(GROUND_TYPE, Bits.GROUND, false);
+        buildStaticObjects(COLLIDER_TYPE, Bits.COLLIDER, true);
     }
 
     private void buildStaticObjects(String type, short categoryBit, boolean asSensor) {
-        for (RectangleMapObject mapObject : getRectObjects(map)) {
-            if (isType(mapObject, type)) {
-                createBody(null, world, mapObject.getRectangle(), BodyDef.BodyType.StaticBody,
-                        categoryBit, asSensor);
-            }
+        for (LevelObject levelObject : level.getObjects(type)) {
+            createBody(null, world, levelObject.getBounds(), BodyDef.BodyType.StaticBody,
+                    categoryBit, asSensor);
         }
     }
 
@@ -115,11 +125,10 @@ public class WorldCreator {
         Body body;
 
         bodyDef.type = bodyType;
-        bodyDef.position.set((bounds.getX() + bounds.getWidth() / 2) / Cfg.PPM,
-                (bounds.getY() + bounds.getHeight() / 2) / Cfg.PPM);
+        bodyDef.position.set(bounds.getX() + bounds.getWidth() / 2,
+                bounds.getY() + bounds.getHeight() / 2);
         body = world.createBody(bodyDef);
-        shape.setAsBox(bounds.getWidth() / 2 / Cfg.PPM,
-                bounds.getHeight() / 2 / Cfg.PPM);
+        shape.setAsBox(bounds.getWidth() / 2, bounds.getHeight() / 2);
         fixtureDef.shape = shape;
         fixtureDef.friction = Cfg.GROUND_FRICTION;
         fixtureDef.filter.categoryBits = categoryBit;
@@ -146,63 +155,61 @@ public class WorldCreator {
     public Array<Enemy> createEnemies() {
         Array<Enemy> enemies = new Array<>();
 
-        for (RectangleMapObject mapObject : getRectObjects(map)) {
-            if (isType(mapObject, FOX_TYPE)) {
-                Rectangle rect = mapObject.getRectangle();
-                String group = (String) mapObject.getProperties().get("group");
-                boolean rightDirection = mapObject.getProperties().get("rightDirection", false, Boolean.class);
-                Fox fox = new Fox(callbacks, world, atlas,
-                        rect.getX() / Cfg.PPM, rect.getY() / Cfg.PPM, rightDirection);
-                fox.setGroup(group);
-                enemies.add(fox);
-            } else if (isType(mapObject, HEDGEHOG_TYPE)) {
-                Rectangle rect = mapObject.getRectangle();
-                String group = (String) mapObject.getProperties().get("group");
-                boolean rightDirection = mapObject.getProperties().get("rightDirection", false, Boolean.class);
-                Hedgehog hedgehog = new Hedgehog(callbacks, world, atlas,
-                        rect.getX() / Cfg.PPM, rect.getY() / Cfg.PPM, rightDirection);
-                hedgehog.setGroup(group);
-                enemies.add(hedgehog);
-            } else if (isType(mapObject, DRUNKEN_GUY_TYPE)) {
-                Rectangle rect = mapObject.getRectangle();
-                String group = (String) mapObject.getProperties().get("group");
-                DrunkenGuy drunkenGuy = new DrunkenGuy(callbacks, world, atlas,
-                        rect.getX() / Cfg.PPM, rect.getY() / Cfg.PPM);
-                drunkenGuy.setGroup(group);
-                enemies.add(drunkenGuy);
-            } else if (isType(mapObject, FISH_TYPE)) {
-                Rectangle rect = mapObject.getRectangle();
-                Float startDelay = (Float) mapObject.getProperties().get("startDelay");
-                Integer startAngle = (Integer) mapObject.getProperties().get("startAngle");
-                Float velocityFactor = (Float) mapObject.getProperties().get("velocityFactor");
-                String group = (String) mapObject.getProperties().get("group");
-                Fish fish = new Fish(callbacks, world, atlas,
-                        rect.getX() / Cfg.PPM, rect.getY() / Cfg.PPM);
-                fish.setStartDelay(startDelay != null ? startDelay : 0f);
-                fish.setStartAngle(startAngle != null ? startAngle : 90);
-                fish.setVelocityFactor(velocityFactor != null ? velocityFactor : 1f);
-                fish.setGroup(group);
-                enemies.add(fish);
-            } else if (isType(mapObject, FROG_TYPE)) {
-                Rectangle rect = mapObject.getRectangle();
-                String group = (String) mapObject.getProperties().get("group");
-                boolean rightDirection = mapObject.getProperties().get("rightDirection", false, Boolean.class);
-                Frog frog = new Frog(callbacks, world, atlas,
-                        rect.getX() / Cfg.PPM, rect.getY() / Cfg.PPM, rightDirection);
-                frog.setGroup(group);
-                enemies.add(frog);
-            } else if (isType(mapObject, RAVEN_TYPE)) {
-                Rectangle rect = mapObject.getRectangle();
-                String group = (String) mapObject.getProperties().get("group");
-                boolean rightDirection = mapObject.getProperties().get("rightDirection", false, Boolean.class);
-                boolean swinging = mapObject.getProperties().get("swinging", false, Boolean.class);
-                boolean autoAttack = mapObject.getProperties().get("autoAttack", true, Boolean.class);
-                Raven raven = new Raven(callbacks, world, atlas,
-                        rect.getX() / Cfg.PPM, rect.getY() / Cfg.PPM,
-                        rightDirection, swinging, autoAttack);
-                raven.setGroup(group);
-                enemies.add(raven);
-            }
+        for (LevelObject levelObject : level.getObjects(FOX_TYPE)) {
+            Rectangle rect = levelObject.getBounds();
+            String group = (String) levelObject.getProperties().get("group");
+            boolean rightDirection = levelObject.getProperties().get("rightDirection", false, Boolean.class);
+            Fox fox = new Fox(callbacks, world, atlas, rect.getX(), rect.getY(), rightDirection);
+            fox.setGroup(group);
+            enemies.add(fox);
+        }
+        for (LevelObject levelObject : level.getObjects(HEDGEHOG_TYPE)) {
+            Rectangle rect = levelObject.getBounds();
+            String group = (String) levelObject.getProperties().get("group");
+            boolean rightDirection = levelObject.getProperties().get("rightDirection", false, Boolean.class);
+            Hedgehog hedgehog = new Hedgehog(callbacks, world, atlas,
+                    rect.getX(), rect.getY(), rightDirection);
+            hedgehog.setGroup(group);
+            enemies.add(hedgehog);
+        }
+        for (LevelObject levelObject : level.getObjects(DRUNKEN_GUY_TYPE)) {
+            Rectangle rect = levelObject.getBounds();
+            String group = (String) levelObject.getProperties().get("group");
+            DrunkenGuy drunkenGuy = new DrunkenGuy(callbacks, world, atlas, rect.getX(), rect.getY());
+            drunkenGuy.setGroup(group);
+            enemies.add(drunkenGuy);
+        }
+        for (LevelObject levelObject : level.getObjects(FISH_TYPE)) {
+            Rectangle rect = levelObject.getBounds();
+            Float startDelay = (Float) levelObject.getProperties().get("startDelay");
+            Integer startAngle = (Integer) levelObject.getProperties().get("startAngle");
+            Float velocityFactor = (Float) levelObject.getProperties().get("velocityFactor");
+            String group = (String) levelObject.getProperties().get("group");
+            Fish fish = new Fish(callbacks, world, atlas, rect.getX(), rect.getY());
+            fish.setStartDelay(startDelay != null ? startDelay : 0f);
+            fish.setStartAngle(startAngle != null ? startAngle : 90);
+            fish.setVelocityFactor(velocityFactor != null ? velocityFactor : 1f);
+            fish.setGroup(group);
+            enemies.add(fish);
+        }
+        for (LevelObject levelObject : level.getObjects(FROG_TYPE)) {
+            Rectangle rect = levelObject.getBounds();
+            String group = (String) levelObject.getProperties().get("group");
+            boolean rightDirection = levelObject.getProperties().get("rightDirection", false, Boolean.class);
+            Frog frog = new Frog(callbacks, world, atlas, rect.getX(), rect.getY(), rightDirection);
+            frog.setGroup(group);
+            enemies.add(frog);
+        }
+        for (LevelObject levelObject : level.getObjects(RAVEN_TYPE)) {
+            Rectangle rect = levelObject.getBounds();
+            String group = (String) levelObject.getProperties().get("group");
+            boolean rightDirection = levelObject.getProperties().get("rightDirection", false, Boolean.class);
+            boolean swinging = levelObject.getProperties().get("swinging", false, Boolean.class);
+            boolean autoAttack = levelObject.getProperties().get("autoAttack", true, Boolean.class);
+            Raven raven = new Raven(callbacks, world, atlas, rect.getX(), rect.getY(),
+                    rightDirection, swinging, autoAttack);
+            raven.setGroup(group);
+            enemies.add(raven);
         }
 
         return enemies;
@@ -212,84 +219,72 @@ public class WorldCreator {
         Array<PlatformBouncer> bouncerRegions = getPlatformBouncerRegions();
         Array<Platform> platforms = new Array<>();
 
-        for (RectangleMapObject mapObject : getRectObjects(map)) {
-            if (isType(mapObject, PLATFORM_TYPE)) {
-                Rectangle rect = mapObject.getRectangle();
-                Integer startAngle = (Integer) mapObject.getProperties().get("startAngle");
-                Boolean breakable = (Boolean) mapObject.getProperties().get("breakable");
-                Float speed = (Float) mapObject.getProperties().get("speed");
-                String group = (String) mapObject.getProperties().get("group");
-                Platform platform = new Platform(callbacks, world, atlas,
-                        toPPM(rect),
-                        group,
-                        startAngle != null ? startAngle : 0,
-                        breakable != null ? breakable : false,
-                        speed != null ? speed : Platform.DEFAULT_SPEED,
-                        bouncerRegions);
-                platforms.add(platform);
-            }
+        for (LevelObject levelObject : level.getObjects(PLATFORM_TYPE)) {
+            Integer startAngle = (Integer) levelObject.getProperties().get("startAngle");
+            Boolean breakable = (Boolean) levelObject.getProperties().get("breakable");
+            Float speed = (Float) levelObject.getProperties().get("speed");
+            String group = (String) levelObject.getProperties().get("group");
+            Platform platform = new Platform(callbacks, world, atlas,
+                    new Rectangle(levelObject.getBounds()),
+                    group,
+                    startAngle != null ? startAngle : 0,
+                    breakable != null ? breakable : false,
+                    speed != null ? speed : Platform.DEFAULT_SPEED,
+                    bouncerRegions);
+            platforms.add(platform);
         }
         return platforms;
     }
 
     public Array<Coin> createCoins() {
         Array<Coin> coins = new Array<>();
-        for (RectangleMapObject mapObject : getRectObjects(map)) {
-            if (isType(mapObject, COIN_TYPE)) {
-                Rectangle rect = mapObject.getRectangle();
-                coins.add(new Coin(callbacks, world, atlas,
-                        rect.getX() / Cfg.PPM, rect.getY() / Cfg.PPM));
-            }
-
+        for (LevelObject levelObject : level.getObjects(COIN_TYPE)) {
+            Rectangle rect = levelObject.getBounds();
+            coins.add(new Coin(callbacks, world, atlas, rect.getX(), rect.getY()));
         }
         return coins;
     }
 
     public Array<Rectangle> getWaterRegions() {
-        Array<Rectangle> waterRegions = new Array<>();
-        for (RectangleMapObject mapObject : getRectObjects(map)) {
-            if (isType(mapObject, WATER_TYPE)) {
-                waterRegions.add(toPPM(mapObject.getRectangle()));
-            }
-        }
-        return waterRegions;
+        return getRegions(WATER_TYPE);
     }
 
     public Array<Rectangle> getPoleRegions() {
-        Array<Rectangle> waterRegions = new Array<>();
-        for (RectangleMapObject mapObject : getRectObjects(map)) {
-            if (isType(mapObject, POLE_TYPE)) {
-                waterRegions.add(toPPM(mapObject.getRectangle()));
-            }
-        }
-        return waterRegions;
+        return getRegions(POLE_TYPE);
+    }
+
+    public Array<Rectangle> getCheckpointRegions() {
+        return getRegions(CHECKPOINT_TYPE);
     }
 
     public Array<Rectangle> getSpikeRegions() {
-        Array<Rectangle> spikeRegions = new Array<>();
-        for (RectangleMapObject mapObject : getRectObjects(map)) {
-            if (isType(mapObject, SPIKE_TYPE)) {
-                Rectangle rect = toPPM(mapObject.getRectangle());
-                rect.setHeight(rect.getHeight() / 2);
-                spikeRegions.add(rect);
-            }
+        Array<Rectangle> spikeRegions = getRegions(SPIKE_TYPE);
+        for (Rectangle rect : spikeRegions) {
+            rect.setHeight(rect.getHeight() / 2);
         }
         return spikeRegions;
     }
 
+    private Array<Rectangle> getRegions(String type) {
+        Array<LevelObject> levelObjects = level.getObjects(type);
+        Array<Rectangle> regions = new Array<>(levelObjects.size);
+        for (LevelObject levelObject : levelObjects) {
+            regions.add(new Rectangle(levelObject.getBounds()));
+        }
+        return regions;
+    }
+
     private Array<PlatformBouncer> getPlatformBouncerRegions() {
         Array<PlatformBouncer> bouncerRegions = new Array<>();
-        for (RectangleMapObject mapObject : getRectObjects(map)) {
-            if (isType(mapObject, BOUNCER_TYPE)) {
-                Integer angle = (Integer) mapObject.getProperties().get("bounceAngle");
-                Float speed = (Float) mapObject.getProperties().get("speed");
-                PlatformBouncer platformBouncer = new PlatformBouncer(
-                        toPPM(mapObject.getRectangle()),
-                        angle != null ? angle : 0,
-                        speed != null ? speed : Platform.DEFAULT_SPEED
-                );
-                bouncerRegions.add(platformBouncer);
-            }
+        for (LevelObject levelObject : level.getObjects(BOUNCER_TYPE)) {
+            Integer angle = (Integer) levelObject.getProperties().get("bounceAngle");
+            Float speed = (Float) levelObject.getProperties().get("speed");
+            PlatformBouncer platformBouncer = new PlatformBouncer(
+                    new Rectangle(levelObject.getBounds()),
+                    angle != null ? angle : 0,
+                    speed != null ? speed : Platform.DEFAULT_SPEED
+            );
+            bouncerRegions.add(platformBouncer);
         }
         return bouncerRegions;
     }
@@ -299,58 +294,51 @@ public class WorldCreator {
     }
 
     public Rectangle getSnorerRegion() {
-        return toPPM(getFirstRectObject(map, SNORER_TYPE).getRectangle());
+        return new Rectangle(level.getFirstObject(SNORER_TYPE).getBounds());
     }
 
     public Rectangle getGoal() {
-        return toPPM(getFirstRectObject(map, GOAL_TYPE).getRectangle());
+        return new Rectangle(level.getFirstObject(GOAL_TYPE).getBounds());
     }
 
     public StartParams getStart() {
-        return new StartParams(getFirstRectObject(map, START_TYPE));
+        return new StartParams(level.getFirstObject(START_TYPE));
     }
 
     public Array<EnemySignalTrigger> getEnemySignalTriggers() {
         Array<EnemySignalTrigger> signalTriggers = new Array<>();
-        for (RectangleMapObject mapObject : getRectObjects(map)) {
-            if (isType(mapObject, ENEMY_SIGNAL_TRIGGER_TYPE)) {
-                String group = (String) mapObject.getProperties().get("group");
-                signalTriggers.add(new EnemySignalTrigger(toPPM(mapObject.getRectangle()), group));
-            }
+        for (LevelObject levelObject : level.getObjects(ENEMY_SIGNAL_TRIGGER_TYPE)) {
+            String group = (String) levelObject.getProperties().get("group");
+            signalTriggers.add(new EnemySignalTrigger(new Rectangle(levelObject.getBounds()), group));
         }
         return signalTriggers;
     }
 
     public Array<InfoRect> getInfoSigns() {
-        Array<InfoRect> infos = new Array<>();
-        for (RectangleMapObject mapObject : getRectObjects(map)) {
-            if (isType(mapObject, INFO_TYPE)) {
-                String languageKey = (String) mapObject.getProperties().get("languageKey");
-                infos.add(new InfoRect(toPPM(mapObject.getRectangle()), languageKey));
-            }
-        }
-        return infos;
+        return getInfoRects(INFO_TYPE);
     }
 
     public Array<InfoRect> getInfoHelps() {
-        Array<InfoRect> helps = new Array<>();
-        for (RectangleMapObject mapObject : getRectObjects(map)) {
-            if (isType(mapObject, INFO_HELP_TYPE)) {
-                String languageKey = (String) mapObject.getProperties().get("languageKey");
-                helps.add(new InfoRect(toPPM(mapObject.getRectangle()), languageKey));
-            }
+        return getInfoRects(INFO_HELP_TYPE);
+    }
+
+    private Array<InfoRect> getInfoRects(String type) {
+        Array<InfoRect> infos = new Array<>();
+        for (LevelObject levelObject : level.getObjects(type)) {
+            String languageKey = (String) levelObject.getProperties().get("languageKey");
+            infos.add(new InfoRect(new Rectangle(levelObject.getBounds()), languageKey));
         }
-        return helps;
+        return infos;
     }
 
     public static class StartParams {
         public final Vector2 centerPosition;
         public final boolean leftDirection;
 
-        StartParams(RectangleMapObject mapObject) {
-            Rectangle rect = mapObject.getRectangle();
-            centerPosition = new Vector2((rect.x + rect.width / 2) / Cfg.PPM, (rect.y + rect.height / 2) / Cfg.PPM);
-            leftDirection = mapObject.getProperties().get("leftDirection", false, Boolean.class);
+        StartParams(LevelObject levelObject) {
+            Rectangle rect = levelObject.getBounds();
+            centerPosition = new Vector2(rect.x + rect.width / 2, rect.y + rect.height / 2);
+            leftDirection = levelObject.getProperties().get("leftDirection", false, Boolean.class);
         }
     }
 
@@ -373,32 +361,4 @@ public class WorldCreator {
             this.languageKey = languageKey;
         }
     }
-
-    private static boolean isType(MapObject mapObject, String type) {
-        String objType = (String) mapObject.getProperties().get("type");
-        if (objType == null) {
-            Gdx.app.log("WorldCreator", String.format("Missing object type in x: %f, y: %f",
-                    mapObject.getProperties().get("x"),
-                    mapObject.getProperties().get("y")));
-        }
-        return objType.equals(type);
-    }
-
-    private static Array<RectangleMapObject> getRectObjects(TiledMap map) {
-        return map.getLayers().get(OBJECTS_LAYER).getObjects().getByType(RectangleMapObject.class);
-    }
-
-    private static RectangleMapObject getFirstRectObject(TiledMap map, String type) {
-        for (RectangleMapObject mapObject : getRectObjects(map)) {
-            if (isType(mapObject, type)) {
-                return mapObject;
-            }
-        }
-        return null;
-    }
-
-    private static Rectangle toPPM(Rectangle rect) {
-        return new Rectangle(rect.x / Cfg.PPM, rect.y / Cfg.PPM,
-                rect.width / Cfg.PPM, rect.height / Cfg.PPM);
-    }
 }
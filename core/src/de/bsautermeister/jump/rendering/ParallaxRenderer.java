@@ -33,6 +33,15 @@ public class ParallaxRenderer {
 
     public void renderLayer(String layer, float factorX,
                                      float factorY, float yOffset) {
+        TiledMapImageLayer imageLayer = setUpLayer(layer, factorX, factorY, yOffset);
+        mapRenderer.renderImageLayer(imageLayer);
+    }
+
+    /**
+     * Sets up the parallax camera and the repeated image of the layer, without rendering it.
+     */
+    public TiledMapImageLayer setUpLayer(String layer, float factorX,
+                                         float factorY, float yOffset) {
         parallaxCamera.setToOrtho(false, globalCamera.viewportWidth, globalCamera.viewportHeight);
         parallaxCamera.position.set(
                 globalCamera.viewportWidth * (1 - factorX) + globalCamera.position.x * factorX,
@@ -45,7 +54,6 @@ public class ParallaxRenderer {
         TiledMapImageLayer imageLayer = (TiledMapImageLayer) map.getLayers().get(layer);
         imageLayer.getTextureRegion().getTexture().setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.ClampToEdge);
         imageLayer.getTextureRegion().setRegionWidth(Cfg.WORLD_WIDTH * 100);
-
-        mapRenderer.renderImageLayer(imageLayer);
+        return imageLayer;
     }
 }
@@ -34,6 +34,7 @@ import de.bsautermeister.jump.screens.menu.SelectLevelMenuContent;
 import de.bsautermeister.jump.screens.menu.controls.AnimatedLabel;
 import de.bsautermeister.jump.screens.transition.ScaleScreenTransition;
 import de.bsautermeister.jump.utils.GdxUtils;
+import de.bsautermeister.jump.utils.LevelUtils;
 
 public class FinishScreen extends ScreenBase {
 
@@ -65,6 +66,9 @@ public class FinishScreen extends ScreenBase {
 
     @Override
     public void show() {
+        // the finished level has already been stored, so this is usually the level after it
+        getGame().getLevelPreloader().preload(LevelUtils.getNextLevelToPlay());
+
         insideTentRenderer = new InsideTentRenderer(getAssetManager());
         ploppSound = getAssetManager().get(AssetDescriptors.Sounds.PLOPP);
 
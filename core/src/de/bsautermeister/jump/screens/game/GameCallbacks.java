@@ -22,7 +22,7 @@ public interface GameCallbacks {
     void hit(Player player, Brick brick, boolean closeEnough);
     void hit(Player player, ItemBox itemBox, Vector2 position, boolean closeEnough);
     void hit(PretzelBullet pretzelBullet, Enemy enemy);
-    void indirectObjectHit(InteractiveTileObject tileObject, String objectId);
+    void indirectObjectHit(InteractiveTileObject tileObject, int objectId);
     void hitWall(Enemy enemy);
     void hitWall(PretzelBullet pretzelBullet);
     void spotted(ItemBox itemBox);
@@ -33,6 +33,7 @@ public interface GameCallbacks {
     void fire();
     void hurry();
     void unlockGoalBrick(Brick brick);
+    void shatter(InteractiveTileObject tileObject, String fragmentTemplateRegionName);
     void goalReached();
     void playerDied();
     void startPlayerDrowning();
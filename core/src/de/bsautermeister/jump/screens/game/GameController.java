@@ -2,13 +2,11 @@ package de.bsautermeister.jump.screens.game;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.ParticleEffectPool;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.badlogic.gdx.math.Frustum;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
@@ -16,44 +14,66 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
 import com.badlogic.gdx.utils.Logger;
 import com.badlogic.gdx.utils.ObjectMap;
-import com.badlogic.gdx.utils.Timer;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Queue;
+import com.badlogic.gdx.utils.StreamUtils;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Locale;
-import java.util.concurrent.LinkedBlockingQueue;
 
 import de.bsautermeister.jump.Cfg;
 import de.bsautermeister.jump.JumpGame;
 import de.bsautermeister.jump.assets.AssetPaths;
 import de.bsautermeister.jump.assets.Language;
+import de.bsautermeister.jump.assets.RegionNames;
 import de.bsautermeister.jump.audio.MusicPlayer;
-import de.bsautermeister.jump.commons.GameApp;
+import de.bsautermeister.jump.effects.FragmentSystem;
+import de.bsautermeister.jump.input.InputTape;
 import de.bsautermeister.jump.managers.Drownable;
 import de.bsautermeister.jump.managers.KillSequelManager;
 import de.bsautermeister.jump.managers.WaterInteractionManager;
+import de.bsautermeister.jump.math.ColumnIndex;
 import de.bsautermeister.jump.physics.WorldContactListener;
 import de.bsautermeister.jump.physics.WorldCreator;
+import de.bsautermeister.jump.screens.game.level.LevelData;
 import de.bsautermeister.jump.screens.game.level.LevelInfo;
+import de.bsautermeister.jump.screens.game.level.LevelLoader;
 import de.bsautermeister.jump.screens.game.level.LevelMetadata;
+import de.bsautermeister.jump.screens.game.level.LevelPrototype;
+import de.bsautermeister.jump.screens.game.level.PreparedLevel;
 import de.bsautermeister.jump.screens.menu.GameOverOverlay;
 import de.bsautermeister.jump.screens.menu.PauseOverlay;
 import de.bsautermeister.jump.serializer.BinarySerializable;
 import de.bsautermeister.jump.serializer.BinarySerializer;
+import de.bsautermeister.jump.serializer.Journal;
+import de.bsautermeister.jump.serializer.SectionMigrator;
+import de.bsautermeister.jump.serializer.SectionReader;
+import de.bsautermeister.jump.serializer.SectionWriter;
+import de.bsautermeister.jump.serializer.SerializerUtils;
+import de.bsautermeister.jump.serializer.SnapshotBuffer;
 import de.bsautermeister.jump.sprites.BeerItem;
 import de.bsautermeister.jump.sprites.BoxCoin;
 import de.bsautermeister.jump.sprites.Brick;
 import de.bsautermeister.jump.sprites.Coin;
 import de.bsautermeister.jump.sprites.GrilledChickenItem;
+import de.bsautermeister.jump.sprites.IdAllocator;
 import de.bsautermeister.jump.sprites.InteractiveTileObject;
 import de.bsautermeister.jump.sprites.Item;
 import de.bsautermeister.jump.sprites.ItemBox;
+import de.bsautermeister.jump.sprites.EntityRegistry;
 import de.bsautermeister.jump.sprites.ItemDef;
+import de.bsautermeister.jump.sprites.ItemTypes;
 import de.bsautermeister.jump.sprites.Platform;
 import de.bsautermeister.jump.sprites.Player;
 import de.bsautermeister.jump.sprites.Pole;
@@ -62,6 +82,7 @@ import de.bsautermeister.jump.sprites.PretzelItem;
 import de.bsautermeister.jump.sprites.Tent;
 import de.bsautermeister.jump.sprites.enemies.DrunkenGuy;
 import de.bsautermeister.jump.sprites.enemies.Enemy;
+import de.bsautermeister.jump.sprites.enemies.EnemyTypes;
 import de.bsautermeister.jump.sprites.enemies.Fish;
 import de.bsautermeister.jump.sprites.enemies.Fox;
 import de.bsautermeister.jump.sprites.enemies.Frog;
@@ -75,6 +96,35 @@ public class GameController  implements BinarySerializable, Disposable {
 
     private static final Logger LOG = new Logger(GameController.class.getSimpleName(), Cfg.LOG_LEVEL);
 
+    /**
+     * The sections of the saved game state. When the data of a section changes, its version has to
+     * be increased and a migrator from the previous version has to be registered in open(), so that
+     * games saved by a previous version can still be resumed.
+     */
+    private enum SaveSection {
+        GAME(1, 1),
+        PLAYER(2, 1),
+        MUSIC(3, 1),
+        ENEMIES(4, 2),
+        ITEMS(5, 2),
+        COINS(6, 1),
+        LEVEL_OBJECTS(7, 3),
+        SAVED_DATA(8, 1),
+        ENEMY_CHANGES(9, 2),
+        ITEM_CHANGES(10, 2),
+        COIN_CHANGES(11, 1),
+        LEVEL_OBJECT_CHANGES(12, 3),
+        FRAGMENTS(13, 1);
+
+        private final int id;
+        private final int version;
+
+        SaveSection(int id, int version) {
+            this.id = id;
+            this.version = version;
+        }
+    }
+
     private static final float ANDROID_IMMERSIVE_MODE_SAFE_ZONE = 0.995f;
 
     private final static String[] TENT_SONGS = {
@@ -89,12 +139,18 @@ public class GameController  implements BinarySerializable, Disposable {
     private final MusicPlayer foregroundMusic;
     private final GameSoundEffects soundEffects;
 
-    private TextureAtlas atlas;
+    private final TextureAtlas atlas;
+
+    private final EntityRegistry<Enemy> enemyRegistry;
+    private final EntityRegistry<Item> itemRegistry;
 
     private OrthographicCamera camera;
     private Viewport viewport;
 
-    private final TmxMapLoader mapLoader;
+    private final LevelLoader levelLoader;
+    private final LevelData levelData;
+    private PreparedLevel preparedLevel;
+    private LevelPrototype prototype;
     private TiledMap map;
     private float mapPixelWidth;
     private float mapPixelHeight;
@@ -107,23 +163,94 @@ public class GameController  implements BinarySerializable, Disposable {
     private int collectedBeers;
     private int totalBeers;
 
-    private ObjectMap<String, Enemy> enemies;
-    private ObjectMap<String, Item> items;
-    private LinkedBlockingQueue<ItemDef> itemsToSpawn;
+    private final IdAllocator ids = new IdAllocator();
+    private IntMap<Enemy> enemies;
+    private IntMap<Item> items;
+    private Queue<ItemDef> itemsToSpawn;
     private Array<Platform> platforms;
     private Array<Coin> coins;
 
     private Array<BoxCoin> activeBoxCoins;
 
+    private final FragmentSystem fragments;
+
     private float gameTime;
     private Array<InteractiveTileObject> tileObjects;
+
+    /**
+     * Width of the columns of the spatial indices, in world units.
+     */
+    private static final float INDEX_COLUMN_WIDTH = 4 * Cfg.BLOCK_SIZE_PPM;
+    private final ColumnIndex<Enemy> sleepingEnemies = new ColumnIndex<>(INDEX_COLUMN_WIDTH);
+    private final ColumnIndex<Platform> sleepingPlatforms = new ColumnIndex<>(INDEX_COLUMN_WIDTH);
+    private final ColumnIndex<ItemBox> unspottedItemBoxes = new ColumnIndex<>(INDEX_COLUMN_WIDTH);
+    private final ColumnIndex<Coin> coinIndex = new ColumnIndex<>(INDEX_COLUMN_WIDTH);
+    private final ObjectMap<String, Array<Enemy>> enemyGroups = new ObjectMap<>();
+    private final ObjectMap<String, Array<Platform>> platformGroups = new ObjectMap<>();
+    private final Array<Enemy> nearbyEnemies = new Array<>();
+    private final Array<Platform> nearbyPlatforms = new Array<>();
+    private final Array<ItemBox> nearbyItemBoxes = new Array<>();
+    private final Array<Coin> coinsInView = new Array<>();
     private Array<Rectangle> waterList;
     private WaterInteractionManager waterInteractionManager;
 
+    private static final int CHECKPOINT_SNAPSHOT_CAPACITY = 16 * 1024;
+
+    private Array<Rectangle> checkpoints;
+    private boolean[] reachedCheckpoints;
+    /**
+     * The state of the game when the player has reached the last checkpoint, which is restored
+     * instead of restarting the whole level after the game is over.
+     */
+    private final SnapshotBuffer checkpointSnapshot = new SnapshotBuffer(CHECKPOINT_SNAPSHOT_CAPACITY);
+    private final SnapshotBuffer saveSnapshot = new SnapshotBuffer(CHECKPOINT_SNAPSHOT_CAPACITY);
+
+    private static final long NO_SAVED_DATA = 0L;
+
+    private boolean autosaveEnabled;
+    private float autosaveTimer;
+    /**
+     * The ID of the last full save, which the journaled changes belong to.
+     */
+    private long savedDataId = NO_SAVED_DATA;
+    private int journalRecords;
+    private final IntArray removedEnemyIds = new IntArray();
+    private final IntArray removedItemIds = new IntArray();
+    private final IntArray collectedCoinIndices = new IntArray();
+
     private final int level;
-    private final FileHandle gameToResume;
+    private FileHandle gameToResume;
 
-    private final LinkedBlockingQueue<UiMessage> uiMessages;
+    private final Queue<UiMessage> uiMessages;
+
+    /**
+     * Objects that are created frequently during the game are pooled, to avoid garbage collection
+     * pauses on Android.
+     */
+    private final Pool<ItemDef> itemDefPool = new Pool<ItemDef>(4) {
+        @Override
+        protected ItemDef newObject() {
+            return new ItemDef();
+        }
+    };
+    private final Pool<BoxCoin> boxCoinPool = new Pool<BoxCoin>(8) {
+        @Override
+        protected BoxCoin newObject() {
+            return new BoxCoin(atlas);
+        }
+    };
+    private final Pool<StringUiMessage> stringMessagePool = new Pool<StringUiMessage>(8) {
+        @Override
+        protected StringUiMessage newObject() {
+            return new StringUiMessage();
+        }
+    };
+    private final Pool<LanguageUiMessage> languageMessagePool = new Pool<LanguageUiMessage>(4) {
+        @Override
+        protected LanguageUiMessage newObject() {
+            return new LanguageUiMessage();
+        }
+    };
 
     private final KillSequelManager killSequelManager;
 
@@ -143,32 +270,64 @@ public class GameController  implements BinarySerializable, Disposable {
     private float infoSignMessageTtl;
     private String infoSignMessageKey;
 
+    public static final float SIMULATION_STEP_TIME = 1f / Cfg.SIMULATION_STEPS_PER_SEC;
+    private float accumulator;
+    private float interpolationAlpha = 1f;
+    private final Vector2 previousCameraPosition = new Vector2();
+
+    private int tick;
+    private InputTape recordingTape;
+    private InputTape replayTape;
+
+    private final GameEventQueue events = new GameEventQueue();
+    private final GameEventScheduler scheduler = new GameEventScheduler();
+
+    /**
+     * Executes the side effects of the simulation once per frame, after all simulation steps.
+     */
+    private final GameEventQueue.Handler eventHandler = new GameEventQueue.Handler() {
+        @Override
+        public void playSound(SoundEffect sound, float volume) {
+            soundEffects.play(sound, volume);
+        }
+
+        @Override
+        public void addScore(int points) {
+            score += points;
+        }
+
+        @Override
+        public void showMessage(UiMessage<?> message, Rectangle area) {
+            GameController.this.showMessage(message, area);
+        }
+
+        @Override
+        public void dropMessage(UiMessage<?> message) {
+            freeUiMessage(message);
+        }
+    };
+
     private GameCallbacks callbacks = new GameCallbacks() {
         @Override
         public void started() {
-            Timer.schedule(new Timer.Task() {
-                @Override
-                public void run() {
-                    soundEffects.playRandomStartSound();
-                }
-            }, 0.5f);
+            scheduler.schedule(SoundEffect.START, 0.5f);
         }
 
         @Override
         public void jump(float volumeFactor) {
-            soundEffects.playRandomJumpSound(0.66f * volumeFactor);
+            events.sound(SoundEffect.JUMP, 0.66f * volumeFactor);
         }
 
         @Override
         public void landed(float landingHeight) {
             if (landingHeight > Cfg.MIN_LANDING_HEIGHT) {
-                soundEffects.landingSound.play(MathUtils.clamp(0.33f + landingHeight / (8 * Cfg.BLOCK_SIZE_PPM), 0f, 1f));
+                events.sound(SoundEffect.LANDING, MathUtils.clamp(0.33f + landingHeight / (8 * Cfg.BLOCK_SIZE_PPM), 0f, 1f));
             }
         }
 
         @Override
         public void stomp(Enemy enemy) {
-            soundEffects.stompSound.play(0.66f);
+            events.sound(SoundEffect.STOMP, 0.66f);
             playEnemyKillSound(enemy, 1f);
 
             if (!(enemy instanceof Hedgehog)) {
@@ -179,7 +338,7 @@ public class GameController  implements BinarySerializable, Disposable {
         @Override
         public void attack(Enemy enemy) {
             if (enemy instanceof Raven) {
-                soundEffects.ravenSound.play();
+                events.sound(SoundEffect.RAVEN);
             }
         }
 
@@ -189,102 +348,95 @@ public class GameController  implements BinarySerializable, Disposable {
             if (item instanceof BeerItem) {
                 screenCallbacks.reportDrunkBeer();
                 updateCollectedBeers(collectedBeers + 1);
-                soundEffects.drinkingSound.play();
-                final Sound postBeerDrinkSound;
+                events.sound(SoundEffect.DRINKING);
+                SoundEffect postBeerDrinkSound;
                 if (collectedBeers >= totalBeers) {
                     unlockGoal();
-                    postBeerDrinkSound = soundEffects.randomOzapftSound();
+                    postBeerDrinkSound = SoundEffect.OZAPFT;
                 } else {
-                    postBeerDrinkSound = soundEffects.randomBeerSound();
+                    postBeerDrinkSound = SoundEffect.BEER;
                 }
 
-                Timer.schedule(new Timer.Task() {
-                    @Override
-                    public void run() {
-                        postBeerDrinkSound.play();
-                    }
-                }, 1.0f);
+                scheduler.schedule(postBeerDrinkSound, 1.0f);
 
                 language = Language.COLLECT_BEER;
-                score += 100;
+                events.score(100);
             } else if (item instanceof GrilledChickenItem) {
-                soundEffects.eatFoodSound.play();
+                events.sound(SoundEffect.EAT_FOOD);
                 language = Language.COLLECT_FOOD;
-                score += 50;
+                events.score(50);
             } else { // prezel
-                soundEffects.eatFoodSound.play();
+                events.sound(SoundEffect.EAT_FOOD);
                 language = Language.COLLECT_PRETZEL;
-                score += 50;
+                events.score(50);
             }
 
-            showMessage(new LanguageUiMessage(language), item.getBoundingRectangle());
+            LanguageUiMessage message = languageMessagePool.obtain();
+            message.init(language);
+            events.message(message, item.getBoundingRectangle());
         }
 
         @Override
         public void hit(Player player) {
             if (player.isBig()) {
-                soundEffects.randomComplainSound().play();
+                events.sound(SoundEffect.COMPLAIN);
             }
         }
 
         @Override
         public void hit(Player player, Brick brick, boolean closeEnough) {
             if (!closeEnough) {
-                soundEffects.bumpSound.play();
+                events.sound(SoundEffect.BUMP);
             } else if (player.isBig()) {
-                soundEffects.breakBlockSound.play();
+                events.sound(SoundEffect.BREAK_BLOCK);
             } else {
-                soundEffects.bumpSound.play();
+                events.sound(SoundEffect.BUMP);
             }
         }
 
         @Override
         public void hit(Player player, ItemBox itemBox, Vector2 position, boolean closeEnough) {
             if (itemBox.isBlank() || !closeEnough) {
-                soundEffects.bumpSound.play();
+                events.sound(SoundEffect.BUMP);
                 return;
             }
 
             if (itemBox.isFoodBox()) {
                 if (player.isBig()) {
-                    spawnItem(new ItemDef(position, PretzelItem.class));
+                    spawnItem(position, PretzelItem.class);
                 } else {
-                    spawnItem(new ItemDef(position, GrilledChickenItem.class));
+                    spawnItem(position, GrilledChickenItem.class);
                 }
-                soundEffects.bumpSound.play();
+                events.sound(SoundEffect.BUMP);
                 return;
             } else if (itemBox.isFoodIfSmallBox()) {
                 if (!player.isBig()) {
-                    spawnItem(new ItemDef(position, GrilledChickenItem.class));
-                    soundEffects.bumpSound.play();
+                    spawnItem(position, GrilledChickenItem.class);
+                    events.sound(SoundEffect.BUMP);
                     return;
                 }
                 // else: coin
             } else if (itemBox.isForcedPretzelBox()) {
-                spawnItem(new ItemDef(position, PretzelItem.class));
-                soundEffects.bumpSound.play();
+                spawnItem(position, PretzelItem.class);
+                events.sound(SoundEffect.BUMP);
                 return;
             } else if (itemBox.isBeerBox()) {
-                spawnItem(new ItemDef(position, BeerItem.class));
-                soundEffects.beerSpawnSound.play();
-                Timer.schedule(new Timer.Task() {
-                    @Override
-                    public void run() {
-                        soundEffects.playRandomSpotBeerSound();
-                    }
-                }, 0.75f);
+                spawnItem(position, BeerItem.class);
+                events.sound(SoundEffect.BEER_SPAWN);
+                scheduler.schedule(SoundEffect.SPOT_BEER, 0.75f);
                 return;
             }
 
-            soundEffects.coinSpawnSound.play();
-            BoxCoin boxCoin = new BoxCoin(atlas, itemBox.getBody().getWorldCenter());
+            events.sound(SoundEffect.COIN_SPAWN);
+            BoxCoin boxCoin = boxCoinPool.obtain();
+            boxCoin.spawn(itemBox.getBody().getWorldCenter());
             activeBoxCoins.add(boxCoin);
-            score += Cfg.BOX_COIN_SCORE;
+            events.score(Cfg.BOX_COIN_SCORE);
             // score is shown later when the itemBox disappears
         }
 
         @Override
-        public void indirectObjectHit(InteractiveTileObject tileObject, String objectId) {
+        public void indirectObjectHit(InteractiveTileObject tileObject, int objectId) {
             Enemy enemy = enemies.get(objectId);
             if (enemy != null) {
                 enemy.kill(1.0f);
@@ -294,34 +446,34 @@ public class GameController  implements BinarySerializable, Disposable {
         @Override
         public void spotted(ItemBox itemBox) {
             if (itemBox.isBeerBox()) {
-                soundEffects.playRandomNeedBeerSound();
+                events.sound(SoundEffect.NEED_BEER);
             }
         }
 
         @Override
         public void kicked(Enemy enemy) {
-            soundEffects.kickedSound.play();
+            events.sound(SoundEffect.KICKED);
         }
 
         @Override
         public void touchedWater(Drownable drownable) {
             float volume = getVolumeBasedOnDistanceToCameraCenter(drownable.getWorldCenter().x);
             if (volume > 0) {
-                soundEffects.splashSound.play(volume);
+                events.sound(SoundEffect.SPLASH, volume);
             }
         }
 
         @Override
         public void collectCoin() {
-            soundEffects.coinSound.play(0.5f);
-            score += Cfg.COIN_SCORE;
+            events.sound(SoundEffect.COIN, 0.5f);
+            events.score(Cfg.COIN_SCORE);
         }
 
         @Override
         public void killed(Enemy enemy) {
             float volume = getVolumeBasedOnDistanceToCameraCenter(enemy.getBody().getWorldCenter().x);
             if (volume > 0) {
-                soundEffects.kickedSound.play(volume);
+                events.sound(SoundEffect.KICKED, volume);
             }
             playEnemyKillSound(enemy, volume);
             notifyAndShowKill(enemy);
@@ -330,9 +482,10 @@ public class GameController  implements BinarySerializable, Disposable {
         private void notifyAndShowKill(Enemy enemy) {
             KillSequelManager killSequelManager = getKillSequelManager();
             killSequelManager.notifyKill();
-            score += killSequelManager.getKillScore();
-            showMessage(new StringUiMessage(killSequelManager.getKillScoreText()),
-                    enemy.getBoundingRectangle());
+            events.score((int) killSequelManager.getKillScore());
+            StringUiMessage message = stringMessagePool.obtain();
+            message.init(killSequelManager.getKillScoreText());
+            events.message(message, enemy.getBoundingRectangle());
         }
 
         private void playEnemyKillSound(Enemy enemy, float volume) {
@@ -340,13 +493,13 @@ public class GameController  implements BinarySerializable, Disposable {
                 if (enemy instanceof Hedgehog || enemy instanceof Fish) {
                     // no sound
                 } else if (enemy instanceof Fox) {
-                    soundEffects.whineSound.play(volume);
+                    events.sound(SoundEffect.WHINE, volume);
                 } else if (enemy instanceof Frog) {
-                    soundEffects.frogSound.play(volume * 0.5f);
+                    events.sound(SoundEffect.FROG, volume * 0.5f);
                 } else if (enemy instanceof Raven) {
-                    soundEffects.ravenSound.play(volume);
+                    events.sound(SoundEffect.RAVEN, volume);
                 } else if (enemy instanceof DrunkenGuy) {
-                    soundEffects.playRandomBurpSound(volume);
+                    events.sound(SoundEffect.BURP, volume);
                 }
             }
         }
@@ -358,7 +511,7 @@ public class GameController  implements BinarySerializable, Disposable {
                 if (hedgehog.getState() == Hedgehog.State.ROLLING) {
                     float volume = getVolumeBasedOnDistanceToCameraCenter(enemy.getBody().getWorldCenter().x);
                     if (volume > 0) {
-                        soundEffects.bumpSound.play(volume);
+                        events.sound(SoundEffect.BUMP, volume);
                     }
                 }
             }
@@ -368,7 +521,7 @@ public class GameController  implements BinarySerializable, Disposable {
         public void hitWall(PretzelBullet pretzelBullet) {
             float volume = getVolumeBasedOnDistanceToCameraCenter(pretzelBullet.getBody().getWorldCenter().x);
             if (volume > 0) {
-                soundEffects.kickedSound.play(volume / 2f);
+                events.sound(SoundEffect.KICKED, volume / 2f);
             }
         }
 
@@ -379,7 +532,7 @@ public class GameController  implements BinarySerializable, Disposable {
 
         @Override
         public void fire() {
-            soundEffects.fireSound.play();
+            events.sound(SoundEffect.FIRE);
         }
 
         @Override
@@ -394,50 +547,40 @@ public class GameController  implements BinarySerializable, Disposable {
         public void unlockGoalBrick(Brick brick) {
             float volume = getVolumeBasedOnDistanceToCameraCenter(brick.getBody().getWorldCenter().x);
             if (volume > 0) {
-                soundEffects.breakBlockSound.play();
+                events.sound(SoundEffect.BREAK_BLOCK);
             }
         }
 
+        @Override
+        public void shatter(InteractiveTileObject tileObject, String fragmentTemplateRegionName) {
+            fragments.emit(tileObject.getBounds(), fragmentTemplateRegionName);
+        }
+
         @Override
         public void goalReached() {
             backgroundMusic.setVolume(0f, false);
-            soundEffects.successSound.play();
+            events.sound(SoundEffect.SUCCESS);
 
-            Timer.schedule(new Timer.Task() {
-                @Override
-                public void run() {
-                    soundEffects.randomVictorySound().play();
-                }
-            }, 1f);
+            scheduler.schedule(SoundEffect.VICTORY, 1f);
         }
 
         @Override
         public void playerDied() {
             backgroundMusic.setVolume(0.1f, false);
-            soundEffects.randomShoutSound().play();
+            events.sound(SoundEffect.SHOUT);
             Gdx.input.vibrate(250);
 
-            Timer.schedule(new Timer.Task() {
-                @Override
-                public void run() {
-                    soundEffects.randomSwearingSound().play();
-                }
-            }, 0.75f);
+            scheduler.schedule(SoundEffect.SWEARING, 0.75f);
         }
 
         @Override
         public void startPlayerDrowning() {
-            Timer.schedule(new Timer.Task() {
-                @Override
-                public void run() {
-                    soundEffects.randomDrownSound().play();
-                }
-            }, 0.5f);
+            scheduler.schedule(SoundEffect.DROWN, 0.5f);
         }
 
         @Override
         public void endPlayerDrowning() {
-            soundEffects.randomShoutSound().play();
+            events.sound(SoundEffect.SHOUT);
         }
 
         @Override
@@ -465,6 +608,7 @@ public class GameController  implements BinarySerializable, Disposable {
     private final Vector2 clickScreenPosition = new Vector2();
     private boolean markBackToMenu;
     private boolean markReset;
+    private boolean markRespawn;
 
     private final PauseOverlay.Callback pauseCallback = new PauseOverlay.Callback() {
         @Override
@@ -500,43 +644,59 @@ public class GameController  implements BinarySerializable, Disposable {
         public void restart() {
             LOG.debug("RESTART pressed");
             markReset = true;
+            markRespawn = true;
         }
     };
 
     private final GameScreenCallbacks screenCallbacks;
 
-    public GameController(final GameScreenCallbacks screenCallbacks, GameApp game, final GameSoundEffects soundEffects,
-                          int level, FileHandle gameToResume) {
-        this.level = level;
+    /**
+     * Creates the game simulation. It does not create any rendering or audio resources itself, so
+     * that it can run without a display, e.g. by passing silent sound effects and music players.
+     * The prepared level is disposed as soon as the map of the level has been created.
+     */
+    public GameController(final GameScreenCallbacks screenCallbacks, TextureAtlas atlas,
+                          final GameSoundEffects soundEffects,
+                          MusicPlayer backgroundMusic, MusicPlayer foregroundMusic,
+                          PreparedLevel preparedLevel, FileHandle gameToResume) {
+        this.level = preparedLevel.getLevel();
+        this.levelData = preparedLevel.getLevelData();
+        this.preparedLevel = preparedLevel;
         this.gameToResume = gameToResume;
         this.screenCallbacks = screenCallbacks;
         this.soundEffects = soundEffects;
-        this.atlas = new TextureAtlas(AssetPaths.Atlas.GAMEPLAY);
+        this.atlas = atlas;
+
+        enemyRegistry = EnemyTypes.createRegistry(callbacks, atlas);
+        itemRegistry = ItemTypes.createRegistry(callbacks, atlas);
 
-        mapLoader = new TmxMapLoader();
-        enemies = new ObjectMap<>();
+        levelLoader = new LevelLoader();
+        enemies = new IntMap<>();
         platforms = new Array<>();
         coins = new Array<>();
 
-        items = new ObjectMap<>();
-        itemsToSpawn = new LinkedBlockingQueue<>();
+        items = new IntMap<>();
+        itemsToSpawn = new Queue<>();
 
         activeBoxCoins = new Array<>();
 
-        uiMessages = new LinkedBlockingQueue<>();
+        fragments = new FragmentSystem(atlas,
+                RegionNames.BRICK_FRAGMENT_TPL, RegionNames.BOX_FRAGMENT_TPL);
+
+        uiMessages = new Queue<>();
 
         killSequelManager = new KillSequelManager(new KillSequelManager.Callbacks() {
             @Override
             public void completed(int count) {
                 if (count > 1) {
                     screenCallbacks.reportKillSequelFinished(count);
-                    soundEffects.playRandomBoostSound();
+                    events.sound(SoundEffect.BOOST);
                 }
             }
         });
 
-        this.backgroundMusic = game.getBackgroundMusic();
-        this.foregroundMusic = game.getForegroundMusic();
+        this.backgroundMusic = backgroundMusic;
+        this.foregroundMusic = foregroundMusic;
 
         camera = new OrthographicCamera();
         viewport = new StretchViewport(
@@ -550,69 +710,88 @@ public class GameController  implements BinarySerializable, Disposable {
     }
 
     private void reset() {
+        long startTime = System.nanoTime();
+        boolean respawn = markRespawn && !checkpointSnapshot.isEmpty();
+        markRespawn = false;
+        if (!respawn) {
+            checkpointSnapshot.reset();
+        }
+
         stateBeforePause = GameState.UNDEFINED;
         state = GameState.PLAYING;
 
         if (world != null) {
             world.dispose();
+            // the pooled entities belong to the disposed world
+            enemyRegistry.clear();
+            itemRegistry.clear();
         }
 
         this.world = new World(new Vector2(0,Cfg.GRAVITY), true);
         this.world.setContactListener(new WorldContactListener());
 
         killSequelManager.reset();
-
-        initMap(level);
-
-        WorldCreator worldCreator = new WorldCreator(callbacks, world, map, atlas);
-        worldCreator.buildFromMap();
+        ids.reset();
 
         enemies.clear();
         platforms.clear();
         coins.clear();
         items.clear();
-        itemsToSpawn.clear();
-        activeBoxCoins.clear();
-        uiMessages.clear();
-
-        WorldCreator.StartParams start = worldCreator.getStart();
-        Rectangle goal = worldCreator.getGoal();
-
-        LevelInfo levelInfo = LevelMetadata.getLevelInfo(level);
-        player = new Player(callbacks, world, atlas, start, levelInfo.getTime());
-
-        tent = new Tent(atlas, goal);
-
-        platforms.addAll(worldCreator.createPlatforms());
-        tileObjects = worldCreator.getTileObjects();
-        spikesList = worldCreator.getSpikeRegions();
+        clearItemsToSpawn();
+        clearBoxCoins();
+        fragments.clear();
+        clearUiMessages();
+        events.clear(eventHandler);
+        scheduler.clear();
+
+        if (prototype != null) {
+            restoreLevel(!respawn);
+        } else {
+            buildLevel(gameToResume == null && !respawn);
+        }
+        if (!respawn) {
+            Arrays.fill(reachedCheckpoints, false);
+        }
 
         totalBeers = getTotalBeers();
         updateCollectedBeers(0);
         score = 0;
 
-        if (gameToResume != null) {
+        if (respawn) {
+            if (!BinarySerializer.read(this, checkpointSnapshot.read())) {
+                LOG.error("Could not restore checkpoint");
+            }
+        } else if (gameToResume != null) {
             load(gameToResume);
+            // restarting the level later on starts from scratch, and not from the saved game
+            gameToResume = null;
         } else {
-            for (Enemy enemy : worldCreator.createEnemies()) {
-                enemies.put(enemy.getId(), enemy);
-            }
-            coins.addAll(worldCreator.createCoins());
-
             backgroundMusic.selectMusic(AssetPaths.Music.NORMAL_AUDIO);
             backgroundMusic.setVolume(MusicPlayer.MAX_VOLUME, true);
             backgroundMusic.playFromBeginning();
         }
 
-        enemySignalTriggers = worldCreator.getEnemySignalTriggers();
+        // the next autosave writes the whole state, because the saved game does not match anymore
+        savedDataId = NO_SAVED_DATA;
+        autosaveTimer = 0f;
+        removedEnemyIds.clear();
+        removedItemIds.clear();
+        collectedCoinIndices.clear();
 
-        infoSings = worldCreator.getInfoSigns();
-        infoHelps = worldCreator.getInfoHelps();
+        // open the music that can be switched to during the level, to avoid any I/O hitches
+        backgroundMusic.preload(AssetPaths.Music.HURRY_AUDIO);
+        for (String tentSong : TENT_SONGS) {
+            foregroundMusic.preload(tentSong);
+        }
 
         camera.position.set(player.getBody().getPosition(), 0);
         updateCameraPosition();
+        // update the frustum as well, which would otherwise still be the one of the previous run
+        // when the objects in view are checked for the first time after a restart
+        camera.update();
+
+        indexLevelObjects();
 
-        waterList = worldCreator.getWaterRegions();
         waterInteractionManager.reset();
         waterInteractionManager.setWaterRegions(waterList);
 
@@ -624,12 +803,110 @@ public class GameController  implements BinarySerializable, Disposable {
             }
         }
 
+        munichRatio = 0f;
+
+        accumulator = 0f;
+        storePreviousPositions();
+
+        tick = 0;
+        if (recordingTape != null) {
+            recordingTape.clear();
+        }
+
+        if (respawn) {
+            LOG.debug(String.format(Locale.ROOT, "Respawned at checkpoint in %.2f ms",
+                    (System.nanoTime() - startTime) / 1e6f));
+        }
+    }
+
+    /**
+     * Builds the level from the map. When starting a new game, the created entities are kept as
+     * the prototype of the level, so that a restart does not have to create them again. The
+     * enemies and coins are not created in case they are restored from a saved state afterwards.
+     */
+    private void buildLevel(boolean withEnemiesAndCoins) {
+        initMap(level);
+
+        WorldCreator worldCreator = new WorldCreator(callbacks, world, map, levelData, atlas);
+        worldCreator.buildFromMap();
+
+        WorldCreator.StartParams start = worldCreator.getStart();
+        Rectangle goal = worldCreator.getGoal();
+
+        LevelInfo levelInfo = LevelMetadata.getLevelInfo(level);
+        if (player != null) {
+            // there is no prototype yet that could keep the previous player
+            player.dispose();
+        }
+        player = new Player(callbacks, world, atlas, start, levelInfo.getTime());
+
+        tent = new Tent(atlas, goal);
+
+        platforms.addAll(worldCreator.createPlatforms());
+        for (Platform platform : platforms) {
+            platform.setId(ids.next());
+        }
+        tileObjects = worldCreator.getTileObjects();
+        for (InteractiveTileObject tileObject : tileObjects) {
+            tileObject.setId(ids.next());
+        }
+        spikesList = worldCreator.getSpikeRegions();
+
+        if (withEnemiesAndCoins) {
+            Array<Enemy> createdEnemies = worldCreator.createEnemies();
+            for (Enemy enemy : createdEnemies) {
+                enemy.setId(ids.next());
+                enemies.put(enemy.getId(), enemy);
+            }
+            coins.addAll(worldCreator.createCoins());
+
+            prototype = new LevelPrototype(start, player, tileObjects, platforms,
+                    createdEnemies, coins);
+        }
+
+        enemySignalTriggers = worldCreator.getEnemySignalTriggers();
+
+        infoSings = worldCreator.getInfoSigns();
+        infoHelps = worldCreator.getInfoHelps();
+
+        waterList = worldCreator.getWaterRegions();
+
+        checkpoints = worldCreator.getCheckpointRegions();
+        reachedCheckpoints = new boolean[checkpoints.size];
+
         poles.clear();
         for (Rectangle poleRect : worldCreator.getPoleRegions()) {
             poles.add(new Pole(atlas, poleRect));
         }
+    }
 
-        munichRatio = 0f;
+    /**
+     * Restarts the level by respawning the entities of the prototype in the new world, while the
+     * map and the regions of the level are kept.
+     */
+    private void restoreLevel(boolean withEnemiesAndCoins) {
+        WorldCreator worldCreator = new WorldCreator(callbacks, world, map, levelData, atlas);
+        worldCreator.buildStaticBodies();
+
+        prototype.restore(world, withEnemiesAndCoins);
+
+        player = prototype.getPlayer();
+        tent.reset();
+
+        for (Platform platform : prototype.getPlatforms()) {
+            ids.reserve(platform.getId());
+            platforms.add(platform);
+        }
+        for (InteractiveTileObject tileObject : tileObjects) {
+            ids.reserve(tileObject.getId());
+        }
+        if (withEnemiesAndCoins) {
+            for (Enemy enemy : prototype.getEnemies()) {
+                ids.reserve(enemy.getId());
+                enemies.put(enemy.getId(), enemy);
+            }
+            coins.addAll(prototype.getCoins());
+        }
     }
 
     private void initMap(int level) {
@@ -639,22 +916,75 @@ public class GameController  implements BinarySerializable, Disposable {
             map.dispose();
         }
 
-        this.map = mapLoader.load(String.format(Locale.ROOT, "maps/level%02d.tmx", level));
-        float mapWidth = map.getProperties().get("width", Integer.class);
-        float mapHeight = map.getProperties().get("height", Integer.class);
-        float tilePixelWidth = map.getProperties().get("tilewidth", Integer.class);
-        float tilePixelHeight = map.getProperties().get("tileheight", Integer.class);
+        if (preparedLevel != null) {
+            this.map = levelLoader.createMap(preparedLevel);
+            // the decoded images are only needed to create the textures, which are kept by the loader
+            preparedLevel.dispose();
+            preparedLevel = null;
+        } else {
+            // the level data is not modified by the game, so it is reused when restarting
+            this.map = levelLoader.createMap(levelData);
+        }
+        float mapWidth = levelData.getWidth();
+        float mapHeight = levelData.getHeight();
+        float tilePixelWidth = levelData.getTileWidth();
+        float tilePixelHeight = levelData.getTileHeight();
         this.mapPixelWidth = mapWidth * tilePixelWidth / Cfg.PPM;
         this.mapPixelHeight = mapHeight * tilePixelHeight / Cfg.PPM;
     }
 
     public void update(float delta) {
+        if (state.isPlaying() && !player.isVictory()) {
+            // polled once per frame, because just-pressed keys are only reported for a single frame
+            checkPauseInput();
+        }
+
+        if (!Cfg.FIXED_TIMESTEP) {
+            step(delta);
+            interpolationAlpha = 1f;
+            events.flush(eventHandler);
+            return;
+        }
+
+        accumulator += delta;
+        int steps = 0;
+        while (accumulator >= SIMULATION_STEP_TIME && steps < Cfg.MAX_SIMULATION_STEPS_PER_FRAME) {
+            storePreviousPositions();
+            step(SIMULATION_STEP_TIME);
+            accumulator -= SIMULATION_STEP_TIME;
+            steps++;
+        }
+
+        if (accumulator >= SIMULATION_STEP_TIME) {
+            // we could not catch up, so drop the remaining time instead of spiraling into even
+            // more steps in the next frame
+            accumulator %= SIMULATION_STEP_TIME;
+        }
+
+        interpolationAlpha = accumulator / SIMULATION_STEP_TIME;
+
+        events.flush(eventHandler);
+    }
+
+    private void storePreviousPositions() {
+        player.storePreviousPosition();
+        for (Enemy enemy : enemies.values()) {
+            enemy.storePreviousPosition();
+        }
+        for (Platform platform : platforms) {
+            platform.storePreviousPosition();
+        }
+        previousCameraPosition.set(camera.position.x, camera.position.y);
+    }
+
+    private void step(float delta) {
         if (state.isPaused() || state.isGameOver()) {
             postUpdate();
             return;
         }
 
         gameTime += delta;
+        scheduler.update(delta, events);
         world.step(delta, 8, 3);
 
         if (!player.isVictory()) {
@@ -685,23 +1015,19 @@ public class GameController  implements BinarySerializable, Disposable {
 
         for (InteractiveTileObject tileObject : tileObjects) {
             tileObject.update(delta);
-
-            if (tileObject instanceof ItemBox) {
-                ItemBox itemBox = (ItemBox) tileObject;
-
-                if (!itemBox.isSpotted() && isVisibleInView(itemBox.getBounds())) {
-                    itemBox.isInCameraView();
-                }
-            }
         }
+        fragments.update(delta);
+        spotItemBoxesInView();
 
 
 
         for(BoxCoin boxCoin : activeBoxCoins) {
             if (boxCoin.isFinished()) {
-                showMessage(new StringUiMessage(Cfg.BOX_COIN_SCORE_STRING),
-                        boxCoin.getBoundingRectangle());
+                StringUiMessage message = stringMessagePool.obtain();
+                message.init(Cfg.BOX_COIN_SCORE_STRING);
+                events.message(message, boxCoin.getBoundingRectangle());
                 activeBoxCoins.removeValue(boxCoin, true);
+                boxCoinPool.free(boxCoin);
             } else {
                 boxCoin.update(delta);
             }
@@ -709,6 +1035,7 @@ public class GameController  implements BinarySerializable, Disposable {
 
         updateCameraPosition();
         camera.update();
+        updateObjectsInView();
 
         if (getTimeToLive() == Cfg.HURRY_WARNING_TIME) {
             callbacks.hurry();
@@ -734,7 +1061,38 @@ public class GameController  implements BinarySerializable, Disposable {
             state = GameState.GAME_OVER;
         }
 
+        tick++;
+
         postUpdate();
+        checkCheckpoints();
+        updateAutosave(delta);
+    }
+
+    private void checkCheckpoints() {
+        if (player.isDead() || player.isDrowning() || player.isVictory()) {
+            return;
+        }
+
+        Vector2 playerCenter = player.getWorldCenter();
+        for (int i = 0; i < checkpoints.size; ++i) {
+            if (!reachedCheckpoints[i] && checkpoints.get(i).contains(playerCenter)) {
+                reachedCheckpoints[i] = true;
+                takeCheckpointSnapshot();
+            }
+        }
+    }
+
+    /**
+     * Takes a snapshot of the whole game state into memory, which is restored when the player
+     * restarts after the game is over.
+     */
+    private void takeCheckpointSnapshot() {
+        checkpointSnapshot.reset();
+        if (!BinarySerializer.write(this, checkpointSnapshot)) {
+            LOG.error("Could not take checkpoint snapshot");
+            checkpointSnapshot.reset();
+        }
+        LOG.debug("Reached checkpoint");
     }
 
     private void updateInfoSignMessage(float delta) {
@@ -838,8 +1196,13 @@ public class GameController  implements BinarySerializable, Disposable {
 
             if (enemy.isRemovable()) {
                 LOG.debug("Remove: " + enemy);
-                enemy.dispose();
+                sleepingEnemies.remove(enemy, enemy.getBoundingRectangle());
+                if (enemy.hasGroup()) {
+                    enemyGroups.get(enemy.getGroup()).removeValue(enemy, true);
+                }
                 enemies.remove(enemy.getId());
+                removedEnemyIds.add(enemy.getId());
+                enemyRegistry.free(enemy);
             }
         }
 
@@ -847,21 +1210,29 @@ public class GameController  implements BinarySerializable, Disposable {
             item.postUpdate();
 
             if (item.isRemovable()) {
-                item.dispose();
                 items.remove(item.getId());
+                removedItemIds.add(item.getId());
 
                 if (item instanceof Drownable) {
                     waterInteractionManager.remove((Drownable) item);
                 }
+                itemRegistry.free(item);
             }
         }
 
-        for (Coin coin : coins) {
+        // coins can only be collected by the player, so only the coins in view can be removed
+        for (int i = coinsInView.size - 1; i >= 0; --i) {
+            Coin coin = coinsInView.get(i);
             coin.postUpdate();
 
             if (coin.isRemovable()) {
+                coinIndex.remove(coin, coin.getBoundingRectangle());
+                coinsInView.removeIndex(i);
                 coin.dispose();
                 coins.removeValue(coin, true);
+                if (coin.getSaveIndex() != Coin.NO_SAVE_INDEX) {
+                    collectedCoinIndices.add(coin.getSaveIndex());
+                }
             }
         }
 
@@ -869,8 +1240,8 @@ public class GameController  implements BinarySerializable, Disposable {
             completeLevel();
         }
 
-        if (!uiMessages.isEmpty() && !uiMessages.peek().isAlive()) {
-            uiMessages.poll();
+        if (!uiMessages.isEmpty() && !uiMessages.first().isAlive()) {
+            freeUiMessage(uiMessages.removeFirst());
         }
 
         PretzelBullet pretzelBullet = player.getPretzelBullet();
@@ -881,11 +1252,13 @@ public class GameController  implements BinarySerializable, Disposable {
         }
 
         // cleanup jump-through ID of platform for player
-        if (player.getLastJumpThroughPlatformId() != null) {
+        if (player.hasLastJumpThroughPlatformId()) {
             for (Platform platform : platforms) {
-                if (platform.getId().equals(player.getLastJumpThroughPlatformId()) &&
-                        !player.getBoundingRectangle().overlaps(platform.getBoundingRectangle())) {
-                    player.setLastJumpThroughPlatformId(null);
+                if (platform.getId() == player.getLastJumpThroughPlatformId()) {
+                    if (!player.getBoundingRectangle().overlaps(platform.getBoundingRectangle())) {
+                        player.setLastJumpThroughPlatformId(IdAllocator.NONE);
+                    }
+                    break;
                 }
             }
         }
@@ -906,16 +1279,37 @@ public class GameController  implements BinarySerializable, Disposable {
             return;
         }
 
-        ItemDef itemDef = itemsToSpawn.poll();
-        Item item;
-        if (itemDef.getType() == GrilledChickenItem.class) {
-            item = new GrilledChickenItem(callbacks, world, atlas, itemDef.getPosition().x, itemDef.getPosition().y);
-        } else if (itemDef.getType() == PretzelItem.class) {
-            item = new PretzelItem(callbacks, world, atlas, itemDef.getPosition().x, itemDef.getPosition().y);
+        ItemDef itemDef = itemsToSpawn.removeFirst();
+        Item item = itemRegistry.create(itemDef.getType(), world,
+                itemDef.getPosition().x, itemDef.getPosition().y);
+        item.setId(ids.next());
+        items.put(item.getId(), item);
+        itemDefPool.free(itemDef);
+    }
+
+    private void clearItemsToSpawn() {
+        while (!itemsToSpawn.isEmpty()) {
+            itemDefPool.free(itemsToSpawn.removeFirst());
+        }
+    }
+
+    private void clearBoxCoins() {
+        boxCoinPool.freeAll(activeBoxCoins);
+        activeBoxCoins.clear();
+    }
+
+    private void freeUiMessage(UiMessage<?> message) {
+        if (message instanceof LanguageUiMessage) {
+            languageMessagePool.free((LanguageUiMessage) message);
         } else {
-            item = new BeerItem(callbacks, world, atlas, itemDef.getPosition().x, itemDef.getPosition().y);
+            stringMessagePool.free((StringUiMessage) message);
+        }
+    }
+
+    private void clearUiMessages() {
+        while (!uiMessages.isEmpty()) {
+            freeUiMessage(uiMessages.removeFirst());
         }
-        items.put(item.getId(), item);
     }
 
     private void showMessage(UiMessage message, Rectangle rect) {
@@ -927,7 +1321,7 @@ public class GameController  implements BinarySerializable, Disposable {
         float normalizedX = (x - cameraLeft) / Cfg.BLOCKS_X;
         float normalizedY = (y - cameraBottom) / Cfg.BLOCKS_Y;
         message.setPosition(normalizedX, normalizedY);
-        uiMessages.add(message);
+        uiMessages.addLast(message);
     }
 
     private boolean isVisibleInRenderArea(Rectangle rect) {
@@ -951,25 +1345,15 @@ public class GameController  implements BinarySerializable, Disposable {
         for (Item item : items.values()) {
             item.update(delta);
         }
-        for (Coin coin : coins) {
+        for (Coin coin : coinsInView) {
             coin.update(delta);
         }
     }
 
     private void updateEnemies(float delta) {
-        String groupToTrigger = getEnemyGroupToTrigger();
-
         for (Enemy enemy : enemies.values()) {
             enemy.update(delta);
 
-            if (!enemy.isActive() && isVisibleInRenderArea(enemy.getBoundingRectangle())) {
-                enemy.setActive(true);
-
-                if (enemy.hasGroup()) {
-                    wakeUpEnemies(enemy.getGroup());
-                }
-            }
-
             if (!player.isDead() && !player.isDrowning()) {
                 if (enemy instanceof Fox) {
                     ((Fox) enemy).setPlayerPosition(player.getBody().getPosition());
@@ -978,9 +1362,33 @@ public class GameController  implements BinarySerializable, Disposable {
                     ((Raven) enemy).setPlayerPosition(player.getBody().getPosition());
                 }
             }
+        }
+
+        activateEnemiesInView();
+
+        String groupToTrigger = getEnemyGroupToTrigger();
+        if (groupToTrigger != null) {
+            Array<Enemy> group = enemyGroups.get(groupToTrigger);
+            if (group != null) {
+                for (int i = 0; i < group.size; ++i) {
+                    group.get(i).notifySignal();
+                }
+            }
+        }
+    }
+
+    private void activateEnemiesInView() {
+        nearbyEnemies.clear();
+        sleepingEnemies.query(getViewLeft(), getViewRight(), nearbyEnemies);
+        for (int i = 0; i < nearbyEnemies.size; ++i) {
+            Enemy enemy = nearbyEnemies.get(i);
+            if (!enemy.isActive() && isVisibleInRenderArea(enemy.getBoundingRectangle())) {
+                enemy.setActive(true);
+                sleepingEnemies.remove(enemy, enemy.getBoundingRectangle());
 
-            if (groupToTrigger != null && groupToTrigger.equals(enemy.getGroup())) {
-                enemy.notifySignal();
+                if (enemy.hasGroup()) {
+                    wakeUpEnemies(enemy.getGroup());
+                }
             }
         }
     }
@@ -995,14 +1403,16 @@ public class GameController  implements BinarySerializable, Disposable {
     }
 
     private void wakeUpEnemies(String enemyGroup) {
-        if (enemyGroup == null) {
+        Array<Enemy> group = enemyGroups.get(enemyGroup);
+        if (group == null) {
             return;
         }
 
-        for (String enemyId : enemies.keys()) {
-            Enemy enemy = enemies.get(enemyId);
-            if (enemyGroup.equals(enemy.getGroup()) && !enemy.isActive()) {
+        for (int i = 0; i < group.size; ++i) {
+            Enemy enemy = group.get(i);
+            if (!enemy.isActive()) {
                 enemy.setActive(true);
+                sleepingEnemies.remove(enemy, enemy.getBoundingRectangle());
             }
         }
     }
@@ -1010,9 +1420,15 @@ public class GameController  implements BinarySerializable, Disposable {
     private void updatePlatforms(float delta) {
         for (Platform platform : platforms) {
             platform.update(delta);
+        }
 
+        nearbyPlatforms.clear();
+        sleepingPlatforms.query(getViewLeft(), getViewRight(), nearbyPlatforms);
+        for (int i = 0; i < nearbyPlatforms.size; ++i) {
+            Platform platform = nearbyPlatforms.get(i);
             if (!platform.isActive() && isVisibleInRenderArea(platform.getBoundingRectangle())) {
                 platform.setActive(true);
+                sleepingPlatforms.remove(platform, platform.getBoundingRectangle());
 
                 if (platform.hasGroup()) {
                     wakeUpPlatforms(platform.getGroup());
@@ -1021,17 +1437,101 @@ public class GameController  implements BinarySerializable, Disposable {
         }
     }
 
-    private void wakeUpPlatforms(String group) {
+    private void wakeUpPlatforms(String platformGroup) {
+        Array<Platform> group = platformGroups.get(platformGroup);
         if (group == null) {
             return;
         }
 
-        for (int i = 0; i < platforms.size; ++i) {
-            Platform platform = platforms.get(i);
-            if (group.equals(platform.getGroup()) && !platform.isActive()) {
+        for (int i = 0; i < group.size; ++i) {
+            Platform platform = group.get(i);
+            if (!platform.isActive()) {
                 platform.setActive(true);
+                sleepingPlatforms.remove(platform, platform.getBoundingRectangle());
+            }
+        }
+    }
+
+    private void spotItemBoxesInView() {
+        nearbyItemBoxes.clear();
+        unspottedItemBoxes.query(getViewLeft(), getViewRight(), nearbyItemBoxes);
+        for (int i = 0; i < nearbyItemBoxes.size; ++i) {
+            ItemBox itemBox = nearbyItemBoxes.get(i);
+            if (!itemBox.isSpotted() && isVisibleInView(itemBox.getBounds())) {
+                itemBox.isInCameraView();
+                unspottedItemBoxes.remove(itemBox, itemBox.getBounds());
+            }
+        }
+    }
+
+    /**
+     * Builds the spatial indices of the level objects, so that the per-frame checks only have to
+     * look at the objects close to the camera.
+     */
+    private void indexLevelObjects() {
+        sleepingEnemies.clear();
+        enemyGroups.clear();
+        for (Enemy enemy : enemies.values()) {
+            if (!enemy.isActive()) {
+                sleepingEnemies.add(enemy, enemy.getBoundingRectangle());
+            }
+            if (enemy.hasGroup()) {
+                addToGroup(enemyGroups, enemy.getGroup(), enemy);
+            }
+        }
+
+        sleepingPlatforms.clear();
+        platformGroups.clear();
+        for (Platform platform : platforms) {
+            if (!platform.isActive()) {
+                sleepingPlatforms.add(platform, platform.getBoundingRectangle());
             }
+            if (platform.hasGroup()) {
+                addToGroup(platformGroups, platform.getGroup(), platform);
+            }
+        }
+
+        unspottedItemBoxes.clear();
+        for (InteractiveTileObject tileObject : tileObjects) {
+            if (tileObject instanceof ItemBox && !((ItemBox) tileObject).isSpotted()) {
+                unspottedItemBoxes.add((ItemBox) tileObject, tileObject.getBounds());
+            }
+        }
+
+        coinIndex.clear();
+        for (Coin coin : coins) {
+            coinIndex.add(coin, coin.getBoundingRectangle());
+        }
+
+        updateObjectsInView();
+    }
+
+    private static <T> void addToGroup(ObjectMap<String, Array<T>> groups, String group, T object) {
+        Array<T> members = groups.get(group);
+        if (members == null) {
+            members = new Array<>();
+            groups.put(group, members);
         }
+        members.add(object);
+    }
+
+    /**
+     * Collects the static objects within the columns around the camera, which are the only ones that
+     * need to be updated and rendered.
+     */
+    private void updateObjectsInView() {
+        float left = getViewLeft() - INDEX_COLUMN_WIDTH;
+        float right = getViewRight() + INDEX_COLUMN_WIDTH;
+        coinsInView.clear();
+        coinIndex.query(left, right, coinsInView);
+    }
+
+    private float getViewLeft() {
+        return camera.position.x - viewport.getWorldWidth() / 2;
+    }
+
+    private float getViewRight() {
+        return camera.position.x + viewport.getWorldWidth() / 2;
     }
 
     private void updateCollectedBeers(int value) {
@@ -1070,9 +1570,11 @@ public class GameController  implements BinarySerializable, Disposable {
         tent.open();
     }
 
-    private void spawnItem(ItemDef itemDef) {
-        LOG.debug("Spawning: " + itemDef.getType().getSimpleName());
-        itemsToSpawn.add(itemDef);
+    private void spawnItem(Vector2 position, Class<?> type) {
+        LOG.debug("Spawning: " + type.getSimpleName());
+        ItemDef itemDef = itemDefPool.obtain();
+        itemDef.set(position, type);
+        itemsToSpawn.addLast(itemDef);
     }
 
     private void checkPlayerInBounds() {
@@ -1120,12 +1622,18 @@ public class GameController  implements BinarySerializable, Disposable {
     private Vector2 startJumpPosition = new Vector2(0, 0);
 
     private void handleInput() {
-        checkPauseInput();
-
         if (player.isDead()) {
             return;
         }
 
+        if (replayTape != null) {
+            int mask = replayTape.get(tick);
+            player.control(InputTape.isSet(mask, InputTape.UP), InputTape.isSet(mask, InputTape.DOWN),
+                    InputTape.isSet(mask, InputTape.LEFT), InputTape.isSet(mask, InputTape.RIGHT),
+                    InputTape.isSet(mask, InputTape.FIRE));
+            return;
+        }
+
         boolean upPressed = Gdx.input.isKeyPressed(Input.Keys.UP);
         boolean downPressed = Gdx.input.isKeyPressed(Input.Keys.DOWN);
         boolean rightPressed = Gdx.input.isKeyPressed(Input.Keys.RIGHT);
@@ -1194,6 +1702,11 @@ public class GameController  implements BinarySerializable, Disposable {
             startJumpPosition.set(0, 0);
         }
 
+        if (recordingTape != null) {
+            recordingTape.record(tick, InputTape.mask(
+                    upPressed, downPressed, leftPressed, rightPressed, firePressed));
+        }
+
         player.control(upPressed, downPressed, leftPressed, rightPressed, firePressed);
     }
 
@@ -1227,13 +1740,15 @@ public class GameController  implements BinarySerializable, Disposable {
         if (handle.exists()) {
             if (!BinarySerializer.read(this, handle.read())) {
                 LOG.error("Could not load game state");
+                return;
             }
+            int records = Journal.readRecords(journalRecord, Journal.getHandle(handle));
+            LOG.debug("Applied autosaved changes: " + records);
         }
     }
 
     public void save() {
-        // don't do anything in case player is dead, kind of dead or level is finished
-        if (player.isDead() || player.isDrowning() || player.isVictory() || gameIsCanceled) {
+        if (!canSave()) {
             LOG.error("Did NOT save game state");
             JumpGame.deleteSavedData();
             return;
@@ -1241,151 +1756,696 @@ public class GameController  implements BinarySerializable, Disposable {
 
         pauseGame();
 
-        final FileHandle fileHandle = JumpGame.getSavedDataHandle();
-        if (!BinarySerializer.write(this, fileHandle.write(false))) {
+        // only take the snapshot here, the file is written in the background
+        long startTime = System.nanoTime();
+        writeSavedData();
+        LOG.debug(String.format(Locale.ROOT, "Saved game state in %.2f ms",
+                (System.nanoTime() - startTime) / 1e6f));
+    }
+
+    private boolean canSave() {
+        // don't do anything in case player is dead, kind of dead or level is finished
+        return !player.isDead() && !player.isDrowning() && !player.isVictory() && !gameIsCanceled;
+    }
+
+    /**
+     * Saves the game periodically while playing, so that the progress survives when the app is
+     * killed without being paused. Only the changes since the last save are appended to the
+     * journal of the saved game, which is compacted into a full save from time to time.
+     */
+    private void updateAutosave(float delta) {
+        if (!autosaveEnabled || !canSave()) {
+            return;
+        }
+
+        autosaveTimer += delta;
+        if (autosaveTimer < Cfg.AUTOSAVE_INTERVAL) {
+            return;
+        }
+        autosaveTimer = 0f;
+
+        long startTime = System.nanoTime();
+        if (savedDataId == NO_SAVED_DATA || journalRecords >= Cfg.AUTOSAVE_JOURNAL_RECORDS) {
+            writeSavedData();
+        } else {
+            appendSavedDataJournal();
+        }
+        LOG.debug(String.format(Locale.ROOT, "Autosaved game state in %.2f ms",
+                (System.nanoTime() - startTime) / 1e6f));
+    }
+
+    /**
+     * Replaces the saved game and its journal by a snapshot of the whole game state.
+     */
+    private void writeSavedData() {
+        savedDataId = System.currentTimeMillis();
+        saveSnapshot.reset();
+        if (!BinarySerializer.write(this, saveSnapshot)) {
             LOG.error("Could not save game state");
+            savedDataId = NO_SAVED_DATA;
+            return;
+        }
+        JumpGame.writeSavedData(saveSnapshot.toByteArray());
+
+        journalRecords = 0;
+        for (int i = 0; i < coins.size; ++i) {
+            coins.get(i).setSaveIndex(i);
+        }
+        clearChanges();
+    }
+
+    private void appendSavedDataJournal() {
+        byte[] record = Journal.createRecord(journalRecord);
+        if (record == null) {
+            LOG.error("Could not autosave game state");
+            return;
+        }
+        JumpGame.appendSavedDataJournal(record);
+
+        journalRecords++;
+        clearChanges();
+    }
+
+    private void clearChanges() {
+        for (Enemy enemy : enemies.values()) {
+            enemy.clearDirty();
+        }
+        for (Item item : items.values()) {
+            item.clearDirty();
         }
-        LOG.debug("Saved game state");
+        for (InteractiveTileObject tileObject : tileObjects) {
+            tileObject.clearDirty();
+        }
+        for (Platform platform : platforms) {
+            platform.clearDirty();
+        }
+        removedEnemyIds.clear();
+        removedItemIds.clear();
+        collectedCoinIndices.clear();
     }
 
     @Override
     public void write(DataOutputStream out) throws IOException {
-        if (state.isPaused()) {
-            // don't store the paused state, because otherwise the game resumes in the pause menu
-            out.writeUTF(stateBeforePause.name());
-        } else {
-            out.writeUTF(state.name());
-        }
-        out.writeBoolean(gameIsCanceled);
-        out.writeInt(score);
-        out.writeInt(collectedBeers);
-        out.writeFloat(gameTime);
-        player.write(out);
-        out.writeFloat(munichRatio);
-        backgroundMusic.write(out);
-        foregroundMusic.write(out);
-        killSequelManager.write(out);
-        out.writeInt(enemies.size);
+        SectionWriter sections = new SectionWriter(out);
+
+        writeSavedDataSection(sections);
+        writeGameSection(sections);
+        writePlayerSection(sections);
+        writeMusicSection(sections);
+
+        DataOutputStream section = sections.begin(SaveSection.ENEMIES.id, SaveSection.ENEMIES.version);
+        SerializerUtils.writeVarInt(section, enemies.size);
         for (Enemy enemy : enemies.values()) {
-            out.writeUTF(enemy.getClass().getName());
-            enemy.write(out);
+            writeEnemy(section, enemy);
         }
-        out.writeInt(items.size);
+        sections.end();
+
+        section = sections.begin(SaveSection.ITEMS.id, SaveSection.ITEMS.version);
+        SerializerUtils.writeVarInt(section, items.size);
         for (Item item : items.values()) {
-            out.writeUTF(item.getClass().getName());
-            item.write(out);
+            writeItem(section, item);
         }
-        out.writeInt(activeBoxCoins.size);
-        for (BoxCoin boxCoin : activeBoxCoins) {
-            boxCoin.write(out);
-        }
-        out.writeInt(coins.size);
+        sections.end();
+
+        section = sections.begin(SaveSection.COINS.id, SaveSection.COINS.version);
+        writeBoxCoins(section);
+        SerializerUtils.writeVarInt(section, coins.size);
         for (Coin coin : coins) {
-            coin.write(out);
+            coin.write(section);
         }
+        sections.end();
+
+        section = sections.begin(SaveSection.LEVEL_OBJECTS.id, SaveSection.LEVEL_OBJECTS.version);
         for (InteractiveTileObject tileObject : tileObjects) {
-            tileObject.write(out);
+            tileObject.write(section);
         }
         for (Platform platform : platforms) {
-            platform.write(out);
+            platform.write(section);
         }
-        tent.write(out);
-        out.writeFloat(infoSignMessageTtl);
-        out.writeUTF(infoSignMessageKey != null ? infoSignMessageKey : "null");
+        tent.write(section);
+        sections.end();
+
+        writeFragmentsSection(sections);
+
+        sections.finish();
     }
 
     @Override
     public void read(DataInputStream in) throws IOException {
-        state = Enum.valueOf(GameState.class, in.readUTF());
-        gameIsCanceled = in.readBoolean();
-        score = in.readInt();
-        collectedBeers = in.readInt();
-        gameTime = in.readFloat();
-        player.read(in);
-        munichRatio = in.readFloat();
-        backgroundMusic.read(in);
-        foregroundMusic.read(in);
-        killSequelManager.read(in);
-        int numEnemies = in.readInt();
+        SectionReader sections = openSections(in);
+
+        // saves without this section can be loaded, but no journal can be applied to them
+        savedDataId = sections.contains(SaveSection.SAVED_DATA.id)
+                ? open(sections, SaveSection.SAVED_DATA).readLong() : NO_SAVED_DATA;
+        readGameSection(sections);
+        readPlayerSection(sections);
+        readMusicSection(sections);
+
+        DataInputStream section = open(sections, SaveSection.ENEMIES);
+        int numEnemies = SerializerUtils.readVarInt(section);
         for (int i = 0; i < numEnemies; ++i) {
-            String enemyType = in.readUTF();
-            Enemy enemy;
-            if (enemyType.equals(Fox.class.getName())) {
-                enemy = new Fox(callbacks, world, atlas, 0, 0, false);
-            } else if (enemyType.equals(Hedgehog.class.getName())) {
-                enemy = new Hedgehog(callbacks, world, atlas, 0, 0, false);
-            } else if (enemyType.equals(DrunkenGuy.class.getName())) {
-                enemy = new DrunkenGuy(callbacks, world, atlas, 0, 0);
-            } else if (enemyType.equals(Fish.class.getName())) {
-                enemy = new Fish(callbacks, world, atlas, 0, 0);
-            } else if (enemyType.equals(Frog.class.getName())) {
-                enemy = new Frog(callbacks, world, atlas, 0, 0, false);
-            } else if (enemyType.equals(Raven.class.getName())) {
-                enemy = new Raven(callbacks, world, atlas, 0, 0, false, false, false);
-            } else {
-                throw new IllegalArgumentException("Unknown enemy type: " + enemyType);
-            }
-            enemy.read(in);
+            Enemy enemy = readEnemy(section);
             enemies.put(enemy.getId(), enemy);
         }
-        int numItems = in.readInt();
+
+        section = open(sections, SaveSection.ITEMS);
+        int numItems = SerializerUtils.readVarInt(section);
         for (int i = 0; i < numItems; ++i) {
-            String itemType = in.readUTF();
-            Item item;
-            if (itemType.equals(GrilledChickenItem.class.getName())) {
-                item = new GrilledChickenItem(callbacks, world, atlas, 0, 0);
-            } else if (itemType.equals(PretzelItem.class.getName())) {
-                item = new PretzelItem(callbacks, world, atlas, 0, 0);
-            } else if (itemType.equals(BeerItem.class.getName())) {
-                item = new BeerItem(callbacks, world, atlas, 0, 0);
-            } else {
-                throw new IllegalArgumentException("Unknown item type: " + itemType);
-            }
-            item.read(in);
+            Item item = readItem(section);
             items.put(item.getId(), item);
         }
-        int numBoxCoins = in.readInt();
-        for (int i = 0; i < numBoxCoins; ++i) {
-            BoxCoin boxCoin = new BoxCoin(atlas, Vector2.Zero);
-            boxCoin.read(in);
-            activeBoxCoins.add(boxCoin);
-        }
-        int numCoins = in.readInt();
+
+        section = open(sections, SaveSection.COINS);
+        readBoxCoins(section);
+        int numCoins = SerializerUtils.readVarInt(section);
         for (int i = 0; i < numCoins; ++i) {
             Coin coin = new Coin(callbacks, world, atlas, 0, 0);
-            coin.read(in);
+            coin.read(section);
+            coin.setSaveIndex(i);
             coins.add(coin);
         }
+
+        section = open(sections, SaveSection.LEVEL_OBJECTS);
+        for (InteractiveTileObject tileObject : tileObjects) {
+            tileObject.read(section);
+            ids.reserve(tileObject.getId());
+        }
+        for (Platform platform : platforms) {
+            platform.read(section);
+            ids.reserve(platform.getId());
+        }
+        tent.read(section);
+
+        readFragmentsSection(sections);
+    }
+
+    /**
+     * The changes since the last save, which are appended to the journal of the saved game.
+     */
+    private final BinarySerializable journalRecord = new BinarySerializable() {
+        @Override
+        public void write(DataOutputStream out) throws IOException {
+            writeChanges(out);
+        }
+
+        @Override
+        public void read(DataInputStream in) throws IOException {
+            readChanges(in);
+        }
+    };
+
+    private void writeChanges(DataOutputStream out) throws IOException {
+        SectionWriter sections = new SectionWriter(out);
+
+        writeSavedDataSection(sections);
+        writeGameSection(sections);
+        writePlayerSection(sections);
+        writeMusicSection(sections);
+
+        DataOutputStream section = sections.begin(
+                SaveSection.ENEMY_CHANGES.id, SaveSection.ENEMY_CHANGES.version);
+        writeIds(section, removedEnemyIds);
+        int numDirtyEnemies = 0;
+        for (Enemy enemy : enemies.values()) {
+            if (enemy.isDirty()) {
+                numDirtyEnemies++;
+            }
+        }
+        SerializerUtils.writeVarInt(section, numDirtyEnemies);
+        for (Enemy enemy : enemies.values()) {
+            if (enemy.isDirty()) {
+                writeEnemy(section, enemy);
+            }
+        }
+        sections.end();
+
+        section = sections.begin(SaveSection.ITEM_CHANGES.id, SaveSection.ITEM_CHANGES.version);
+        writeIds(section, removedItemIds);
+        int numDirtyItems = 0;
+        for (Item item : items.values()) {
+            if (item.isDirty()) {
+                numDirtyItems++;
+            }
+        }
+        SerializerUtils.writeVarInt(section, numDirtyItems);
+        for (Item item : items.values()) {
+            if (item.isDirty()) {
+                writeItem(section, item);
+            }
+        }
+        sections.end();
+
+        section = sections.begin(SaveSection.COIN_CHANGES.id, SaveSection.COIN_CHANGES.version);
+        writeBoxCoins(section);
+        writeIds(section, collectedCoinIndices);
+        sections.end();
+
+        section = sections.begin(
+                SaveSection.LEVEL_OBJECT_CHANGES.id, SaveSection.LEVEL_OBJECT_CHANGES.version);
+        int numDirtyTileObjects = 0;
         for (InteractiveTileObject tileObject : tileObjects) {
-            tileObject.read(in);
+            if (tileObject.isDirty()) {
+                numDirtyTileObjects++;
+            }
         }
+        SerializerUtils.writeVarInt(section, numDirtyTileObjects);
+        for (int i = 0; i < tileObjects.size; ++i) {
+            InteractiveTileObject tileObject = tileObjects.get(i);
+            if (tileObject.isDirty()) {
+                SerializerUtils.writeVarInt(section, i);
+                tileObject.write(section);
+            }
+        }
+        int numDirtyPlatforms = 0;
         for (Platform platform : platforms) {
-            platform.read(in);
+            if (platform.isDirty()) {
+                numDirtyPlatforms++;
+            }
+        }
+        SerializerUtils.writeVarInt(section, numDirtyPlatforms);
+        for (int i = 0; i < platforms.size; ++i) {
+            Platform platform = platforms.get(i);
+            if (platform.isDirty()) {
+                SerializerUtils.writeVarInt(section, i);
+                platform.write(section);
+            }
+        }
+        tent.write(section);
+        sections.end();
+
+        writeFragmentsSection(sections);
+
+        sections.finish();
+    }
+
+    private void readChanges(DataInputStream in) throws IOException {
+        SectionReader sections = openSections(in);
+
+        if (open(sections, SaveSection.SAVED_DATA).readLong() != savedDataId) {
+            throw new IOException("Changes do not belong to the saved game");
+        }
+        readGameSection(sections);
+        readPlayerSection(sections);
+        readMusicSection(sections);
+
+        DataInputStream section = open(sections, SaveSection.ENEMY_CHANGES);
+        int numRemovedEnemies = SerializerUtils.readVarInt(section);
+        for (int i = 0; i < numRemovedEnemies; ++i) {
+            Enemy enemy = enemies.remove(SerializerUtils.readVarInt(section));
+            if (enemy != null) {
+                enemyRegistry.free(enemy);
+            }
+        }
+        int numDirtyEnemies = SerializerUtils.readVarInt(section);
+        for (int i = 0; i < numDirtyEnemies; ++i) {
+            Enemy enemy = readEnemy(section);
+            Enemy previousEnemy = enemies.put(enemy.getId(), enemy);
+            if (previousEnemy != null) {
+                enemyRegistry.free(previousEnemy);
+            }
+        }
+
+        section = open(sections, SaveSection.ITEM_CHANGES);
+        int numRemovedItems = SerializerUtils.readVarInt(section);
+        for (int i = 0; i < numRemovedItems; ++i) {
+            Item item = items.remove(SerializerUtils.readVarInt(section));
+            if (item != null) {
+                itemRegistry.free(item);
+            }
+        }
+        int numDirtyItems = SerializerUtils.readVarInt(section);
+        for (int i = 0; i < numDirtyItems; ++i) {
+            Item item = readItem(section);
+            Item previousItem = items.put(item.getId(), item);
+            if (previousItem != null) {
+                itemRegistry.free(previousItem);
+            }
+        }
+
+        section = open(sections, SaveSection.COIN_CHANGES);
+        readBoxCoins(section);
+        int numCollectedCoins = SerializerUtils.readVarInt(section);
+        for (int i = 0; i < numCollectedCoins; ++i) {
+            int saveIndex = SerializerUtils.readVarInt(section);
+            for (int j = 0; j < coins.size; ++j) {
+                Coin coin = coins.get(j);
+                if (coin.getSaveIndex() == saveIndex) {
+                    coin.dispose();
+                    coins.removeIndex(j);
+                    break;
+                }
+            }
+        }
+
+        section = open(sections, SaveSection.LEVEL_OBJECT_CHANGES);
+        int numDirtyTileObjects = SerializerUtils.readVarInt(section);
+        for (int i = 0; i < numDirtyTileObjects; ++i) {
+            tileObjects.get(readIndex(section, tileObjects.size)).read(section);
         }
-        tent.read(in);
-        infoSignMessageTtl = in.readFloat();
-        infoSignMessageKey = in.readUTF();
-        if (infoSignMessageKey.equals("null")) {
-            infoSignMessageKey = null;
+        int numDirtyPlatforms = SerializerUtils.readVarInt(section);
+        for (int i = 0; i < numDirtyPlatforms; ++i) {
+            platforms.get(readIndex(section, platforms.size)).read(section);
         }
+        tent.read(section);
+
+        readFragmentsSection(sections);
+    }
+
+    private void writeSavedDataSection(SectionWriter sections) throws IOException {
+        sections.begin(SaveSection.SAVED_DATA.id, SaveSection.SAVED_DATA.version)
+                .writeLong(savedDataId);
+        sections.end();
+    }
+
+    private void writeGameSection(SectionWriter sections) throws IOException {
+        DataOutputStream section = sections.begin(SaveSection.GAME.id, SaveSection.GAME.version);
+        // don't store the paused state, because otherwise the game resumes in the pause menu
+        SerializerUtils.writeEnum(section, state.isPaused() ? stateBeforePause : state);
+        section.writeBoolean(gameIsCanceled);
+        SerializerUtils.writeVarInt(section, getScore());
+        SerializerUtils.writeVarInt(section, collectedBeers);
+        section.writeFloat(gameTime);
+        section.writeFloat(munichRatio);
+        killSequelManager.write(section);
+        scheduler.write(section);
+        section.writeFloat(infoSignMessageTtl);
+        SerializerUtils.writeNullableString(section, infoSignMessageKey);
+        sections.end();
+    }
+
+    private void readGameSection(SectionReader sections) throws IOException {
+        DataInputStream section = open(sections, SaveSection.GAME);
+        state = SerializerUtils.readEnum(section, GameState.class);
+        gameIsCanceled = section.readBoolean();
+        score = SerializerUtils.readVarInt(section);
+        collectedBeers = SerializerUtils.readVarInt(section);
+        gameTime = section.readFloat();
+        munichRatio = section.readFloat();
+        killSequelManager.read(section);
+        scheduler.read(section);
+        infoSignMessageTtl = section.readFloat();
+        infoSignMessageKey = SerializerUtils.readNullableString(section);
+    }
+
+    private void writePlayerSection(SectionWriter sections) throws IOException {
+        player.write(sections.begin(SaveSection.PLAYER.id, SaveSection.PLAYER.version));
+        sections.end();
+    }
+
+    private void readPlayerSection(SectionReader sections) throws IOException {
+        player.read(open(sections, SaveSection.PLAYER));
+    }
+
+    private void writeMusicSection(SectionWriter sections) throws IOException {
+        DataOutputStream section = sections.begin(SaveSection.MUSIC.id, SaveSection.MUSIC.version);
+        backgroundMusic.write(section);
+        foregroundMusic.write(section);
+        sections.end();
+    }
+
+    private void readMusicSection(SectionReader sections) throws IOException {
+        DataInputStream section = open(sections, SaveSection.MUSIC);
+        backgroundMusic.read(section);
+        foregroundMusic.read(section);
+    }
+
+    private void writeFragmentsSection(SectionWriter sections) throws IOException {
+        fragments.write(sections.begin(SaveSection.FRAGMENTS.id, SaveSection.FRAGMENTS.version));
+        sections.end();
+    }
+
+    private void readFragmentsSection(SectionReader sections) throws IOException {
+        // older saves stored the fragments with each tile object, which are dropped by the migration
+        if (sections.contains(SaveSection.FRAGMENTS.id)) {
+            fragments.read(open(sections, SaveSection.FRAGMENTS));
+        } else {
+            fragments.clear();
+        }
+    }
+
+    private void writeEnemy(DataOutputStream out, Enemy enemy) throws IOException {
+        enemyRegistry.write(out, enemy);
+    }
+
+    private Enemy readEnemy(DataInputStream in) throws IOException {
+        Enemy enemy = enemyRegistry.read(in, world);
+        ids.reserve(enemy.getId());
+        return enemy;
+    }
+
+    private void writeItem(DataOutputStream out, Item item) throws IOException {
+        itemRegistry.write(out, item);
+    }
+
+    private Item readItem(DataInputStream in) throws IOException {
+        Item item = itemRegistry.read(in, world);
+        ids.reserve(item.getId());
+        return item;
+    }
+
+    private void writeBoxCoins(DataOutputStream out) throws IOException {
+        SerializerUtils.writeVarInt(out, activeBoxCoins.size);
+        for (BoxCoin boxCoin : activeBoxCoins) {
+            boxCoin.write(out);
+        }
+    }
+
+    private void readBoxCoins(DataInputStream in) throws IOException {
+        clearBoxCoins();
+        int numBoxCoins = SerializerUtils.readVarInt(in);
+        for (int i = 0; i < numBoxCoins; ++i) {
+            BoxCoin boxCoin = boxCoinPool.obtain();
+            boxCoin.read(in);
+            activeBoxCoins.add(boxCoin);
+        }
+    }
+
+    private static void writeIds(DataOutputStream out, IntArray ids) throws IOException {
+        SerializerUtils.writeVarInt(out, ids.size);
+        for (int i = 0; i < ids.size; ++i) {
+            SerializerUtils.writeVarInt(out, ids.get(i));
+        }
+    }
+
+    private static int readIndex(DataInputStream in, int size) throws IOException {
+        int index = SerializerUtils.readVarInt(in);
+        if (index >= size) {
+            throw new IOException("Invalid index: " + index);
+        }
+        return index;
+    }
+
+    /**
+     * Reads the sections of a save or a journal record, and registers the migrators of all
+     * sections whose version has been increased.
+     */
+    private SectionReader openSections(DataInputStream in) throws IOException {
+        SectionReader sections = new SectionReader(in);
+        sections.addMigrator(SaveSection.LEVEL_OBJECTS.id, 1, new SectionMigrator() {
+            @Override
+            public byte[] migrate(byte[] data) throws IOException {
+                return migrateLegacyLevelObjects(data, false);
+            }
+        });
+        sections.addMigrator(SaveSection.LEVEL_OBJECT_CHANGES.id, 1, new SectionMigrator() {
+            @Override
+            public byte[] migrate(byte[] data) throws IOException {
+                return migrateLegacyLevelObjects(data, true);
+            }
+        });
+        sections.addMigrator(SaveSection.LEVEL_OBJECTS.id, 2, new SectionMigrator() {
+            @Override
+            public byte[] migrate(byte[] data) throws IOException {
+                return migrateLevelObjectIds(data, false);
+            }
+        });
+        sections.addMigrator(SaveSection.LEVEL_OBJECT_CHANGES.id, 2, new SectionMigrator() {
+            @Override
+            public byte[] migrate(byte[] data) throws IOException {
+                return migrateLevelObjectIds(data, true);
+            }
+        });
+        sections.addMigrator(SaveSection.ENEMIES.id, 1, new SectionMigrator() {
+            @Override
+            public byte[] migrate(byte[] data) throws IOException {
+                return migrateEntityIds(data, EnemyTypes.createRegistry(callbacks, atlas), false);
+            }
+        });
+        sections.addMigrator(SaveSection.ENEMY_CHANGES.id, 1, new SectionMigrator() {
+            @Override
+            public byte[] migrate(byte[] data) throws IOException {
+                return migrateEntityIds(data, EnemyTypes.createRegistry(callbacks, atlas), true);
+            }
+        });
+        sections.addMigrator(SaveSection.ITEMS.id, 1, new SectionMigrator() {
+            @Override
+            public byte[] migrate(byte[] data) throws IOException {
+                return migrateEntityIds(data, ItemTypes.createRegistry(callbacks, atlas), false);
+            }
+        });
+        sections.addMigrator(SaveSection.ITEM_CHANGES.id, 1, new SectionMigrator() {
+            @Override
+            public byte[] migrate(byte[] data) throws IOException {
+                return migrateEntityIds(data, ItemTypes.createRegistry(callbacks, atlas), true);
+            }
+        });
+        return sections;
+    }
+
+    /**
+     * Removes the fragments, which have been stored with the tile objects up to version 1 of the
+     * level object sections. The data of the platforms and the tent following the tile objects is
+     * copied as is.
+     */
+    private byte[] migrateLegacyLevelObjects(byte[] data, boolean changes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        ByteArrayOutputStream output = new ByteArrayOutputStream(data.length);
+        DataOutputStream out = new DataOutputStream(output);
+        if (changes) {
+            int numDirtyTileObjects = SerializerUtils.readVarInt(in);
+            SerializerUtils.writeVarInt(out, numDirtyTileObjects);
+            for (int i = 0; i < numDirtyTileObjects; ++i) {
+                int index = readIndex(in, tileObjects.size);
+                SerializerUtils.writeVarInt(out, index);
+                tileObjects.get(index).migrateLegacyState(in, out);
+            }
+        } else {
+            for (InteractiveTileObject tileObject : tileObjects) {
+                tileObject.migrateLegacyState(in, out);
+            }
+        }
+        StreamUtils.copyStream(in, out);
+        out.flush();
+        return output.toByteArray();
+    }
+
+    /**
+     * Converts the IDs of the tile objects and platforms, as well as the objects on top of the
+     * tile objects, which have been written with a fixed width up to version 2 of the level object
+     * sections. The data of the tent following the platforms is copied as is.
+     */
+    private byte[] migrateLevelObjectIds(byte[] data, boolean changes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        ByteArrayOutputStream output = new ByteArrayOutputStream(data.length);
+        DataOutputStream out = new DataOutputStream(output);
+        if (changes) {
+            int numDirtyTileObjects = SerializerUtils.readVarInt(in);
+            SerializerUtils.writeVarInt(out, numDirtyTileObjects);
+            for (int i = 0; i < numDirtyTileObjects; ++i) {
+                int index = readIndex(in, tileObjects.size);
+                SerializerUtils.writeVarInt(out, index);
+                tileObjects.get(index).migrateFixedWidthIds(in, out);
+            }
+            int numDirtyPlatforms = SerializerUtils.readVarInt(in);
+            SerializerUtils.writeVarInt(out, numDirtyPlatforms);
+            for (int i = 0; i < numDirtyPlatforms; ++i) {
+                int index = readIndex(in, platforms.size);
+                SerializerUtils.writeVarInt(out, index);
+                platforms.get(index).migrateFixedWidthIds(in, out);
+            }
+        } else {
+            for (InteractiveTileObject tileObject : tileObjects) {
+                tileObject.migrateFixedWidthIds(in, out);
+            }
+            for (Platform platform : platforms) {
+                platform.migrateFixedWidthIds(in, out);
+            }
+        }
+        StreamUtils.copyStream(in, out);
+        out.flush();
+        return output.toByteArray();
+    }
+
+    /**
+     * Converts the IDs of the enemies or items, which have been written with a fixed width up to
+     * version 1 of their sections. The entities are temporarily restored by the given registry in
+     * a world of their own, so that neither the world nor the kept entities of the game are
+     * affected.
+     */
+    private byte[] migrateEntityIds(byte[] data, EntityRegistry<?> registry, boolean changes)
+            throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        ByteArrayOutputStream output = new ByteArrayOutputStream(data.length);
+        DataOutputStream out = new DataOutputStream(output);
+        if (changes) {
+            // the removed IDs have always been written with a variable length
+            int numRemoved = SerializerUtils.readVarInt(in);
+            SerializerUtils.writeVarInt(out, numRemoved);
+            for (int i = 0; i < numRemoved; ++i) {
+                SerializerUtils.writeVarInt(out, SerializerUtils.readVarInt(in));
+            }
+        }
+        int numEntities = SerializerUtils.readVarInt(in);
+        SerializerUtils.writeVarInt(out, numEntities);
+        World migrationWorld = new World(Vector2.Zero, false);
+        try {
+            for (int i = 0; i < numEntities; ++i) {
+                registry.migrateFixedWidthId(in, out, migrationWorld);
+            }
+        } finally {
+            migrationWorld.dispose();
+        }
+        out.flush();
+        return output.toByteArray();
+    }
+
+    private static DataInputStream open(SectionReader sections, SaveSection section)
+            throws IOException {
+        return sections.open(section.id, section.version);
     }
 
     @Override
     public void dispose() {
         map.dispose();
+        levelLoader.dispose();
         world.dispose();
+        player.dispose();
     }
 
     public float getGameTime() {
         return gameTime;
     }
 
+    /**
+     * Enables the periodic autosave while playing, which is disabled by default, e.g. for replays.
+     */
+    public void enableAutosave() {
+        autosaveEnabled = true;
+    }
+
+    /**
+     * Records the player input of each simulation tick to the given tape. The tape is cleared
+     * whenever the level restarts. This should be called before the first update.
+     */
+    public void startRecording(InputTape tape) {
+        tape.clear();
+        recordingTape = tape;
+    }
+
+    /**
+     * Feeds the player input from the given tape instead of polling the input devices. This should
+     * be called before the first update.
+     */
+    public void startReplay(InputTape tape) {
+        replayTape = tape;
+    }
+
+    /**
+     * The number of simulation ticks since the level has been (re)started.
+     */
+    public int getTick() {
+        return tick;
+    }
+
     public Player getPlayer() {
         return player;
     }
 
+    /**
+     * The score including the score updates of the current frame, which are not handled yet.
+     */
     public int getScore() {
-        return score;
+        return score + events.getPendingPoints();
     }
 
     public int getTimeToLive() {
@@ -1396,11 +2456,11 @@ public class GameController  implements BinarySerializable, Disposable {
         return collectedBeers;
     }
 
-    public LinkedBlockingQueue<UiMessage> getUiMessages() {
+    public Queue<UiMessage> getUiMessages() {
         return uiMessages;
     }
 
-    public ObjectMap<String, Item> getItems() {
+    public IntMap<Item> getItems() {
         return items;
     }
 
@@ -1412,7 +2472,7 @@ public class GameController  implements BinarySerializable, Disposable {
         return activeBoxCoins;
     }
 
-    public ObjectMap<String, Enemy> getEnemies() {
+    public IntMap<Enemy> getEnemies() {
         return enemies;
     }
 
@@ -1428,6 +2488,17 @@ public class GameController  implements BinarySerializable, Disposable {
         return tileObjects;
     }
 
+    public FragmentSystem getFragments() {
+        return fragments;
+    }
+
+    /**
+     * Gets the coins close to the camera, which is updated once per simulation step.
+     */
+    public Array<Coin> getCoinsInView() {
+        return coinsInView;
+    }
+
     public Array<ParticleEffectPool.PooledEffect> getActiveSplashEffects() {
         return waterInteractionManager.getActiveSplashEffects();
     }
@@ -1475,4 +2546,16 @@ public class GameController  implements BinarySerializable, Disposable {
     public float getMunichRatio() {
         return munichRatio;
     }
+
+    /**
+     * The ratio between the previous and the current simulation step, which is used to interpolate
+     * the rendering of moving objects when the simulation runs with a fixed time step.
+     */
+    public float getInterpolationAlpha() {
+        return interpolationAlpha;
+    }
+
+    public Vector2 getPreviousCameraPosition() {
+        return previousCameraPosition;
+    }
 }
@@ -0,0 +1,79 @@
+package de.bsautermeister.jump.screens.game;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Pool;
+
+import de.bsautermeister.jump.text.UiMessage;
+
+/**
+ * A side effect of the game simulation, which is collected during the simulation steps and
+ * handled once at the end of the frame.
+ */
+public class GameEvent implements Pool.Poolable {
+    public enum Type {
+        SOUND,
+        SCORE,
+        MESSAGE
+    }
+
+    private Type type;
+    private SoundEffect sound;
+    private float volume;
+    private int points;
+    private UiMessage<?> message;
+    private final Rectangle area = new Rectangle();
+
+    void setSound(SoundEffect sound, float volume) {
+        this.type = Type.SOUND;
+        this.sound = sound;
+        this.volume = volume;
+    }
+
+    void setScore(int points) {
+        this.type = Type.SCORE;
+        this.points = points;
+    }
+
+    void setMessage(UiMessage<?> message, Rectangle area) {
+        this.type = Type.MESSAGE;
+        this.message = message;
+        this.area.set(area);
+    }
+
+    @Override
+    public void reset() {
+        type = null;
+        sound = null;
+        volume = 0f;
+        points = 0;
+        message = null;
+        area.set(0, 0, 0, 0);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public SoundEffect getSound() {
+        return sound;
+    }
+
+    public float getVolume() {
+        return volume;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    public UiMessage<?> getMessage() {
+        return message;
+    }
+
+    /**
+     * The world area of the object the message belongs to.
+     */
+    public Rectangle getArea() {
+        return area;
+    }
+}
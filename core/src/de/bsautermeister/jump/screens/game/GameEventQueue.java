@@ -0,0 +1,136 @@
+package de.bsautermeister.jump.screens.game;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+import de.bsautermeister.jump.text.UiMessage;
+
+/**
+ * Collects the side effects of the game simulation, so that they are not executed within the
+ * physics step. The events are handled in a single stage at the end of the frame, which plays each
+ * sound effect at most once, merges all score updates and forwards the HUD messages.
+ */
+public class GameEventQueue {
+    private static final float NOT_TRIGGERED = -1f;
+
+    private final Pool<GameEvent> pool = new Pool<GameEvent>(16) {
+        @Override
+        protected GameEvent newObject() {
+            return new GameEvent();
+        }
+    };
+
+    private final Array<GameEvent> events = new Array<>(16);
+    private final float[] soundVolumes = new float[SoundEffect.values().length];
+    private int pendingPoints;
+
+    public GameEventQueue() {
+        resetSoundVolumes();
+    }
+
+    public void sound(SoundEffect sound) {
+        sound(sound, 1f);
+    }
+
+    public void sound(SoundEffect sound, float volume) {
+        GameEvent event = pool.obtain();
+        event.setSound(sound, volume);
+        events.add(event);
+    }
+
+    public void score(int points) {
+        GameEvent event = pool.obtain();
+        event.setScore(points);
+        events.add(event);
+        pendingPoints += points;
+    }
+
+    public void message(UiMessage<?> message, Rectangle area) {
+        GameEvent event = pool.obtain();
+        event.setMessage(message, area);
+        events.add(event);
+    }
+
+    /**
+     * The sum of all score updates that have not been handled yet.
+     */
+    public int getPendingPoints() {
+        return pendingPoints;
+    }
+
+    /**
+     * Handles and releases all queued events.
+     */
+    public void flush(Handler handler) {
+        if (events.size == 0) {
+            return;
+        }
+
+        // a sound that is triggered several times within a frame is played once at its loudest
+        for (int i = 0; i < events.size; ++i) {
+            GameEvent event = events.get(i);
+            if (event.getType() == GameEvent.Type.SOUND) {
+                int index = event.getSound().ordinal();
+                soundVolumes[index] = Math.max(soundVolumes[index], event.getVolume());
+            }
+        }
+
+        if (pendingPoints != 0) {
+            handler.addScore(pendingPoints);
+            pendingPoints = 0;
+        }
+
+        for (int i = 0; i < events.size; ++i) {
+            GameEvent event = events.get(i);
+            switch (event.getType()) {
+                case SOUND:
+                    int index = event.getSound().ordinal();
+                    if (soundVolumes[index] != NOT_TRIGGERED) {
+                        handler.playSound(event.getSound(), soundVolumes[index]);
+                        soundVolumes[index] = NOT_TRIGGERED;
+                    }
+                    break;
+                case MESSAGE:
+                    handler.showMessage(event.getMessage(), event.getArea());
+                    break;
+            }
+        }
+
+        release();
+    }
+
+    /**
+     * Drops all queued events without handling them. Only the messages are passed to the handler,
+     * so that they can be released.
+     */
+    public void clear(Handler handler) {
+        for (int i = 0; i < events.size; ++i) {
+            GameEvent event = events.get(i);
+            if (event.getType() == GameEvent.Type.MESSAGE) {
+                handler.dropMessage(event.getMessage());
+            }
+        }
+        release();
+    }
+
+    private void release() {
+        pool.freeAll(events);
+        events.clear();
+        pendingPoints = 0;
+        resetSoundVolumes();
+    }
+
+    private void resetSoundVolumes() {
+        for (int i = 0; i < soundVolumes.length; ++i) {
+            soundVolumes[i] = NOT_TRIGGERED;
+        }
+    }
+
+    public interface Handler {
+        void playSound(SoundEffect sound, float volume);
+        void addScore(int points);
+        void showMessage(UiMessage<?> message, Rectangle area);
+        void dropMessage(UiMessage<?> message);
+    }
+}
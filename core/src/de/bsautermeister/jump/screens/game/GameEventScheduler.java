@@ -0,0 +1,86 @@
+package de.bsautermeister.jump.screens.game;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import de.bsautermeister.jump.serializer.BinarySerializable;
+import de.bsautermeister.jump.serializer.SerializerUtils;
+
+/**
+ * Emits delayed sound effects based on the simulation time. In contrast to a wall-clock timer, the
+ * scheduled effects are paused together with the game and are part of the saved game state.
+ */
+public class GameEventScheduler implements BinarySerializable {
+
+    private final Pool<ScheduledSound> pool = new Pool<ScheduledSound>(8) {
+        @Override
+        protected ScheduledSound newObject() {
+            return new ScheduledSound();
+        }
+    };
+
+    private final Array<ScheduledSound> scheduled = new Array<>(8);
+
+    public void schedule(SoundEffect sound, float delay) {
+        ScheduledSound entry = pool.obtain();
+        entry.sound = sound;
+        entry.remainingTime = delay;
+        scheduled.add(entry);
+    }
+
+    /**
+     * Advances the simulation time and emits all sound effects that are due.
+     */
+    public void update(float delta, GameEventQueue events) {
+        for (int i = 0; i < scheduled.size; ) {
+            ScheduledSound entry = scheduled.get(i);
+            entry.remainingTime -= delta;
+            if (entry.remainingTime <= 0) {
+                events.sound(entry.sound);
+                scheduled.removeIndex(i);
+                pool.free(entry);
+            } else {
+                ++i;
+            }
+        }
+    }
+
+    public void clear() {
+        pool.freeAll(scheduled);
+        scheduled.clear();
+    }
+
+    @Override
+    public void write(DataOutputStream out) throws IOException {
+        SerializerUtils.writeVarInt(out, scheduled.size);
+        for (ScheduledSound entry : scheduled) {
+            SerializerUtils.writeEnum(out, entry.sound);
+            out.writeFloat(entry.remainingTime);
+        }
+    }
+
+    @Override
+    public void read(DataInputStream in) throws IOException {
+        clear();
+        int count = SerializerUtils.readVarInt(in);
+        for (int i = 0; i < count; ++i) {
+            SoundEffect sound = SerializerUtils.readEnum(in, SoundEffect.class);
+            schedule(sound, in.readFloat());
+        }
+    }
+
+    private static class ScheduledSound implements Pool.Poolable {
+        private SoundEffect sound;
+        private float remainingTime;
+
+        @Override
+        public void reset() {
+            sound = null;
+            remainingTime = 0f;
+        }
+    }
+}
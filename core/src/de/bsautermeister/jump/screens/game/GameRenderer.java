@@ -19,6 +19,7 @@ import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.Interpolation;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Box2DDebugRenderer;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
@@ -26,12 +27,13 @@ import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.I18NBundle;
+import com.badlogic.gdx.utils.IntMap;
 import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Queue;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
 import java.util.HashMap;
-import java.util.concurrent.LinkedBlockingQueue;
 
 import de.bsautermeister.jump.Cfg;
 import de.bsautermeister.jump.assets.AssetDescriptors;
@@ -44,7 +46,6 @@ import de.bsautermeister.jump.screens.menu.GameOverOverlay;
 import de.bsautermeister.jump.screens.menu.PauseOverlay;
 import de.bsautermeister.jump.sprites.BoxCoin;
 import de.bsautermeister.jump.sprites.Coin;
-import de.bsautermeister.jump.sprites.InteractiveTileObject;
 import de.bsautermeister.jump.sprites.Item;
 import de.bsautermeister.jump.sprites.Platform;
 import de.bsautermeister.jump.sprites.Player;
@@ -146,6 +147,13 @@ public class GameRenderer implements Disposable {
         mapRenderer.setMap(controller.getMap());
         parallaxRenderer.setMap(controller.getMap());
 
+        float alpha = controller.getInterpolationAlpha();
+        Vector2 previousCameraPosition = controller.getPreviousCameraPosition();
+        simulationCameraPosition.set(camera.position.x, camera.position.y);
+        camera.position.x = MathUtils.lerp(previousCameraPosition.x, simulationCameraPosition.x, alpha);
+        camera.position.y = MathUtils.lerp(previousCameraPosition.y, simulationCameraPosition.y, alpha);
+        camera.update();
+
         GdxUtils.clearScreen(Color.BLACK);
         viewport.apply();
 
@@ -203,6 +211,10 @@ public class GameRenderer implements Disposable {
 
         renderInfoSignHelp(batch);
 
+        camera.position.x = simulationCameraPosition.x;
+        camera.position.y = simulationCameraPosition.y;
+        camera.update();
+
         if (Cfg.DEBUG_MODE) {
             float zoomX = Cfg.BLOCKS_X / (4f + Cfg.BLOCKS_X);
             float zoomY = Cfg.BLOCKS_Y / (4f + Cfg.BLOCKS_Y);
@@ -224,6 +236,8 @@ public class GameRenderer implements Disposable {
         renderInfoSignMessage(batch);
     }
 
+    private final Vector2 simulationCameraPosition = new Vector2();
+
     private void renderBackground(SpriteBatch batch) {
         float munichRatio = controller.getMunichRatio();
         float munichOffset = Interpolation.smooth.apply(1.5f * 6.25f, 0f, munichRatio);
@@ -258,33 +272,35 @@ public class GameRenderer implements Disposable {
     }
 
     private void renderForeground(SpriteBatch batch) {
-        Array<Coin> coins = controller.getCoins();
+        float alpha = controller.getInterpolationAlpha();
+
+        Array<Coin> coins = controller.getCoinsInView();
         for (Coin coin : coins) {
             coin.draw(batch);
         }
 
         renderWater(batch, waterTexture, 1f);
 
-        ObjectMap<String, Item> items = controller.getItems();
+        IntMap<Item> items = controller.getItems();
         for (Item item : items.values()) {
             item.draw(batch);
         }
 
-        ObjectMap<String, Enemy> enemies = controller.getEnemies();
+        IntMap<Enemy> enemies = controller.getEnemies();
         for (Enemy enemy : enemies.values()) {
             if (enemy instanceof DrunkenGuy) {
-                enemy.draw(batch);
+                enemy.drawInterpolated(batch, alpha);
             }
         }
 
         Array<Platform> platforms = controller.getPlatforms();
         for (Platform platform : platforms) {
-            platform.draw(batch);
+            platform.drawInterpolated(batch, alpha);
         }
 
         for (Enemy enemy : enemies.values()) {
             if (!enemy.renderInForeground()) {
-                enemy.draw(batch);
+                enemy.drawInterpolated(batch, alpha);
             }
         }
 
@@ -295,19 +311,16 @@ public class GameRenderer implements Disposable {
 
         for (Enemy enemy : enemies.values()) {
             if (enemy.renderInForeground()) {
-                enemy.draw(batch);
+                enemy.drawInterpolated(batch, alpha);
             }
         }
 
         Player player = controller.getPlayer();
         player.getPretzelBullet().draw(batch);
-        player.draw(batch);
+        player.drawInterpolated(batch, alpha);
 
-        for (InteractiveTileObject tileObject : controller.getTileObjects()) {
-            // tile-objects itself are drawn in the GRAPHICS layer, while this draw-call renders the
-            // particle fragments in case of a destroyed brick
-            tileObject.draw(batch);
-        }
+        // the fragments of shattered bricks and item boxes
+        controller.getFragments().draw(batch);
     }
 
     private void renderWater(SpriteBatch batch, TextureRegion waterTexture, float opacity) {
@@ -389,7 +402,7 @@ public class GameRenderer implements Disposable {
     }
 
     private void renderTextMessage() {
-        LinkedBlockingQueue<UiMessage> uiMessages = controller.getUiMessages();
+        Queue<UiMessage> uiMessages = controller.getUiMessages();
         if (!uiMessages.isEmpty()) {
             batch.begin();
             for (UiMessage uiMessage : uiMessages) {
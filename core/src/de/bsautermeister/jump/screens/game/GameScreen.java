@@ -8,25 +8,28 @@ import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Interpolation;
 import com.badlogic.gdx.math.Vector2;
 
+import java.util.Locale;
+
 import de.bsautermeister.jump.Cfg;
 import de.bsautermeister.jump.JumpGame;
-import de.bsautermeister.jump.assets.AssetPaths;
+import de.bsautermeister.jump.assets.AssetDescriptors;
 import de.bsautermeister.jump.commons.GameApp;
 import de.bsautermeister.jump.commons.JumpGameStats;
+import de.bsautermeister.jump.input.InputTape;
 import de.bsautermeister.jump.screens.ScreenBase;
 import de.bsautermeister.jump.screens.finish.FinishScreen;
 import de.bsautermeister.jump.screens.game.level.LevelInfo;
 import de.bsautermeister.jump.screens.game.level.LevelMetadata;
 import de.bsautermeister.jump.screens.menu.MenuScreen;
 import de.bsautermeister.jump.screens.transition.ScaleScreenTransition;
+import de.bsautermeister.jump.serializer.BinarySerializer;
 
 public class GameScreen extends ScreenBase {
 
     private GameController controller;
     private GameRenderer renderer;
     private GameSoundEffects soundEffects;
-
-    private TextureAtlas atlas = new TextureAtlas(AssetPaths.Atlas.GAMEPLAY);
+    private InputTape inputTape;
 
     private int level;
     private final FileHandle gameToResume;
@@ -40,6 +43,8 @@ public class GameScreen extends ScreenBase {
             LevelInfo levelInfo = LevelMetadata.getLevelInfo(level);
             int stars = levelInfo.getStarsForScore(totalScore);
 
+            // the level is over, so it cannot be resumed from an autosave anymore
+            JumpGame.deleteSavedData();
             JumpGameStats.INSTANCE.updateHighestFinishedLevel(level);
             JumpGameStats.INSTANCE.updateLevelStars(level, stars);
 
@@ -50,6 +55,7 @@ public class GameScreen extends ScreenBase {
 
         @Override
         public void backToMenu(Vector2 clickScreenPosition) {
+            JumpGame.deleteSavedData();
             getGame().getForegroundMusic().fadeOutStop();
             setScreen(new MenuScreen(getGame(), true), new ScaleScreenTransition(
                     Cfg.SCREEN_TRANSITION_TIME, Interpolation.smooth, true,
@@ -101,9 +107,17 @@ public class GameScreen extends ScreenBase {
     public void show() {
         super.show();
 
-        soundEffects = new GameSoundEffects(getAssetManager());
-        controller = new GameController(callbacks, getGame(), soundEffects,
-                level, gameToResume);
+        // the atlas is shared with the other screens, so that it is loaded only once
+        TextureAtlas atlas = getAsset(AssetDescriptors.Atlas.GAMEPLAY);
+        soundEffects = new GameSoundEffects(getAssetManager(), getGame().getSoundBank());
+        controller = new GameController(callbacks, atlas, soundEffects,
+                getGame().getBackgroundMusic(), getGame().getForegroundMusic(),
+                getGame().getLevelPreloader().take(level), gameToResume);
+        controller.enableAutosave();
+        if (Cfg.RECORD_INPUT) {
+            inputTape = new InputTape(level);
+            controller.startRecording(inputTape);
+        }
         renderer = new GameRenderer(getBatch(), getAssetManager(), atlas, controller, getGame().getFrameBufferManager());
 
         JumpGame.deleteSavedData();
@@ -130,9 +144,13 @@ public class GameScreen extends ScreenBase {
 
     @Override
     public void dispose() {
+        if (inputTape != null) {
+            FileHandle tapeHandle = Gdx.files.local(
+                    String.format(Locale.ROOT, "replay_level%02d.dat", level));
+            BinarySerializer.write(inputTape, tapeHandle.write(false));
+        }
         renderer.dispose();
         controller.dispose();
-        atlas.dispose();
     }
 
     @Override
@@ -6,6 +6,9 @@ import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Disposable;
 
 import de.bsautermeister.jump.assets.AssetDescriptors;
+import de.bsautermeister.jump.audio.SilentSound;
+import de.bsautermeister.jump.audio.SoundBank;
+import de.bsautermeister.jump.audio.VoiceGroup;
 
 public class GameSoundEffects implements Disposable {
 
@@ -19,17 +22,10 @@ public class GameSoundEffects implements Disposable {
     public Sound coinSound;
     public Sound breakBlockSound;
     public Sound stompSound;
-    public Sound[] complainSounds;
-    private Sound[] swearingSounds;
-    private Sound[] drownSounds;
-    private Sound[] shoutSounds;
-    private Sound[] beerSounds;
     private Sound[] ozapftSounds;
     private Sound[] boostSounds;
     private Sound[] needBeerSounds;
     private Sound[] spotBeerSounds;
-    private Sound[] startSounds;
-    private Sound[] victorySounds;
     private Sound jumpSound;
     public Sound landingSound;
     public Sound kickedSound;
@@ -42,7 +38,13 @@ public class GameSoundEffects implements Disposable {
     public Sound frogSound;
     public Sound whineSound;
 
-    public GameSoundEffects(AssetManager assetManager) {
+    /**
+     * The voice groups are played from the sound bank, or muted in case there is none.
+     */
+    private final SoundBank soundBank;
+
+    public GameSoundEffects(AssetManager assetManager, SoundBank soundBank) {
+        this.soundBank = soundBank;
         bumpSound = assetManager.get(AssetDescriptors.Sounds.BUMP);
         beerSpawnSound = assetManager.get(AssetDescriptors.Sounds.BEER_SPAWN);
         coinSpawnSound = assetManager.get(AssetDescriptors.Sounds.COIN_SPAWN);
@@ -50,39 +52,6 @@ public class GameSoundEffects implements Disposable {
         coinSound = assetManager.get(AssetDescriptors.Sounds.COIN);
         breakBlockSound = assetManager.get(AssetDescriptors.Sounds.BREAK_BLOCK);
         stompSound = assetManager.get(AssetDescriptors.Sounds.STOMP);
-        swearingSounds = new Sound[] {
-                assetManager.get(AssetDescriptors.Sounds.SWEARING1),
-                assetManager.get(AssetDescriptors.Sounds.SWEARING2),
-                assetManager.get(AssetDescriptors.Sounds.SWEARING3),
-                assetManager.get(AssetDescriptors.Sounds.SWEARING4),
-                assetManager.get(AssetDescriptors.Sounds.SWEARING5),
-                assetManager.get(AssetDescriptors.Sounds.SWEARING6),
-                assetManager.get(AssetDescriptors.Sounds.SWEARING7),
-                assetManager.get(AssetDescriptors.Sounds.SWEARING8),
-                assetManager.get(AssetDescriptors.Sounds.SWEARING9),
-                assetManager.get(AssetDescriptors.Sounds.SWEARING10)
-        };
-        drownSounds = new Sound[] {
-                assetManager.get(AssetDescriptors.Sounds.DROWN1),
-                assetManager.get(AssetDescriptors.Sounds.DROWN2),
-                assetManager.get(AssetDescriptors.Sounds.DROWN3),
-                assetManager.get(AssetDescriptors.Sounds.DROWN4),
-                assetManager.get(AssetDescriptors.Sounds.DROWN5)
-        };
-        shoutSounds = new Sound[] {
-                assetManager.get(AssetDescriptors.Sounds.SHOUT1),
-                assetManager.get(AssetDescriptors.Sounds.SHOUT2),
-                assetManager.get(AssetDescriptors.Sounds.SHOUT3),
-                assetManager.get(AssetDescriptors.Sounds.SHOUT4),
-                assetManager.get(AssetDescriptors.Sounds.SHOUT5)
-        };
-        beerSounds = new Sound[] {
-                assetManager.get(AssetDescriptors.Sounds.BEER1),
-                assetManager.get(AssetDescriptors.Sounds.BEER2),
-                assetManager.get(AssetDescriptors.Sounds.BEER3),
-                assetManager.get(AssetDescriptors.Sounds.BEER4),
-                assetManager.get(AssetDescriptors.Sounds.BEER5)
-        };
         ozapftSounds = new Sound[] {
                 assetManager.get(AssetDescriptors.Sounds.OZAPFT1),
                 assetManager.get(AssetDescriptors.Sounds.OZAPFT2)
@@ -104,27 +73,6 @@ public class GameSoundEffects implements Disposable {
                 assetManager.get(AssetDescriptors.Sounds.SPOT_BEER2),
                 assetManager.get(AssetDescriptors.Sounds.SPOT_BEER3)
         };
-        startSounds = new Sound[] {
-                assetManager.get(AssetDescriptors.Sounds.START1),
-                assetManager.get(AssetDescriptors.Sounds.START2),
-                assetManager.get(AssetDescriptors.Sounds.START3),
-                assetManager.get(AssetDescriptors.Sounds.START4),
-                assetManager.get(AssetDescriptors.Sounds.START5)
-        };
-        victorySounds = new Sound[] {
-                assetManager.get(AssetDescriptors.Sounds.VICTORY1),
-                assetManager.get(AssetDescriptors.Sounds.VICTORY2),
-                assetManager.get(AssetDescriptors.Sounds.VICTORY3),
-                assetManager.get(AssetDescriptors.Sounds.VICTORY4),
-                assetManager.get(AssetDescriptors.Sounds.VICTORY5)
-        };
-        complainSounds = new Sound[] {
-                assetManager.get(AssetDescriptors.Sounds.COMPLAIN1),
-                assetManager.get(AssetDescriptors.Sounds.COMPLAIN2),
-                assetManager.get(AssetDescriptors.Sounds.COMPLAIN3),
-                assetManager.get(AssetDescriptors.Sounds.COMPLAIN4),
-                assetManager.get(AssetDescriptors.Sounds.COMPLAIN5)
-        };
         jumpSound = assetManager.get(AssetDescriptors.Sounds.JUMP);
         landingSound = assetManager.get(AssetDescriptors.Sounds.LANDING);
         kickedSound = assetManager.get(AssetDescriptors.Sounds.KICKED);
@@ -138,24 +86,151 @@ public class GameSoundEffects implements Disposable {
         whineSound = assetManager.get(AssetDescriptors.Sounds.WHINE);
     }
 
+    /**
+     * Creates sound effects that do not play anything, e.g. to run the game without audio backend.
+     */
+    public static GameSoundEffects createSilent() {
+        return new GameSoundEffects();
+    }
+
+    private GameSoundEffects() {
+        soundBank = null;
+        Sound silent = SilentSound.INSTANCE;
+        Sound[] silentVariants = new Sound[] { silent };
+        bumpSound = silent;
+        beerSpawnSound = silent;
+        coinSpawnSound = silent;
+        eatFoodSound = silent;
+        coinSound = silent;
+        breakBlockSound = silent;
+        stompSound = silent;
+        ozapftSounds = silentVariants;
+        boostSounds = silentVariants;
+        needBeerSounds = silentVariants;
+        spotBeerSounds = silentVariants;
+        jumpSound = silent;
+        landingSound = silent;
+        kickedSound = silent;
+        splashSound = silent;
+        fireSound = silent;
+        drinkingSound = silent;
+        successSound = silent;
+        burpSound = silent;
+        ravenSound = silent;
+        frogSound = silent;
+        whineSound = silent;
+    }
+
+    public void play(SoundEffect effect, float volume) {
+        switch (effect) {
+            case BUMP:
+                bumpSound.play(volume);
+                break;
+            case BEER_SPAWN:
+                beerSpawnSound.play(volume);
+                break;
+            case COIN_SPAWN:
+                coinSpawnSound.play(volume);
+                break;
+            case EAT_FOOD:
+                eatFoodSound.play(volume);
+                break;
+            case COIN:
+                coinSound.play(volume);
+                break;
+            case BREAK_BLOCK:
+                breakBlockSound.play(volume);
+                break;
+            case STOMP:
+                stompSound.play(volume);
+                break;
+            case JUMP:
+                playRandomJumpSound(volume);
+                break;
+            case LANDING:
+                landingSound.play(volume);
+                break;
+            case KICKED:
+                kickedSound.play(volume);
+                break;
+            case SPLASH:
+                splashSound.play(volume);
+                break;
+            case FIRE:
+                fireSound.play(volume);
+                break;
+            case DRINKING:
+                drinkingSound.play(volume);
+                break;
+            case SUCCESS:
+                successSound.play(volume);
+                break;
+            case BURP:
+                playRandomBurpSound(volume);
+                break;
+            case RAVEN:
+                ravenSound.play(volume);
+                break;
+            case FROG:
+                frogSound.play(volume);
+                break;
+            case WHINE:
+                whineSound.play(volume);
+                break;
+            case COMPLAIN:
+                randomComplainSound().play(volume);
+                break;
+            case SWEARING:
+                randomSwearingSound().play(volume);
+                break;
+            case DROWN:
+                randomDrownSound().play(volume);
+                break;
+            case SHOUT:
+                randomShoutSound().play(volume);
+                break;
+            case BEER:
+                randomBeerSound().play(volume);
+                break;
+            case OZAPFT:
+                randomOzapftSound().play(volume);
+                break;
+            case BOOST:
+                playRandomBoostSound();
+                break;
+            case NEED_BEER:
+                playRandomNeedBeerSound();
+                break;
+            case SPOT_BEER:
+                playRandomSpotBeerSound();
+                break;
+            case START:
+                playRandomStartSound();
+                break;
+            case VICTORY:
+                randomVictorySound().play(volume);
+                break;
+        }
+    }
+
     public Sound randomSwearingSound() {
         deduplicateVoice();
-        return swearingSounds[MathUtils.random(swearingSounds.length - 1)];
+        return voice(AssetDescriptors.Voices.SWEARING);
     }
 
     public Sound randomDrownSound() {
         deduplicateVoice();
-        return drownSounds[MathUtils.random(drownSounds.length - 1)];
+        return voice(AssetDescriptors.Voices.DROWN);
     }
 
     public Sound randomShoutSound() {
         deduplicateVoice();
-        return shoutSounds[MathUtils.random(shoutSounds.length - 1)];
+        return voice(AssetDescriptors.Voices.SHOUT);
     }
 
     public Sound randomBeerSound() {
         deduplicateVoice();
-        return beerSounds[MathUtils.random(beerSounds.length - 1)];
+        return voice(AssetDescriptors.Voices.BEER);
     }
 
     public Sound randomOzapftSound() {
@@ -186,19 +261,19 @@ public class GameSoundEffects implements Disposable {
 
     public void playRandomStartSound() {
         if (canPlayVoice()) {
-            startSounds[MathUtils.random(startSounds.length - 1)].play();
+            voice(AssetDescriptors.Voices.START).play();
             deduplicateVoice();
         }
     }
 
     public Sound randomVictorySound() {
         deduplicateVoice();
-        return victorySounds[MathUtils.random(victorySounds.length - 1)];
+        return voice(AssetDescriptors.Voices.VICTORY);
     }
 
     public Sound randomComplainSound() {
         deduplicateVoice();
-        return complainSounds[MathUtils.random(complainSounds.length - 1)];
+        return voice(AssetDescriptors.Voices.COMPLAIN);
     }
 
     public void playRandomBurpSound(float volume) {
@@ -212,6 +287,10 @@ public class GameSoundEffects implements Disposable {
         jumpSound.play(volume, randomPitch, 1.0f);
     }
 
+    private Sound voice(VoiceGroup group) {
+        return soundBank != null ? soundBank.random(group) : SilentSound.INSTANCE;
+    }
+
     private boolean canPlayVoice() {
         return lastVoiceStart + VOICE_DEDUPLICATION_GRACE_PERIOD < System.currentTimeMillis();
     }
@@ -0,0 +1,37 @@
+package de.bsautermeister.jump.screens.game;
+
+/**
+ * The sound effects that can be triggered by the game simulation. Effects with variations pick a
+ * random variation when they are played.
+ */
+public enum SoundEffect {
+    BUMP,
+    BEER_SPAWN,
+    COIN_SPAWN,
+    EAT_FOOD,
+    COIN,
+    BREAK_BLOCK,
+    STOMP,
+    JUMP,
+    LANDING,
+    KICKED,
+    SPLASH,
+    FIRE,
+    DRINKING,
+    SUCCESS,
+    BURP,
+    RAVEN,
+    FROG,
+    WHINE,
+    COMPLAIN,
+    SWEARING,
+    DROWN,
+    SHOUT,
+    BEER,
+    OZAPFT,
+    BOOST,
+    NEED_BEER,
+    SPOT_BEER,
+    START,
+    VICTORY
+}
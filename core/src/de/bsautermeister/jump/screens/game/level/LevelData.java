@@ -0,0 +1,385 @@
+package de.bsautermeister.jump.screens.game.level;
+
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import de.bsautermeister.jump.serializer.BinarySerializable;
+
+/**
+ * The content of a level in the compiled binary format, which is created from the TMX file at
+ * build time. Tile layers are stored as run-length encoded tile IDs with the bottom row first,
+ * and the objects are already grouped by their type and scaled to world units.
+ */
+public class LevelData implements BinarySerializable {
+
+    /**
+     * The version to check for compatibility, in case the compiled format has changed.
+     */
+    private static final byte VERSION = 0x01;
+
+    /**
+     * The header written to the binary file.
+     */
+    private static final byte[] HEADER = {0x4c, 0x45, 0x56, 0x45, 0x4c, VERSION};
+
+    private static final byte TILE_LAYER = 0;
+    private static final byte IMAGE_LAYER = 1;
+
+    private static final byte BOOLEAN_PROPERTY = 0;
+    private static final byte INT_PROPERTY = 1;
+    private static final byte FLOAT_PROPERTY = 2;
+    private static final byte STRING_PROPERTY = 3;
+
+    private static final Array<LevelObject> NO_OBJECTS = new Array<>(0);
+
+    private int width;
+    private int height;
+    private int tileWidth;
+    private int tileHeight;
+
+    private final Array<TileSet> tileSets = new Array<>();
+    private final Array<Layer> layers = new Array<>();
+    private final ObjectMap<String, Array<LevelObject>> objectsByType = new ObjectMap<>();
+
+    public void setSize(int width, int height, int tileWidth, int tileHeight) {
+        this.width = width;
+        this.height = height;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+    }
+
+    public void addTileSet(TileSet tileSet) {
+        tileSets.add(tileSet);
+    }
+
+    public void addLayer(Layer layer) {
+        layers.add(layer);
+    }
+
+    public void addObject(String type, LevelObject object) {
+        Array<LevelObject> objects = objectsByType.get(type);
+        if (objects == null) {
+            objects = new Array<>();
+            objectsByType.put(type, objects);
+        }
+        objects.add(object);
+    }
+
+    /**
+     * The width of the level in tiles.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * The height of the level in tiles.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    public int getTileWidth() {
+        return tileWidth;
+    }
+
+    public int getTileHeight() {
+        return tileHeight;
+    }
+
+    public Array<TileSet> getTileSets() {
+        return tileSets;
+    }
+
+    public Array<Layer> getLayers() {
+        return layers;
+    }
+
+    /**
+     * Returns the objects of the given type in the order of the TMX file. The returned array must
+     * not be modified.
+     */
+    public Array<LevelObject> getObjects(String type) {
+        Array<LevelObject> objects = objectsByType.get(type);
+        return objects != null ? objects : NO_OBJECTS;
+    }
+
+    public LevelObject getFirstObject(String type) {
+        Array<LevelObject> objects = getObjects(type);
+        return objects.size > 0 ? objects.first() : null;
+    }
+
+    public int getObjectCount() {
+        int count = 0;
+        for (Array<LevelObject> objects : objectsByType.values()) {
+            count += objects.size;
+        }
+        return count;
+    }
+
+    @Override
+    public void write(DataOutputStream out) throws IOException {
+        out.write(HEADER);
+        out.writeInt(width);
+        out.writeInt(height);
+        out.writeInt(tileWidth);
+        out.writeInt(tileHeight);
+
+        out.writeInt(tileSets.size);
+        for (TileSet tileSet : tileSets) {
+            out.writeUTF(tileSet.name);
+            out.writeUTF(tileSet.imagePath);
+            out.writeInt(tileSet.firstId);
+            out.writeInt(tileSet.tileWidth);
+            out.writeInt(tileSet.tileHeight);
+            out.writeInt(tileSet.spacing);
+            out.writeInt(tileSet.margin);
+        }
+
+        out.writeInt(layers.size);
+        for (Layer layer : layers) {
+            out.writeByte(layer instanceof TileLayer ? TILE_LAYER : IMAGE_LAYER);
+            out.writeUTF(layer.name);
+            out.writeFloat(layer.opacity);
+            out.writeBoolean(layer.visible);
+            out.writeFloat(layer.offsetX);
+            out.writeFloat(layer.offsetY);
+            if (layer instanceof TileLayer) {
+                TileLayer tileLayer = (TileLayer) layer;
+                out.writeInt(tileLayer.width);
+                out.writeInt(tileLayer.height);
+                writeTileIds(out, tileLayer.tileIds);
+            } else {
+                ImageLayer imageLayer = (ImageLayer) layer;
+                out.writeUTF(imageLayer.imagePath);
+                out.writeFloat(imageLayer.x);
+                out.writeFloat(imageLayer.top);
+            }
+        }
+
+        out.writeInt(objectsByType.size);
+        for (ObjectMap.Entry<String, Array<LevelObject>> entry : objectsByType) {
+            out.writeUTF(entry.key);
+            out.writeInt(entry.value.size);
+            for (LevelObject object : entry.value) {
+                Rectangle bounds = object.getBounds();
+                out.writeFloat(bounds.x);
+                out.writeFloat(bounds.y);
+                out.writeFloat(bounds.width);
+                out.writeFloat(bounds.height);
+                writeProperties(out, object.getProperties());
+            }
+        }
+    }
+
+    /**
+     * Writes the tile IDs run-length encoded, since most of the tiles of a layer are empty.
+     */
+    private static void writeTileIds(DataOutputStream out, int[] tileIds) throws IOException {
+        int runs = 0;
+        for (int i = 0; i < tileIds.length; ++i) {
+            if (i == 0 || tileIds[i] != tileIds[i - 1]) {
+                runs++;
+            }
+        }
+
+        out.writeInt(runs);
+        int start = 0;
+        for (int i = 1; i <= tileIds.length; ++i) {
+            if (i == tileIds.length || tileIds[i] != tileIds[start]) {
+                out.writeInt(i - start);
+                out.writeInt(tileIds[start]);
+                start = i;
+            }
+        }
+    }
+
+    private static void writeProperties(DataOutputStream out, MapProperties properties)
+            throws IOException {
+        int count = 0;
+        Iterator<String> keys = properties.getKeys();
+        while (keys.hasNext()) {
+            keys.next();
+            count++;
+        }
+
+        out.writeInt(count);
+        keys = properties.getKeys();
+        while (keys.hasNext()) {
+            String key = keys.next();
+            Object value = properties.get(key);
+            out.writeUTF(key);
+            if (value instanceof Boolean) {
+                out.writeByte(BOOLEAN_PROPERTY);
+                out.writeBoolean((Boolean) value);
+            } else if (value instanceof Integer) {
+                out.writeByte(INT_PROPERTY);
+                out.writeInt((Integer) value);
+            } else if (value instanceof Float) {
+                out.writeByte(FLOAT_PROPERTY);
+                out.writeFloat((Float) value);
+            } else {
+                out.writeByte(STRING_PROPERTY);
+                out.writeUTF(String.valueOf(value));
+            }
+        }
+    }
+
+    @Override
+    public void read(DataInputStream in) throws IOException {
+        byte[] header = new byte[HEADER.length];
+        in.readFully(header);
+        if (!Arrays.equals(header, HEADER)) {
+            throw new IOException("Unsupported level format");
+        }
+
+        tileSets.clear();
+        layers.clear();
+        objectsByType.clear();
+
+        setSize(in.readInt(), in.readInt(), in.readInt(), in.readInt());
+
+        int tileSetCount = in.readInt();
+        for (int i = 0; i < tileSetCount; ++i) {
+            TileSet tileSet = new TileSet();
+            tileSet.name = in.readUTF();
+            tileSet.imagePath = in.readUTF();
+            tileSet.firstId = in.readInt();
+            tileSet.tileWidth = in.readInt();
+            tileSet.tileHeight = in.readInt();
+            tileSet.spacing = in.readInt();
+            tileSet.margin = in.readInt();
+            tileSets.add(tileSet);
+        }
+
+        int layerCount = in.readInt();
+        for (int i = 0; i < layerCount; ++i) {
+            byte kind = in.readByte();
+            Layer layer = kind == TILE_LAYER ? new TileLayer() : new ImageLayer();
+            layer.name = in.readUTF();
+            layer.opacity = in.readFloat();
+            layer.visible = in.readBoolean();
+            layer.offsetX = in.readFloat();
+            layer.offsetY = in.readFloat();
+            if (layer instanceof TileLayer) {
+                TileLayer tileLayer = (TileLayer) layer;
+                tileLayer.width = in.readInt();
+                tileLayer.height = in.readInt();
+                tileLayer.tileIds = readTileIds(in, tileLayer.width * tileLayer.height);
+            } else {
+                ImageLayer imageLayer = (ImageLayer) layer;
+                imageLayer.imagePath = in.readUTF();
+                imageLayer.x = in.readFloat();
+                imageLayer.top = in.readFloat();
+            }
+            layers.add(layer);
+        }
+
+        int typeCount = in.readInt();
+        for (int i = 0; i < typeCount; ++i) {
+            String type = in.readUTF();
+            int objectCount = in.readInt();
+            Array<LevelObject> objects = new Array<>(objectCount);
+            for (int o = 0; o < objectCount; ++o) {
+                Rectangle bounds = new Rectangle(
+                        in.readFloat(), in.readFloat(), in.readFloat(), in.readFloat());
+                objects.add(new LevelObject(bounds, readProperties(in)));
+            }
+            objectsByType.put(type, objects);
+        }
+    }
+
+    private static int[] readTileIds(DataInputStream in, int count) throws IOException {
+        int[] tileIds = new int[count];
+        int runs = in.readInt();
+        int index = 0;
+        for (int i = 0; i < runs; ++i) {
+            int length = in.readInt();
+            int tileId = in.readInt();
+            if (index + length > count) {
+                throw new IOException("Tile layer exceeds its size");
+            }
+            Arrays.fill(tileIds, index, index + length, tileId);
+            index += length;
+        }
+        return tileIds;
+    }
+
+    private static MapProperties readProperties(DataInputStream in) throws IOException {
+        MapProperties properties = new MapProperties();
+        int count = in.readInt();
+        for (int i = 0; i < count; ++i) {
+            String key = in.readUTF();
+            byte kind = in.readByte();
+            switch (kind) {
+                case BOOLEAN_PROPERTY:
+                    properties.put(key, in.readBoolean());
+                    break;
+                case INT_PROPERTY:
+                    properties.put(key, in.readInt());
+                    break;
+                case FLOAT_PROPERTY:
+                    properties.put(key, in.readFloat());
+                    break;
+                case STRING_PROPERTY:
+                    properties.put(key, in.readUTF());
+                    break;
+                default:
+                    throw new IOException("Unknown property kind: " + kind);
+            }
+        }
+        return properties;
+    }
+
+    public static class TileSet {
+        public String name;
+        /**
+         * The path of the tile set image, relative to the assets folder.
+         */
+        public String imagePath;
+        public int firstId;
+        public int tileWidth;
+        public int tileHeight;
+        public int spacing;
+        public int margin;
+    }
+
+    public static abstract class Layer {
+        public String name;
+        public float opacity = 1f;
+        public boolean visible = true;
+        public float offsetX;
+        public float offsetY;
+    }
+
+    public static class TileLayer extends Layer {
+        public int width;
+        public int height;
+        /**
+         * The tile IDs row by row, starting with the bottom row. The highest bits contain the
+         * flip flags of the TMX format.
+         */
+        public int[] tileIds;
+    }
+
+    public static class ImageLayer extends Layer {
+        /**
+         * The path of the image, relative to the assets folder.
+         */
+        public String imagePath;
+        public float x;
+        /**
+         * The y-coordinate of the top edge, because the size stated in the TMX file does not have
+         * to match the actual image.
+         */
+        public float top;
+    }
+}
@@ -0,0 +1,215 @@
+package de.bsautermeister.jump.screens.game.level;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FileTextureData;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapImageLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Logger;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Locale;
+
+import de.bsautermeister.jump.Cfg;
+
+/**
+ * Loads the compiled levels and creates the tiled map for rendering. The textures of the tile sets
+ * and image layers are kept across loads, so that restarting a level does not reload them.
+ */
+public class LevelLoader implements Disposable {
+    private static final Logger LOG = new Logger(LevelLoader.class.getSimpleName(), Cfg.LOG_LEVEL);
+
+    private static final int FLIP_HORIZONTALLY = 0x80000000;
+    private static final int FLIP_VERTICALLY = 0x40000000;
+    private static final int FLIP_DIAGONALLY = 0x20000000;
+    private static final int MASK_CLEAR = 0xE0000000;
+
+    private final ObjectMap<String, Texture> textures = new ObjectMap<>();
+
+    public static String getLevelPath(int level) {
+        return String.format(Locale.ROOT, "maps/level%02d.lvl", level);
+    }
+
+    public static LevelData load(int level) {
+        return load(Gdx.files.internal(getLevelPath(level)));
+    }
+
+    /**
+     * Reads the compiled level with a single bulk read.
+     */
+    public static LevelData load(FileHandle file) {
+        long startTime = System.nanoTime();
+        LevelData levelData = new LevelData();
+        try {
+            levelData.read(new DataInputStream(new ByteArrayInputStream(file.readBytes())));
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not read level: " + file, e);
+        }
+        LOG.debug(String.format(Locale.ROOT, "Loaded %s with %d objects in %.2f ms", file.name(),
+                levelData.getObjectCount(), (System.nanoTime() - startTime) / 1e6f));
+        return levelData;
+    }
+
+    /**
+     * Creates a new tiled map of the level. The map does not own the textures, so that disposing it
+     * does not unload them.
+     */
+    public TiledMap createMap(LevelData levelData) {
+        return createMap(levelData, null);
+    }
+
+    /**
+     * Creates a new tiled map of the prepared level, where the textures are created from the images
+     * that have already been decoded.
+     */
+    public TiledMap createMap(PreparedLevel preparedLevel) {
+        return createMap(preparedLevel.getLevelData(), preparedLevel);
+    }
+
+    private TiledMap createMap(LevelData levelData, PreparedLevel preparedLevel) {
+        TiledMap map = new TiledMap();
+        MapProperties properties = map.getProperties();
+        properties.put("width", levelData.getWidth());
+        properties.put("height", levelData.getHeight());
+        properties.put("tilewidth", levelData.getTileWidth());
+        properties.put("tileheight", levelData.getTileHeight());
+
+        for (LevelData.TileSet tileSetData : levelData.getTileSets()) {
+            map.getTileSets().addTileSet(createTileSet(tileSetData, preparedLevel));
+        }
+
+        for (LevelData.Layer layerData : levelData.getLayers()) {
+            if (layerData instanceof LevelData.TileLayer) {
+                map.getLayers().add(createTileLayer(map, levelData, (LevelData.TileLayer) layerData));
+            } else {
+                map.getLayers().add(createImageLayer((LevelData.ImageLayer) layerData,
+                        preparedLevel));
+            }
+        }
+        return map;
+    }
+
+    private TiledMapTileSet createTileSet(LevelData.TileSet tileSetData,
+                                          PreparedLevel preparedLevel) {
+        TiledMapTileSet tileSet = new TiledMapTileSet();
+        tileSet.setName(tileSetData.name);
+
+        Texture texture = getTexture(tileSetData.imagePath, preparedLevel);
+        int stopWidth = texture.getWidth() - tileSetData.tileWidth;
+        int stopHeight = texture.getHeight() - tileSetData.tileHeight;
+        int id = tileSetData.firstId;
+        for (int y = tileSetData.margin; y <= stopHeight; y += tileSetData.tileHeight + tileSetData.spacing) {
+            for (int x = tileSetData.margin; x <= stopWidth; x += tileSetData.tileWidth + tileSetData.spacing) {
+                TextureRegion region = new TextureRegion(texture, x, y,
+                        tileSetData.tileWidth, tileSetData.tileHeight);
+                StaticTiledMapTile tile = new StaticTiledMapTile(region);
+                tile.setId(id);
+                tileSet.putTile(id++, tile);
+            }
+        }
+        return tileSet;
+    }
+
+    private static TiledMapTileLayer createTileLayer(TiledMap map, LevelData levelData,
+                                                     LevelData.TileLayer layerData) {
+        TiledMapTileLayer layer = new TiledMapTileLayer(layerData.width, layerData.height,
+                levelData.getTileWidth(), levelData.getTileHeight());
+        setLayerInfo(layer, layerData);
+
+        int[] tileIds = layerData.tileIds;
+        for (int y = 0; y < layerData.height; ++y) {
+            for (int x = 0; x < layerData.width; ++x) {
+                int tileId = tileIds[y * layerData.width + x];
+                TiledMapTile tile = map.getTileSets().getTile(tileId & ~MASK_CLEAR);
+                if (tile != null) {
+                    TiledMapTileLayer.Cell cell = createCell(
+                            (tileId & FLIP_HORIZONTALLY) != 0,
+                            (tileId & FLIP_VERTICALLY) != 0,
+                            (tileId & FLIP_DIAGONALLY) != 0);
+                    cell.setTile(tile);
+                    layer.setCell(x, y, cell);
+                }
+            }
+        }
+        return layer;
+    }
+
+    private static TiledMapTileLayer.Cell createCell(boolean flipHorizontally,
+                                                     boolean flipVertically,
+                                                     boolean flipDiagonally) {
+        TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+        if (flipDiagonally) {
+            if (flipHorizontally && flipVertically) {
+                cell.setFlipHorizontally(true);
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            } else if (flipHorizontally) {
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            } else if (flipVertically) {
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_90);
+            } else {
+                cell.setFlipVertically(true);
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            }
+        } else {
+            cell.setFlipHorizontally(flipHorizontally);
+            cell.setFlipVertically(flipVertically);
+        }
+        return cell;
+    }
+
+    private TiledMapImageLayer createImageLayer(LevelData.ImageLayer layerData,
+                                                PreparedLevel preparedLevel) {
+        Texture texture = getTexture(layerData.imagePath, preparedLevel);
+        TiledMapImageLayer layer = new TiledMapImageLayer(new TextureRegion(texture),
+                layerData.x, layerData.top - texture.getHeight());
+        setLayerInfo(layer, layerData);
+        return layer;
+    }
+
+    private static void setLayerInfo(MapLayer layer, LevelData.Layer layerData) {
+        layer.setName(layerData.name);
+        layer.setOpacity(layerData.opacity);
+        layer.setVisible(layerData.visible);
+        layer.setOffsetX(layerData.offsetX);
+        layer.setOffsetY(layerData.offsetY);
+    }
+
+    private Texture getTexture(String path, PreparedLevel preparedLevel) {
+        Texture texture = textures.get(path);
+        if (texture == null) {
+            FileHandle file = Gdx.files.internal(path);
+            Pixmap pixmap = preparedLevel != null ? preparedLevel.takePixmap(path) : null;
+            if (pixmap != null) {
+                // same as loading the texture from the file, which is still used to reload it
+                // when the GL context is lost
+                texture = new Texture(new FileTextureData(file, pixmap, null, false));
+            } else {
+                texture = new Texture(file);
+            }
+            textures.put(path, texture);
+        }
+        return texture;
+    }
+
+    @Override
+    public void dispose() {
+        for (Texture texture : textures.values()) {
+            texture.dispose();
+        }
+        textures.clear();
+    }
+}
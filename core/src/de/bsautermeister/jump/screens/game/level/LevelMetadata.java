@@ -23,4 +23,11 @@ public class LevelMetadata {
     public static LevelInfo getLevelInfo(int level) {
         return LEVELS[level];
     }
+
+    /**
+     * The number of levels, including the tutorial.
+     */
+    public static int getLevelCount() {
+        return LEVELS.length;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package de.bsautermeister.jump.screens.game.level;
+
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * A rectangle object of a level, with its bounds already scaled to world units.
+ */
+public class LevelObject {
+    private final Rectangle bounds;
+    private final MapProperties properties;
+
+    public LevelObject(Rectangle bounds, MapProperties properties) {
+        this.bounds = bounds;
+        this.properties = properties;
+    }
+
+    /**
+     * The bounds in world units. Callers that modify the rectangle have to copy it first.
+     */
+    public Rectangle getBounds() {
+        return bounds;
+    }
+
+    public MapProperties getProperties() {
+        return properties;
+    }
+}
@@ -0,0 +1,91 @@
+package de.bsautermeister.jump.screens.game.level;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Logger;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+import de.bsautermeister.jump.Cfg;
+
+/**
+ * Prepares the level that is most likely played next on a worker thread, e.g. while the player is
+ * in the menu or on the finish screen, so that starting the level does not stall the rendering
+ * thread. Only one level is preloaded at a time.
+ */
+public class LevelPreloader implements Disposable {
+    private static final Logger LOG = new Logger(LevelPreloader.class.getSimpleName(), Cfg.LOG_LEVEL);
+
+    private static final int NONE = -1;
+
+    private final AsyncExecutor executor = new AsyncExecutor(1, LevelPreloader.class.getSimpleName());
+
+    private int pendingLevel = NONE;
+    private AsyncResult<PreparedLevel> pendingResult;
+
+    /**
+     * Starts preparing the given level in the background, which replaces any other preloaded level.
+     */
+    public void preload(final int level) {
+        if (pendingResult != null && pendingLevel == level) {
+            return;
+        }
+
+        discardPending();
+        LOG.debug("Preload level: " + level);
+        pendingLevel = level;
+        pendingResult = executor.submit(new AsyncTask<PreparedLevel>() {
+            @Override
+            public PreparedLevel call() {
+                return PreparedLevel.prepare(level);
+            }
+        });
+    }
+
+    /**
+     * Returns the prepared level, which has to be disposed by the caller. In case a different
+     * level has been preloaded, or preloading has failed, the level is prepared on the calling
+     * thread instead.
+     */
+    public PreparedLevel take(int level) {
+        if (pendingResult != null && pendingLevel == level) {
+            AsyncResult<PreparedLevel> result = pendingResult;
+            pendingResult = null;
+            pendingLevel = NONE;
+            try {
+                // blocks in case the level is still being prepared
+                return result.get();
+            } catch (GdxRuntimeException e) {
+                LOG.error("Could not preload level: " + level, e);
+            }
+        }
+
+        discardPending();
+        return PreparedLevel.prepare(level);
+    }
+
+    private void discardPending() {
+        if (pendingResult == null) {
+            return;
+        }
+
+        final AsyncResult<PreparedLevel> result = pendingResult;
+        pendingResult = null;
+        pendingLevel = NONE;
+        // the executor runs one task after the other, so the result is ready when this task runs
+        executor.submit(new AsyncTask<Void>() {
+            @Override
+            public Void call() {
+                result.get().dispose();
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void dispose() {
+        discardPending();
+        executor.dispose();
+    }
+}
@@ -0,0 +1,125 @@
+package de.bsautermeister.jump.screens.game.level;
+
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import de.bsautermeister.jump.physics.WorldCreator;
+import de.bsautermeister.jump.sprites.Coin;
+import de.bsautermeister.jump.sprites.InteractiveTileObject;
+import de.bsautermeister.jump.sprites.Platform;
+import de.bsautermeister.jump.sprites.Player;
+import de.bsautermeister.jump.sprites.enemies.Enemy;
+
+/**
+ * The entities of a level right after it has been built for the first time, together with a
+ * snapshot of their initial state. Restarting the level respawns these entities in a new physics
+ * world and restores the snapshot, instead of creating them again, which would resolve all the
+ * texture regions and load the particle effects once more.
+ */
+public class LevelPrototype {
+    private final WorldCreator.StartParams start;
+    private final Player player;
+    private final Array<InteractiveTileObject> tileObjects;
+    private final Array<Platform> platforms;
+    private final Array<Enemy> enemies;
+    private final Array<Coin> coins;
+
+    private final byte[] snapshot;
+
+    /**
+     * Takes the snapshot of the given entities, which have to be passed in the order their bodies
+     * have been created.
+     */
+    public LevelPrototype(WorldCreator.StartParams start, Player player,
+                          Array<InteractiveTileObject> tileObjects, Array<Platform> platforms,
+                          Array<Enemy> enemies, Array<Coin> coins) {
+        this.start = start;
+        this.player = player;
+        this.tileObjects = new Array<>(tileObjects);
+        this.platforms = new Array<>(platforms);
+        this.enemies = new Array<>(enemies);
+        this.coins = new Array<>(coins);
+        this.snapshot = takeSnapshot();
+    }
+
+    private byte[] takeSnapshot() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(output);
+        try {
+            for (InteractiveTileObject tileObject : tileObjects) {
+                tileObject.write(out);
+            }
+            player.write(out);
+            for (Platform platform : platforms) {
+                platform.write(out);
+            }
+            for (Enemy enemy : enemies) {
+                enemy.write(out);
+            }
+            for (Coin coin : coins) {
+                coin.write(out);
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not take the snapshot of the level", e);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Respawns all entities in the given world. The bodies are created in the same order as when
+     * the level was built for the first time, so that the physics simulation behaves exactly the
+     * same. The static bodies of the level have to be created before. The enemies and coins can be
+     * left out, in case they are restored from a saved state afterwards.
+     */
+    public void restore(World world, boolean includeEnemiesAndCoins) {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot));
+        try {
+            for (InteractiveTileObject tileObject : tileObjects) {
+                tileObject.respawn(world, in);
+            }
+            player.respawn(world, start, in);
+            for (Platform platform : platforms) {
+                platform.respawn(world, in);
+            }
+            if (!includeEnemiesAndCoins) {
+                return;
+            }
+            for (Enemy enemy : enemies) {
+                enemy.respawn(world, in);
+            }
+            for (Coin coin : coins) {
+                coin.respawn(world, in);
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not restore the snapshot of the level", e);
+        }
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public Array<InteractiveTileObject> getTileObjects() {
+        return tileObjects;
+    }
+
+    public Array<Platform> getPlatforms() {
+        return platforms;
+    }
+
+    public Array<Enemy> getEnemies() {
+        return enemies;
+    }
+
+    public Array<Coin> getCoins() {
+        return coins;
+    }
+}
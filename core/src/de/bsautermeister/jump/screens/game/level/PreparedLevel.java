@@ -0,0 +1,72 @@
+package de.bsautermeister.jump.screens.game.level;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * A level that has been loaded together with the decoded images of its tile sets and image
+ * layers. Preparing a level does not require the GL context, so that it can run on a worker
+ * thread, which only leaves the texture upload and building the physics world to the rendering
+ * thread.
+ */
+public class PreparedLevel implements Disposable {
+    private final int level;
+    private final LevelData levelData;
+    private final ObjectMap<String, Pixmap> pixmaps = new ObjectMap<>();
+
+    private PreparedLevel(int level, LevelData levelData) {
+        this.level = level;
+        this.levelData = levelData;
+    }
+
+    /**
+     * Loads the level and decodes its images. This can be called from any thread.
+     */
+    public static PreparedLevel prepare(int level) {
+        PreparedLevel preparedLevel = new PreparedLevel(level, LevelLoader.load(level));
+        for (LevelData.TileSet tileSet : preparedLevel.levelData.getTileSets()) {
+            preparedLevel.decodeImage(tileSet.imagePath);
+        }
+        for (LevelData.Layer layer : preparedLevel.levelData.getLayers()) {
+            if (layer instanceof LevelData.ImageLayer) {
+                preparedLevel.decodeImage(((LevelData.ImageLayer) layer).imagePath);
+            }
+        }
+        return preparedLevel;
+    }
+
+    private void decodeImage(String path) {
+        if (!pixmaps.containsKey(path)) {
+            pixmaps.put(path, new Pixmap(Gdx.files.internal(path)));
+        }
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public LevelData getLevelData() {
+        return levelData;
+    }
+
+    /**
+     * Hands over the decoded image of the given path, which has to be disposed by the caller.
+     * Returns null in case the image has not been decoded or has already been taken.
+     */
+    Pixmap takePixmap(String path) {
+        return pixmaps.remove(path);
+    }
+
+    /**
+     * Disposes the images that have not been taken.
+     */
+    @Override
+    public void dispose() {
+        for (Pixmap pixmap : pixmaps.values()) {
+            pixmap.dispose();
+        }
+        pixmaps.clear();
+    }
+}
@@ -93,6 +93,7 @@ public class LoadingScreen extends ScreenBase {
         for (AssetDescriptor assetDescriptor : AssetDescriptors.ALL) {
             getAssetManager().load(assetDescriptor);
         }
+        getGame().getSoundBank().loadResident(AssetDescriptors.Voices.ALL);
     }
 
     @Override
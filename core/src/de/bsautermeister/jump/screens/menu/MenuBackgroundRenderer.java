@@ -1,5 +1,6 @@
 package de.bsautermeister.jump.screens.menu;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
@@ -9,7 +10,6 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.Interpolation;
 import com.badlogic.gdx.math.MathUtils;
@@ -23,6 +23,8 @@ import de.bsautermeister.jump.Cfg;
 import de.bsautermeister.jump.assets.RegionNames;
 import de.bsautermeister.jump.physics.WorldCreator;
 import de.bsautermeister.jump.rendering.ParallaxRenderer;
+import de.bsautermeister.jump.screens.game.level.LevelData;
+import de.bsautermeister.jump.screens.game.level.LevelLoader;
 import de.bsautermeister.jump.sprites.Snorer;
 import de.bsautermeister.jump.utils.GdxUtils;
 
@@ -35,7 +37,7 @@ public class MenuBackgroundRenderer implements Disposable {
     private final ShaderProgram waterShader;
     private final TextureRegion waterTexture;
 
-    private final TmxMapLoader mapLoader;
+    private final LevelLoader levelLoader;
     private final TiledMap map;
     private final OrthogonalTiledMapRenderer mapRenderer;
     private final ParallaxRenderer parallaxRenderer;
@@ -56,13 +58,14 @@ public class MenuBackgroundRenderer implements Disposable {
 
         waterTexture = atlas.findRegion(RegionNames.WATER);
 
-        mapLoader = new TmxMapLoader();
-        map = mapLoader.load("maps/menu_background.tmx");
+        levelLoader = new LevelLoader();
+        LevelData levelData = LevelLoader.load(Gdx.files.internal("maps/menu_background.lvl"));
+        map = levelLoader.createMap(levelData);
         mapRenderer = new OrthogonalTiledMapRenderer(map, 1 / Cfg.PPM, batch);
         parallaxRenderer = new ParallaxRenderer(camera, mapRenderer);
         parallaxRenderer.setMap(map);
 
-        WorldCreator worldCreator = new WorldCreator(null, null, map, atlas);
+        WorldCreator worldCreator = new WorldCreator(null, null, map, levelData, atlas);
         worldCreator.buildFromMap();
         waterList = worldCreator.getWaterRegions();
 
@@ -151,6 +154,7 @@ public class MenuBackgroundRenderer implements Disposable {
     @Override
     public void dispose() {
         mapRenderer.dispose();
+        levelLoader.dispose();
         waterShader.dispose();
         snorer.stop();
     }
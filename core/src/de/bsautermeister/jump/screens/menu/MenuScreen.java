@@ -17,6 +17,7 @@ import java.util.logging.Level;
 
 import de.bsautermeister.jump.Cfg;
 import de.bsautermeister.jump.JumpGame;
+import de.bsautermeister.jump.assets.AssetDescriptors;
 import de.bsautermeister.jump.assets.AssetPaths;
 import de.bsautermeister.jump.audio.MusicPlayer;
 import de.bsautermeister.jump.commons.GameApp;
@@ -31,8 +32,6 @@ public class MenuScreen extends ScreenBase {
     private final Viewport uiViewport;
     private Stage stage;
 
-    private TextureAtlas atlas = new TextureAtlas(AssetPaths.Atlas.GAMEPLAY);
-
     private final MenuBackgroundRenderer backgroundRenderer;
 
     private Table content;
@@ -47,6 +46,7 @@ public class MenuScreen extends ScreenBase {
     public MenuScreen(GameApp game, boolean skipIntroTransition, String contentType, int lastLevel) {
         super(game);
         this.uiViewport = new StretchViewport(Cfg.UI_WIDTH, Cfg.UI_HEIGHT);
+        TextureAtlas atlas = getAsset(AssetDescriptors.Atlas.GAMEPLAY);
         backgroundRenderer = new MenuBackgroundRenderer(getAssetManager(), getBatch(), atlas);
         if (skipIntroTransition) {
             backgroundRenderer.skipIntroTransition();
@@ -93,6 +93,12 @@ public class MenuScreen extends ScreenBase {
     }
 
     private Table createMainContent() {
+        if (JumpGame.hasSavedData()) {
+            getGame().getLevelPreloader().preload(JumpGameStats.INSTANCE.getLastStartedLevel());
+        } else {
+            getGame().getLevelPreloader().preload(LevelUtils.getNextLevelToPlay());
+        }
+
         return new MainMenuContent(getAssetManager(), new MainMenuContent.Callbacks() {
             @Override
             public void playClicked() {
@@ -119,7 +125,9 @@ public class MenuScreen extends ScreenBase {
     }
 
     private Table createSelectLevelContent(final int page) {
-        return new SelectLevelMenuContent(page, getAssetManager(), new SelectLevelMenuContent.Callbacks() {
+        getGame().getLevelPreloader().preload(LevelUtils.getNextLevelToPlay());
+
+        return new SelectLevelMenuContent(page, getAssetManager(), getGame().getSoundBank(), new SelectLevelMenuContent.Callbacks() {
             @Override
             public void leftClicked() {
                 setContent(createSelectLevelContent(page - 1));
@@ -176,7 +184,6 @@ public class MenuScreen extends ScreenBase {
     public void dispose() {
         stage.dispose();
         backgroundRenderer.dispose();
-        atlas.dispose();
     }
 
     @Override
@@ -17,6 +17,7 @@ import de.bsautermeister.jump.Cfg;
 import de.bsautermeister.jump.assets.AssetDescriptors;
 import de.bsautermeister.jump.assets.Language;
 import de.bsautermeister.jump.assets.Styles;
+import de.bsautermeister.jump.audio.SoundBank;
 import de.bsautermeister.jump.commons.JumpGameStats;
 import de.bsautermeister.jump.screens.game.GameSoundEffects;
 import de.bsautermeister.jump.screens.game.level.LevelInfo;
@@ -36,10 +37,11 @@ public class SelectLevelMenuContent extends Table {
 
     private final int page;
 
-    public SelectLevelMenuContent(int page, AssetManager assetManager, Callbacks callbacks) {
+    public SelectLevelMenuContent(int page, AssetManager assetManager, SoundBank soundBank,
+                                  Callbacks callbacks) {
         this.page = page;
         this.callbacks = callbacks;
-        this.gameSoundEffects = new GameSoundEffects(assetManager);
+        this.gameSoundEffects = new GameSoundEffects(assetManager, soundBank);
         i18n = assetManager.get(AssetDescriptors.I18n.LANGUAGE);
         initialize(assetManager);
     }
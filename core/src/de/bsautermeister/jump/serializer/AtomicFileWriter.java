@@ -0,0 +1,117 @@
+package de.bsautermeister.jump.serializer;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.Logger;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import de.bsautermeister.jump.Cfg;
+
+/**
+ * Writes files on a background thread. The data is written to a temporary file first, which is
+ * synced to the storage and then renamed over the target file, so that a crash or a kill of the
+ * app while writing never leaves a partially written file behind. All operations are executed in
+ * the order they have been submitted.
+ */
+public class AtomicFileWriter implements Disposable {
+    private static final Logger LOG = new Logger(AtomicFileWriter.class.getSimpleName(), Cfg.LOG_LEVEL);
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final AsyncExecutor executor = new AsyncExecutor(1, AtomicFileWriter.class.getSimpleName());
+
+    private AsyncResult<Void> lastResult;
+
+    /**
+     * Writes the data to the given file in the background. The data must not be modified afterwards.
+     */
+    public void write(final FileHandle fileHandle, final byte[] data) {
+        lastResult = executor.submit(new AsyncTask<Void>() {
+            @Override
+            public Void call() {
+                try {
+                    writeAtomically(fileHandle.file(), data);
+                } catch (IOException e) {
+                    LOG.error("Could not write file: " + fileHandle.path(), e);
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Appends the data to the given file in the background. Unlike a write, appending is not
+     * atomic, so the data has to be framed in a way that an incomplete tail can be detected.
+     */
+    public void append(final FileHandle fileHandle, final byte[] data) {
+        lastResult = executor.submit(new AsyncTask<Void>() {
+            @Override
+            public Void call() {
+                try {
+                    writeSynced(fileHandle.file(), data, true);
+                } catch (IOException e) {
+                    LOG.error("Could not append to file: " + fileHandle.path(), e);
+                }
+                return null;
+            }
+        });
+    }
+
+    public void delete(final FileHandle fileHandle) {
+        lastResult = executor.submit(new AsyncTask<Void>() {
+            @Override
+            public Void call() {
+                if (fileHandle.exists()) {
+                    fileHandle.delete();
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Blocks until all submitted operations have been executed.
+     */
+    public void awaitPending() {
+        if (lastResult != null) {
+            // the executor runs one task after the other, so all previous tasks are done as well
+            lastResult.get();
+            lastResult = null;
+        }
+    }
+
+    private static void writeAtomically(File file, byte[] data) throws IOException {
+        File tempFile = new File(file.getPath() + TEMP_SUFFIX);
+        writeSynced(tempFile, data, false);
+
+        if (!tempFile.renameTo(file)) {
+            // renaming does not replace an existing file on every platform, e.g. on Windows
+            if (!file.delete() || !tempFile.renameTo(file)) {
+                throw new IOException("Could not rename " + tempFile + " to " + file);
+            }
+        }
+    }
+
+    private static void writeSynced(File file, byte[] data, boolean append) throws IOException {
+        FileOutputStream out = new FileOutputStream(file, append);
+        try {
+            out.write(data);
+            out.flush();
+            out.getFD().sync();
+        } finally {
+            out.close();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        awaitPending();
+        executor.dispose();
+    }
+}
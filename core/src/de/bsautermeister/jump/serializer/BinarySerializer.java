@@ -1,5 +1,9 @@
 package de.bsautermeister.jump.serializer;
 
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
@@ -7,24 +11,35 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
 
 public class BinarySerializer {
 
     /**
      * The version to check for compatibility, in case the expected data has changed.
+     * Changes within the sections of the game state are migrated instead, see {@link SectionReader}.
      */
-    private final static byte VERSION = 0x03;
+    private final static byte VERSION = 0x06;
 
     /**
      * The header written to the binary file.
      */
     private final static byte[] HEADER = {0x53, 0x4e, 0x45, 0x47, 0x47, VERSION};
 
+    /**
+     * The CRC32 of the header and the data, which is appended to detect truncated or corrupted files.
+     */
+    private final static int CHECKSUM_LENGTH = 4;
+
     public static boolean write(BinarySerializable serializable, OutputStream output) {
-        DataOutputStream out = new DataOutputStream(output);
+        CheckedOutputStream checkedOut = new CheckedOutputStream(output, new CRC32());
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(checkedOut));
         try {
             out.write(HEADER);
             serializable.write(out);
+            out.flush();
+            new DataOutputStream(output).writeInt((int) checkedOut.getChecksum().getValue());
             return true;
         } catch (IOException ex) {
             return false;
@@ -34,9 +49,9 @@ public class BinarySerializer {
     }
 
     public static boolean read(BinarySerializable serializable, InputStream input) {
-        DataInputStream in = new DataInputStream(input);
         try {
-            if (checkHeader(in)) {
+            DataInputStream in = open(input);
+            if (in != null) {
                 serializable.read(in);
                 return true;
             }
@@ -44,19 +59,44 @@ public class BinarySerializer {
         } catch (IOException ex) {
             return false;
         } finally {
-            tryClose(in);
+            tryClose(input);
         }
     }
 
     public static boolean isCompatibleVersion(InputStream input) {
-        DataInputStream in = new DataInputStream(input);
         try {
-            return checkHeader(in);
+            return open(input) != null;
         } catch (IOException ex) {
             return false;
         } finally {
-            tryClose(in);
+            tryClose(input);
+        }
+    }
+
+    /**
+     * Reads the whole input and returns a stream of the data after the header, or null in case the
+     * header or the checksum does not match.
+     */
+    private static DataInputStream open(InputStream input) throws IOException {
+        byte[] data = StreamUtils.copyStreamToByteArray(input, input.available());
+        int length = data.length - CHECKSUM_LENGTH;
+        if (length < HEADER.length) {
+            return null;
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 0, length));
+        if (!checkHeader(in)) {
+            return null;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, length);
+        int savedChecksum = new DataInputStream(
+                new ByteArrayInputStream(data, length, CHECKSUM_LENGTH)).readInt();
+        if (savedChecksum != (int) crc.getValue()) {
+            return null;
         }
+        return in;
     }
 
     private static boolean checkHeader(DataInputStream in) throws IOException {
@@ -0,0 +1,72 @@
+package de.bsautermeister.jump.serializer;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Records that are appended to a journal file next to a saved state. Each record is prefixed
+ * with its length and is written by the {@link BinarySerializer}, which adds a checksum, so that
+ * a record that has not been written completely, e.g. because the app has been killed, ends the
+ * journal.
+ */
+public final class Journal {
+    private static final String EXTENSION = ".journal";
+
+    private Journal() {}
+
+    public static FileHandle getHandle(FileHandle savedDataHandle) {
+        return savedDataHandle.sibling(savedDataHandle.name() + EXTENSION);
+    }
+
+    /**
+     * Returns the record to append to the journal, or null in case the state could not be written.
+     */
+    public static byte[] createRecord(BinarySerializable serializable) {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        if (!BinarySerializer.write(serializable, data)) {
+            return null;
+        }
+
+        ByteArrayOutputStream record = new ByteArrayOutputStream(data.size() + 5);
+        DataOutputStream out = new DataOutputStream(record);
+        try {
+            SerializerUtils.writeVarInt(out, data.size());
+            data.writeTo(out);
+        } catch (IOException e) {
+            return null;
+        }
+        return record.toByteArray();
+    }
+
+    /**
+     * Reads the records of the journal in the order they have been appended, until the end of the
+     * journal or the first record that is incomplete or cannot be read. Returns the number of
+     * records that have been read.
+     */
+    public static int readRecords(BinarySerializable serializable, FileHandle handle) {
+        if (!handle.exists()) {
+            return 0;
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(handle.readBytes()));
+        int count = 0;
+        try {
+            while (in.available() > 0) {
+                byte[] record = new byte[SerializerUtils.readVarInt(in)];
+                in.readFully(record);
+                if (!BinarySerializer.read(serializable, new ByteArrayInputStream(record))) {
+                    break;
+                }
+                count++;
+            }
+        } catch (IOException e) {
+            // the last record has not been written completely
+        }
+        return count;
+    }
+}
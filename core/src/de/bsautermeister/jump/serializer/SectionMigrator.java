@@ -0,0 +1,10 @@
+package de.bsautermeister.jump.serializer;
+
+import java.io.IOException;
+
+/**
+ * Converts the data of a section from one version to the next one.
+ */
+public interface SectionMigrator {
+    byte[] migrate(byte[] data) throws IOException;
+}
@@ -0,0 +1,78 @@
+package de.bsautermeister.jump.serializer;
+
+import com.badlogic.gdx.utils.IntMap;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * Reads the sections written by a {@link SectionWriter}. Sections that have been written with an
+ * older version are converted step by step by the registered migrators, so that a change of a
+ * single section does not invalidate saved data.
+ */
+public class SectionReader {
+    private final IntMap<Section> sections = new IntMap<>();
+    private final IntMap<IntMap<SectionMigrator>> migrators = new IntMap<>();
+
+    public SectionReader(DataInputStream in) throws IOException {
+        int id;
+        while ((id = SerializerUtils.readVarInt(in)) != SectionWriter.END_ID) {
+            int version = SerializerUtils.readVarInt(in);
+            byte[] data = new byte[SerializerUtils.readVarInt(in)];
+            in.readFully(data);
+            sections.put(id, new Section(version, data));
+        }
+    }
+
+    /**
+     * Registers the migrator that converts the given section from the given version to the next one.
+     */
+    public void addMigrator(int id, int fromVersion, SectionMigrator migrator) {
+        IntMap<SectionMigrator> sectionMigrators = migrators.get(id);
+        if (sectionMigrators == null) {
+            sectionMigrators = new IntMap<>();
+            migrators.put(id, sectionMigrators);
+        }
+        sectionMigrators.put(fromVersion, migrator);
+    }
+
+    public boolean contains(int id) {
+        return sections.containsKey(id);
+    }
+
+    /**
+     * Returns the stream of the given section, which is migrated to the given version in case it
+     * has been written with an older one.
+     */
+    public DataInputStream open(int id, int version) throws IOException {
+        Section section = sections.get(id);
+        if (section == null) {
+            throw new IOException("Missing section: " + id);
+        }
+        if (section.version > version) {
+            throw new IOException("Section " + id + " has unsupported version: " + section.version);
+        }
+
+        byte[] data = section.data;
+        for (int v = section.version; v < version; ++v) {
+            IntMap<SectionMigrator> sectionMigrators = migrators.get(id);
+            SectionMigrator migrator = sectionMigrators != null ? sectionMigrators.get(v) : null;
+            if (migrator == null) {
+                throw new IOException("No migration of section " + id + " from version: " + v);
+            }
+            data = migrator.migrate(data);
+        }
+        return new DataInputStream(new ByteArrayInputStream(data));
+    }
+
+    private static class Section {
+        private final int version;
+        private final byte[] data;
+
+        private Section(int version, byte[] data) {
+            this.version = version;
+            this.data = data;
+        }
+    }
+}
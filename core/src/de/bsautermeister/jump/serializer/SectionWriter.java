@@ -0,0 +1,59 @@
+package de.bsautermeister.jump.serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Writes data as a sequence of sections. Each section is prefixed with its ID, its version and
+ * its length, so that the reader can skip unknown sections and migrate sections of older versions
+ * independently of each other.
+ */
+public class SectionWriter {
+    static final int END_ID = 0;
+
+    private final DataOutputStream out;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+    private final DataOutputStream section = new DataOutputStream(buffer);
+    private int id = END_ID;
+    private int version;
+
+    public SectionWriter(DataOutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Starts a new section and returns the stream to write its data to.
+     */
+    public DataOutputStream begin(int id, int version) {
+        if (id == END_ID) {
+            throw new IllegalArgumentException("Invalid section ID: " + id);
+        }
+        if (this.id != END_ID) {
+            throw new IllegalStateException("Section not ended: " + this.id);
+        }
+        this.id = id;
+        this.version = version;
+        buffer.reset();
+        return section;
+    }
+
+    public void end() throws IOException {
+        section.flush();
+        SerializerUtils.writeVarInt(out, id);
+        SerializerUtils.writeVarInt(out, version);
+        SerializerUtils.writeVarInt(out, buffer.size());
+        buffer.writeTo(out);
+        id = END_ID;
+    }
+
+    /**
+     * Marks the end of the sections.
+     */
+    public void finish() throws IOException {
+        if (id != END_ID) {
+            throw new IllegalStateException("Section not ended: " + id);
+        }
+        SerializerUtils.writeVarInt(out, END_ID);
+    }
+}
@@ -0,0 +1,64 @@
+package de.bsautermeister.jump.serializer;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Helpers to write values in a compact form, e.g. counts as variable-length integers and enums by
+ * their ordinal instead of their name.
+ */
+public final class SerializerUtils {
+    private SerializerUtils() {}
+
+    /**
+     * Writes a non-negative integer with 7 bits per byte, so that small values take a single byte.
+     */
+    public static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value: " + value);
+        }
+        while ((value & ~0x7f) != 0) {
+            out.writeByte((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    public static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    public static void writeEnum(DataOutputStream out, Enum<?> value) throws IOException {
+        writeVarInt(out, value.ordinal());
+    }
+
+    public static <T extends Enum<T>> T readEnum(DataInputStream in, Class<T> enumClass)
+            throws IOException {
+        T[] values = enumClass.getEnumConstants();
+        int ordinal = readVarInt(in);
+        if (ordinal >= values.length) {
+            throw new IOException("Unknown " + enumClass.getSimpleName() + ": " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    public static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    public static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
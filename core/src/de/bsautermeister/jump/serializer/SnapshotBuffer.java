@@ -0,0 +1,28 @@
+package de.bsautermeister.jump.serializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+
+/**
+ * In-memory buffer to take snapshots of a serializable state. The buffer keeps its capacity when
+ * a new snapshot is taken, so that taking snapshots repeatedly does not allocate once the buffer
+ * has grown to the size of the state.
+ */
+public class SnapshotBuffer extends ByteArrayOutputStream {
+
+    public SnapshotBuffer(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns a stream of the current snapshot, which reads from the buffer without copying it.
+     */
+    public InputStream read() {
+        return new ByteArrayInputStream(buf, 0, count);
+    }
+}
@@ -12,22 +12,30 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 
 import de.bsautermeister.jump.Cfg;
+import de.bsautermeister.jump.assets.AtlasCache;
 import de.bsautermeister.jump.assets.RegionNames;
 import de.bsautermeister.jump.serializer.BinarySerializable;
 
 public class BoxCoin extends Sprite implements BinarySerializable {
-    private final Vector2 spawnPosition;
+    private final Vector2 spawnPosition = new Vector2();
     private Animation<TextureRegion> spinningAnimation;
     private float stateTime;
     private static final float ANIMATION_TIME = 0.5f;
     private static final float ANIMATION_OFFSET_Y = 4 * Cfg.BLOCK_SIZE_PPM;
     private final Interpolation bumpUpInterpolation = Interpolation.linear;
 
-    public BoxCoin(TextureAtlas atlas, Vector2 position) {
-        spinningAnimation = new Animation<TextureRegion>(0.1f, atlas.findRegions(RegionNames.COIN), Animation.PlayMode.LOOP);
-        spawnPosition = new Vector2(position.x - (Cfg.BLOCK_SIZE / 2f / Cfg.PPM),
-                position.y - (Cfg.BLOCK_SIZE / 2f / Cfg.PPM));
+    public BoxCoin(TextureAtlas atlas) {
+        spinningAnimation = AtlasCache.of(atlas).getAnimation(RegionNames.COIN, 0.1f, Animation.PlayMode.LOOP);
         setBounds(0, 0, Cfg.BLOCK_SIZE_PPM, Cfg.BLOCK_SIZE_PPM);
+    }
+
+    /**
+     * Starts the animation at the given position. Box coins are pooled, so this is called every
+     * time a coin is taken out of the pool.
+     */
+    public void spawn(Vector2 position) {
+        spawnPosition.set(position.x - (Cfg.BLOCK_SIZE / 2f / Cfg.PPM),
+                position.y - (Cfg.BLOCK_SIZE / 2f / Cfg.PPM));
         setPosition(spawnPosition.x, spawnPosition.y);
         stateTime = 0;
         setRegion(spinningAnimation.getKeyFrame(stateTime));
@@ -77,5 +85,6 @@ public class BoxCoin extends Sprite implements BinarySerializable {
         stateTime = in.readFloat();
         setX(in.readFloat());
         setY(in.readFloat());
+        setRegion(spinningAnimation.getKeyFrame(stateTime, true));
     }
 }
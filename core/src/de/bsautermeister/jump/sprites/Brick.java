@@ -1,8 +1,6 @@
 package de.bsautermeister.jump.sprites;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.physics.box2d.World;
 
@@ -12,54 +10,40 @@ import java.io.IOException;
 
 import de.bsautermeister.jump.Cfg;
 import de.bsautermeister.jump.assets.RegionNames;
-import de.bsautermeister.jump.effects.SimpleFragmentEffect;
+import de.bsautermeister.jump.effects.FragmentSystem;
 import de.bsautermeister.jump.physics.Bits;
 import de.bsautermeister.jump.screens.game.GameCallbacks;
+import de.bsautermeister.jump.screens.game.level.LevelObject;
 
 public class Brick extends InteractiveTileObject {
 
-    private final TextureAtlas atlas;
-
     private MarkedAction unlockGoal;
     private float timeToUnlockGoal;
     private boolean goalProtector;
     private boolean destroyed;
 
-    private final SimpleFragmentEffect simpleFragmentEffect;
-
-    public Brick(GameCallbacks callbacks, World world, TiledMap map, TextureAtlas atlas, MapObject mapObject) {
-        super(callbacks, Bits.BRICK, world, map, mapObject);
-        this.goalProtector = mapObject.getProperties().get("unlockGoal", false, Boolean.class);
-        this.atlas = atlas;
+    public Brick(GameCallbacks callbacks, World world, TiledMap map, TextureAtlas atlas, LevelObject levelObject) {
+        super(callbacks, Bits.BRICK, world, map, levelObject);
+        this.goalProtector = levelObject.getProperties().get("unlockGoal", false, Boolean.class);
         this.unlockGoal = new MarkedAction();
-
-        simpleFragmentEffect = new SimpleFragmentEffect(atlas, RegionNames.BRICK_FRAGMENT_TPL);
     }
 
     @Override
     public void update(float delta) {
         super.update(delta);
 
-        simpleFragmentEffect.update(delta);
-
         if (unlockGoal.needsAction()) {
+            markDirty();
             timeToUnlockGoal -= delta;
             if (timeToUnlockGoal < 0) {
                 getCallbacks().unlockGoalBrick(this);
                 destroy();
-                simpleFragmentEffect.emit(getBounds());
+                getCallbacks().shatter(this, RegionNames.BRICK_FRAGMENT_TPL);
                 unlockGoal.done();
             }
         }
     }
 
-    @Override
-    public void draw(SpriteBatch batch) {
-        super.draw(batch);
-
-        simpleFragmentEffect.draw(batch);
-    }
-
     @Override
     public void onHeadHit(Player player) {
         float xDistance = Math.abs(player.getBody().getWorldCenter().x - getBody().getWorldCenter().x);
@@ -69,31 +53,34 @@ public class Brick extends InteractiveTileObject {
 
         if (closeEnough) {
             // apply effect to objects on top
-            for (String objectOnTop : getObjectsOnTop()) {
-                getCallbacks().indirectObjectHit(this, objectOnTop);
-
-                // ensure that object is un-registered from objects on top, because Box2D does not seem
-                // to call endContact anymore
-                steppedOff(objectOnTop);
-            }
+            hitObjectsOnTop();
 
             if (player.isBig()) {
                 destroy();
-                simpleFragmentEffect.emit(getBounds());
+                getCallbacks().shatter(this, RegionNames.BRICK_FRAGMENT_TPL);
             } else {
                 bumpUp();
             }
         }
     }
 
+    @Override
+    public void respawn(World world, DataInputStream in) throws IOException {
+        unlockGoal.reset();
+        timeToUnlockGoal = 0f;
+        super.respawn(world, in);
+    }
+
     public void unlockGoal(float unlockDelay) {
         if (!destroyed && isGoalProtector()) {
             timeToUnlockGoal = unlockDelay;
             unlockGoal.mark();
+            markDirty();
         }
     }
 
     private void destroy() {
+        markDirty();
         updateMaskFilter(Bits.NOTHING);
         getCell().setTile(null);
         destroyed = true;
@@ -108,7 +95,6 @@ public class Brick extends InteractiveTileObject {
         super.write(out);
         out.writeBoolean(destroyed);
         out.writeBoolean(goalProtector);
-        simpleFragmentEffect.write(out);
     }
 
     @Override
@@ -116,10 +102,24 @@ public class Brick extends InteractiveTileObject {
         super.read(in);
         destroyed = in.readBoolean();
         goalProtector = in.readBoolean();
-        simpleFragmentEffect.read(in);
 
         if (destroyed) {
             destroy();
         }
     }
+
+    @Override
+    public void migrateLegacyState(DataInputStream in, DataOutputStream out) throws IOException {
+        super.migrateLegacyState(in, out);
+        out.writeBoolean(in.readBoolean());
+        out.writeBoolean(in.readBoolean());
+        FragmentSystem.skipLegacyFragments(in);
+    }
+
+    @Override
+    public void migrateFixedWidthIds(DataInputStream in, DataOutputStream out) throws IOException {
+        super.migrateFixedWidthIds(in, out);
+        out.writeBoolean(in.readBoolean());
+        out.writeBoolean(in.readBoolean());
+    }
 }
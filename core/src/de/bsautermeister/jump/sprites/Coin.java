@@ -18,6 +18,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 
 import de.bsautermeister.jump.Cfg;
+import de.bsautermeister.jump.assets.AtlasCache;
 import de.bsautermeister.jump.assets.RegionNames;
 import de.bsautermeister.jump.physics.Bits;
 import de.bsautermeister.jump.physics.TaggedUserData;
@@ -26,10 +27,31 @@ import de.bsautermeister.jump.serializer.BinarySerializable;
 
 public class Coin extends Sprite implements CollectableItem, BinarySerializable, Disposable {
 
+    public static final int NO_SAVE_INDEX = -1;
+
     private static final String TAG_COIN = "coin";
 
     private final GameCallbacks callbacks;
-    private final World world;
+    private World world;
+
+    private static final String ANIMATION_KEY = "coin_idle";
+
+    /**
+     * The coin rests on its first frame most of the time and only spins shortly.
+     */
+    private static final AtlasCache.AnimationFactory ANIMATION_FACTORY = new AtlasCache.AnimationFactory() {
+        @Override
+        public Animation<TextureRegion> create(AtlasCache cache) {
+            Array<TextureRegion> frames = new Array<>();
+            for (int i = 0; i < 10; ++i) {
+                frames.add(cache.findRegion(RegionNames.COIN, 0));
+            }
+            for (int i = 0; i < 4; ++i) {
+                frames.add(cache.findRegion(RegionNames.COIN, i));
+            }
+            return new Animation<>(0.1f, frames, Animation.PlayMode.LOOP);
+        }
+    };
 
     private Animation<TextureRegion> animation;
 
@@ -38,6 +60,12 @@ public class Coin extends Sprite implements CollectableItem, BinarySerializable,
 
     private float gameTime;
 
+    /**
+     * The index of the coin in the last saved game. Coins are only ever collected and not spawned
+     * during the game, so the index identifies a collected coin in the changes since then.
+     */
+    private int saveIndex = NO_SAVE_INDEX;
+
     public Coin(GameCallbacks callbacks, World world, TextureAtlas atlas,
                 float posX, float posY) {
         this.callbacks = callbacks;
@@ -52,14 +80,7 @@ public class Coin extends Sprite implements CollectableItem, BinarySerializable,
     }
 
     private void initAnimation(TextureAtlas atlas) {
-        Array<TextureRegion> frames = new Array<>();
-        for (int i = 0; i < 10; ++i) {
-            frames.add(atlas.findRegion(RegionNames.COIN, 0));
-        }
-        for (int i = 0; i < 4; ++i) {
-            frames.add(atlas.findRegion(RegionNames.COIN, i));
-        }
-        animation = new Animation<>(0.1f, frames, Animation.PlayMode.LOOP);
+        animation = AtlasCache.of(atlas).getAnimation(ANIMATION_KEY, ANIMATION_FACTORY);
         setRegion(animation.getKeyFrame(0f));
     }
 
@@ -81,6 +102,18 @@ public class Coin extends Sprite implements CollectableItem, BinarySerializable,
         return body;
     }
 
+    /**
+     * Creates the body in the given world again and restores the state that has been written right
+     * after the coin was created. This is used to restart a level without resolving the animation
+     * again.
+     */
+    public void respawn(World world, DataInputStream in) throws IOException {
+        this.world = world;
+        body = defineBody(getX() + getWidth() / 2, getY() + getHeight() / 2);
+        read(in);
+        setRegion(animation.getKeyFrame(0f));
+    }
+
     public void update(float delta) {
         gameTime += delta;
         setPosition(body.getPosition().x - getWidth() / 2, body.getPosition().y - getHeight() / 2);
@@ -104,6 +137,14 @@ public class Coin extends Sprite implements CollectableItem, BinarySerializable,
         return destroyBody.isDone();
     }
 
+    public int getSaveIndex() {
+        return saveIndex;
+    }
+
+    public void setSaveIndex(int saveIndex) {
+        this.saveIndex = saveIndex;
+    }
+
     @Override
     public void dispose() {
         if (!destroyBody.isDone()) {
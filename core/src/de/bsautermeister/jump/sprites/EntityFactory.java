@@ -0,0 +1,32 @@
+package de.bsautermeister.jump.sprites;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Disposable;
+
+import de.bsautermeister.jump.screens.game.GameCallbacks;
+
+/**
+ * Creates the entities of a single type, either at their spawn position or to restore them from
+ * a saved state.
+ */
+public abstract class EntityFactory<T extends Disposable> {
+
+    public abstract T create(GameCallbacks callbacks, World world, TextureAtlas atlas,
+                             float x, float y);
+
+    /**
+     * Takes back an entity that has been removed from the game. It is disposed by default, but
+     * can be kept instead to be reused by a later call to create().
+     */
+    public void free(T entity) {
+        entity.dispose();
+    }
+
+    /**
+     * Drops all kept entities, e.g. because the world they have been created in is disposed.
+     */
+    public void clear() {
+        // NOOP by default
+    }
+}
@@ -0,0 +1,162 @@
+package de.bsautermeister.jump.sprites;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+
+import de.bsautermeister.jump.screens.game.GameCallbacks;
+import de.bsautermeister.jump.serializer.BinarySerializable;
+import de.bsautermeister.jump.serializer.SerializerUtils;
+
+/**
+ * Maps the entity types to their factories. Each type is identified by a compact ID, which is the
+ * order of registration and is written to saved games instead of the class name. New types
+ * therefore have to be registered after all existing ones.
+ */
+public class EntityRegistry<T extends BinarySerializable & Disposable> {
+    private static final int MAX_TYPES = 256;
+
+    private final GameCallbacks callbacks;
+    private final TextureAtlas atlas;
+
+    private final Array<EntityFactory<? extends T>> factories = new Array<>();
+    private final ObjectIntMap<Class<?>> typeIds = new ObjectIntMap<>();
+
+    public EntityRegistry(GameCallbacks callbacks, TextureAtlas atlas) {
+        this.callbacks = callbacks;
+        this.atlas = atlas;
+    }
+
+    public <E extends T> void register(Class<E> type, EntityFactory<E> factory) {
+        if (typeIds.containsKey(type)) {
+            throw new IllegalArgumentException("Type already registered: " + type.getName());
+        }
+        if (factories.size == MAX_TYPES) {
+            throw new IllegalStateException("Too many types registered");
+        }
+        typeIds.put(type, factories.size);
+        factories.add(factory);
+    }
+
+    public T create(Class<?> type, World world, float x, float y) {
+        return getFactory(getTypeId(type)).create(callbacks, world, atlas, x, y);
+    }
+
+    /**
+     * Hands a removed entity back to the factory of its type, which either disposes or keeps it.
+     */
+    @SuppressWarnings("unchecked")
+    public void free(T entity) {
+        ((EntityFactory<T>) getFactory(getTypeId(entity.getClass()))).free(entity);
+    }
+
+    /**
+     * Drops the kept entities of all factories. Has to be called when the world is disposed.
+     */
+    public void clear() {
+        for (EntityFactory<? extends T> factory : factories) {
+            factory.clear();
+        }
+    }
+
+    public void write(DataOutputStream out, T entity) throws IOException {
+        out.writeByte(getTypeId(entity.getClass()));
+        entity.write(out);
+    }
+
+    /**
+     * Creates the entity of the type that has been written, and restores its state. The entity
+     * is created at the origin, because its position is part of the restored state.
+     */
+    public T read(DataInputStream in, World world) throws IOException {
+        int typeId = in.readUnsignedByte();
+        if (typeId >= factories.size) {
+            throw new IOException("Unknown type ID: " + typeId);
+        }
+        T entity = getFactory(typeId).create(callbacks, world, atlas, 0, 0);
+        entity.read(in);
+        return entity;
+    }
+
+    /**
+     * Copies an entity in the format of older saves, whose state started with the ID written with
+     * a fixed width, to the current format. The rest of the state is copied as is, but its length
+     * is only known after reading it, so it is read into a temporary entity in the given world.
+     * That world should not be the one of the game, so that it can be disposed afterwards.
+     */
+    public void migrateFixedWidthId(DataInputStream in, DataOutputStream out, World world)
+            throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream headerOut = new DataOutputStream(header);
+        headerOut.writeByte(in.readUnsignedByte());
+        SerializerUtils.writeVarInt(headerOut, in.readInt());
+        headerOut.flush();
+
+        RecordingInputStream state = new RecordingInputStream(in);
+        read(new DataInputStream(new SequenceInputStream(
+                new ByteArrayInputStream(header.toByteArray()), state)), world);
+        header.writeTo(out);
+        state.recorded.writeTo(out);
+    }
+
+    private int getTypeId(Class<?> type) {
+        int typeId = typeIds.get(type, -1);
+        if (typeId < 0) {
+            throw new IllegalArgumentException("Unknown type: " + type.getName());
+        }
+        return typeId;
+    }
+
+    private EntityFactory<? extends T> getFactory(int typeId) {
+        return factories.get(typeId);
+    }
+
+    /**
+     * Keeps a copy of all bytes that have been read from the stream.
+     */
+    private static class RecordingInputStream extends FilterInputStream {
+        private final ByteArrayOutputStream recorded = new ByteArrayOutputStream();
+
+        RecordingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                recorded.write(value);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count > 0) {
+                recorded.write(buffer, offset, count);
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+            long skipped = 0;
+            while (skipped < count && read() >= 0) {
+                skipped++;
+            }
+            return skipped;
+        }
+    }
+}
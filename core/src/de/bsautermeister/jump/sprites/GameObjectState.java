@@ -5,6 +5,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 
 import de.bsautermeister.jump.serializer.BinarySerializable;
+import de.bsautermeister.jump.serializer.SerializerUtils;
 
 public class GameObjectState<T extends Enum<T>> implements BinarySerializable {
 
@@ -52,6 +53,16 @@ public class GameObjectState<T extends Enum<T>> implements BinarySerializable {
         }
     }
 
+    /**
+     * Resets to the given state without notifying the callback, e.g. when an object is reused.
+     */
+    public void reset(T state) {
+        current = state;
+        previous = state;
+        resetTimer();
+        frozen = false;
+    }
+
     public boolean is(T state) {
         return current == state;
     }
@@ -98,16 +109,16 @@ public class GameObjectState<T extends Enum<T>> implements BinarySerializable {
 
     @Override
     public void write(DataOutputStream out) throws IOException {
-        out.writeUTF(current.name());
-        out.writeUTF(previous.name());
+        SerializerUtils.writeEnum(out, current);
+        SerializerUtils.writeEnum(out, previous);
         out.writeFloat(stateTimer);
         out.writeBoolean(frozen);
     }
 
     @Override
     public void read(DataInputStream in) throws IOException {
-        current = (T) Enum.valueOf(current.getClass(), in.readUTF());
-        previous = (T) Enum.valueOf(previous.getClass(), in.readUTF());
+        current = SerializerUtils.readEnum(in, current.getDeclaringClass());
+        previous = SerializerUtils.readEnum(in, previous.getDeclaringClass());
         stateTimer = in.readFloat();
         frozen = in.readBoolean();
     }
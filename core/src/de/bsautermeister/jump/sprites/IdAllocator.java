@@ -0,0 +1,25 @@
+package de.bsautermeister.jump.sprites;
+
+/**
+ * Hands out the IDs of the entities of a level, which are only unique within that level.
+ */
+public class IdAllocator {
+    public static final int NONE = 0;
+
+    private int lastId = NONE;
+
+    public int next() {
+        return ++lastId;
+    }
+
+    /**
+     * Ensures that an ID that has been restored from a saved game is not handed out again.
+     */
+    public void reserve(int id) {
+        lastId = Math.max(lastId, id);
+    }
+
+    public void reset() {
+        lastId = NONE;
+    }
+}
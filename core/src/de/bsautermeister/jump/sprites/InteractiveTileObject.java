@@ -1,8 +1,5 @@
 package de.bsautermeister.jump.sprites;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.maps.MapObject;
-import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapTile;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
@@ -13,7 +10,7 @@ import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.Filter;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.World;
-import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.IntSet;
 
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
@@ -22,44 +19,61 @@ import java.io.IOException;
 import de.bsautermeister.jump.Cfg;
 import de.bsautermeister.jump.screens.game.GameCallbacks;
 import de.bsautermeister.jump.physics.WorldCreator;
+import de.bsautermeister.jump.screens.game.level.LevelObject;
 import de.bsautermeister.jump.serializer.BinarySerializable;
+import de.bsautermeister.jump.serializer.SerializerUtils;
 
 public abstract class InteractiveTileObject implements BinarySerializable {
-    private String id;
+    private int id = IdAllocator.NONE;
+    private boolean dirty = true;
     private final GameCallbacks callbacks;
-    private final World world;
-    private final RectangleMapObject mapObject;
+    private World world;
     private final Rectangle bounds;
-    private final Body body;
+    private final short categoryBit;
+    private Body body;
 
-    private final ObjectSet<String> objectOnTop;
+    private final IntSet objectOnTop;
 
     private float bumpUpAnimationTimer;
     private final Interpolation bumpUpInterpolation = Interpolation.linear;
     private static final float BUMP_UP_ANIMATION_TIME = 0.25f;
     private final TiledMapTileLayer.Cell cell;
+    private final DynamicTiledMapTile spawnTile;
 
-    public InteractiveTileObject(GameCallbacks callbacks, short categoryBit, World world, TiledMap map, MapObject mapObject) {
+    public InteractiveTileObject(GameCallbacks callbacks, short categoryBit, World world, TiledMap map, LevelObject levelObject) {
         this.callbacks = callbacks;
         this.world = world;
-        this.mapObject = (RectangleMapObject)mapObject;
-        Rectangle screenBounds = this.mapObject.getRectangle();
-        this.bounds = new Rectangle(screenBounds.x / Cfg.PPM,
-                screenBounds.y / Cfg.PPM,
-                screenBounds.width / Cfg.PPM,
-                screenBounds.height / Cfg.PPM);
-        this.objectOnTop = new ObjectSet<String>();
-        this.body = defineBody(categoryBit);
+        this.bounds = new Rectangle(levelObject.getBounds());
+        this.objectOnTop = new IntSet();
+        this.categoryBit = categoryBit;
+        this.body = defineBody();
         this.bumpUpAnimationTimer = BUMP_UP_ANIMATION_TIME;
         TiledMapTileLayer layer = (TiledMapTileLayer) map.getLayers().get("fgTiles");
         int cellX = (int)(body.getPosition().x * Cfg.PPM / Cfg.BLOCK_SIZE);
         int cellY = ((int)(body.getPosition().y * Cfg.PPM / Cfg.BLOCK_SIZE));
-        this.id = cellX + "|" + cellY;
         this.cell =  layer.getCell(cellX, cellY);
-        cell.setTile(new DynamicTiledMapTile(cell.getTile()));
+        this.spawnTile = new DynamicTiledMapTile(cell.getTile());
+        cell.setTile(spawnTile);
+    }
+
+    /**
+     * Creates the body in the given world again, puts the original tile back into the map and
+     * restores the state that has been written right after the object was created. This is used
+     * to restart a level without creating the map again.
+     */
+    public void respawn(World world, DataInputStream in) throws IOException {
+        this.world = world;
+        this.body = defineBody();
+        spawnTile.setOffsetY(0f);
+        cell.setTile(spawnTile);
+        read(in);
     }
 
     public void update(float delta) {
+        // the timer does not matter anymore once the animation has finished
+        if (bumpUpAnimationTimer < BUMP_UP_ANIMATION_TIME) {
+            markDirty();
+        }
         bumpUpAnimationTimer += delta;
 
         float totalProgress = bumpUpAnimationTimer / BUMP_UP_ANIMATION_TIME;
@@ -80,16 +94,13 @@ public abstract class InteractiveTileObject implements BinarySerializable {
         }
     }
 
-    public void draw(SpriteBatch batch) {
-        // usually tile objects are rendered by the tilemap already
-    }
-
     public void bumpUp() {
         bumpUpAnimationTimer = 0;
+        markDirty();
     }
 
-    private Body defineBody(short categoryBit) {
-        return WorldCreator.createBody(this, world, mapObject.getRectangle(), BodyDef.BodyType.StaticBody, categoryBit, false);
+    private Body defineBody() {
+        return WorldCreator.createBody(this, world, bounds, BodyDef.BodyType.StaticBody, categoryBit, false);
     }
 
     public abstract void onHeadHit(Player player);
@@ -103,16 +114,16 @@ public abstract class InteractiveTileObject implements BinarySerializable {
         }
     }
 
-    public String getId() {
+    public int getId() {
         return id;
     }
 
-    public World getWorld() {
-        return world;
+    public void setId(int id) {
+        this.id = id;
     }
 
-    public MapObject getMapObject() {
-        return mapObject;
+    public World getWorld() {
+        return world;
     }
 
     public Body getBody() {
@@ -127,43 +138,99 @@ public abstract class InteractiveTileObject implements BinarySerializable {
         return callbacks;
     }
 
-    public void steppedOn(String enemyId) {
-        if (!objectOnTop.contains(enemyId)) {
-            objectOnTop.add(enemyId);
-        }
+    public void steppedOn(int objectId) {
+        objectOnTop.add(objectId);
+        markDirty();
     }
 
-    public void steppedOff(String enemyId) {
-        if (objectOnTop.contains(enemyId)) {
-            objectOnTop.remove(enemyId);
-        }
+    public void steppedOff(int objectId) {
+        objectOnTop.remove(objectId);
+        markDirty();
     }
 
-    public ObjectSet<String> getObjectsOnTop() {
+    public IntSet getObjectsOnTop() {
         return objectOnTop;
     }
 
+    /**
+     * Applies the hit to all objects on top. The objects are un-registered at the same time,
+     * because Box2D does not seem to call endContact anymore.
+     */
+    protected void hitObjectsOnTop() {
+        IntSet.IntSetIterator iterator = objectOnTop.iterator();
+        while (iterator.hasNext) {
+            callbacks.indirectObjectHit(this, iterator.next());
+            iterator.remove();
+        }
+        markDirty();
+    }
+
+    /**
+     * Returns whether the state has changed since the game has been saved the last time.
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void clearDirty() {
+        dirty = false;
+    }
+
+    protected void markDirty() {
+        dirty = true;
+    }
+
     public Rectangle getBounds() {
         return bounds;
     }
 
     @Override
     public void write(DataOutputStream out) throws IOException {
-        out.writeUTF(id);
+        SerializerUtils.writeVarInt(out, id);
         out.writeFloat(bumpUpAnimationTimer);
-        out.writeInt(objectOnTop.size);
-        for (String id : objectOnTop) {
-            out.writeUTF(id);
+        SerializerUtils.writeVarInt(out, objectOnTop.size);
+        IntSet.IntSetIterator iterator = objectOnTop.iterator();
+        while (iterator.hasNext) {
+            SerializerUtils.writeVarInt(out, iterator.next());
         }
     }
 
     @Override
     public void read(DataInputStream in) throws IOException {
-        id = in.readUTF();
+        id = SerializerUtils.readVarInt(in);
         bumpUpAnimationTimer = in.readFloat();
+        objectOnTop.clear();
+        int numObjects = SerializerUtils.readVarInt(in);
+        for (int i = 0; i < numObjects; ++i) {
+            objectOnTop.add(SerializerUtils.readVarInt(in));
+        }
+    }
+
+    /**
+     * Copies the state in the format of older saves, which still contained the fragments of the
+     * shattered objects, to the format that only stored the IDs with a fixed width.
+     */
+    public void migrateLegacyState(DataInputStream in, DataOutputStream out) throws IOException {
+        out.writeInt(in.readInt());
+        out.writeFloat(in.readFloat());
+        int numObjects = in.readInt();
+        out.writeInt(numObjects);
+        for (int i = 0; i < numObjects; ++i) {
+            out.writeInt(in.readInt());
+        }
+    }
+
+    /**
+     * Copies the state in the format of older saves, which stored the IDs with a fixed width, to
+     * the current format.
+     */
+    public void migrateFixedWidthIds(DataInputStream in, DataOutputStream out) throws IOException {
+        SerializerUtils.writeVarInt(out, in.readInt());
+        out.writeFloat(in.readFloat());
         int numObjects = in.readInt();
+        SerializerUtils.writeVarInt(out, numObjects);
         for (int i = 0; i < numObjects; ++i) {
-            objectOnTop.add(in.readUTF());
+            SerializerUtils.writeVarInt(out, in.readInt());
         }
     }
 }
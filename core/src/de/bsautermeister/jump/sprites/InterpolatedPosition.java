@@ -0,0 +1,44 @@
+package de.bsautermeister.jump.sprites;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * Remembers the sprite position of the previous simulation step, so that a sprite can be rendered
+ * in between two fixed simulation steps.
+ */
+public class InterpolatedPosition {
+    private float previousX;
+    private float previousY;
+    private boolean stored;
+
+    public void store(Sprite sprite) {
+        previousX = sprite.getX();
+        previousY = sprite.getY();
+        stored = true;
+    }
+
+    public void reset() {
+        stored = false;
+    }
+
+    /**
+     * Draws the sprite at the interpolated position, where an alpha of 0 is the position of the
+     * previous simulation step and an alpha of 1 the current one.
+     */
+    public void draw(Sprite sprite, Batch batch, float alpha) {
+        if (!stored || alpha >= 1f) {
+            sprite.draw(batch);
+            return;
+        }
+
+        float currentX = sprite.getX();
+        float currentY = sprite.getY();
+        sprite.setPosition(
+                MathUtils.lerp(previousX, currentX, alpha),
+                MathUtils.lerp(previousY, currentY, alpha));
+        sprite.draw(batch);
+        sprite.setPosition(currentX, currentY);
+    }
+}
@@ -9,11 +9,11 @@ import com.badlogic.gdx.utils.Disposable;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
-import java.util.UUID;
 
 import de.bsautermeister.jump.Cfg;
 import de.bsautermeister.jump.screens.game.GameCallbacks;
 import de.bsautermeister.jump.serializer.BinarySerializable;
+import de.bsautermeister.jump.serializer.SerializerUtils;
 
 public abstract class Item extends Sprite implements CollectableItem, BinarySerializable, Disposable {
     public static final String TAG_BASE = "base";
@@ -31,9 +31,9 @@ public abstract class Item extends Sprite implements CollectableItem, BinarySeri
         SPAWNED
     }
 
-    private String id;
-    private final float spawnY;
-    private final float targetY;
+    private int id = IdAllocator.NONE;
+    private float spawnY;
+    private float targetY;
     private final Interpolation spawnInterpolation = Interpolation.linear;
 
     private GameCallbacks callbacks;
@@ -42,24 +42,47 @@ public abstract class Item extends Sprite implements CollectableItem, BinarySeri
 
     private MarkedAction destroyBody;
     private boolean collected;
+    private boolean dirty = true;
 
     protected final GameObjectState<State> state = new GameObjectState<>(State.SPAWNING);
 
     public Item(GameCallbacks callbacks, World world, float centerX, float centerY) {
-        this.id = UUID.randomUUID().toString();
-        this.spawnY = centerY - Cfg.BLOCK_SIZE_PPM / 2 + SPAWN_ITEM_OFFSET_Y;
-        this.targetY = spawnY + Cfg.BLOCK_SIZE_PPM - SPAWN_ITEM_OFFSET_Y;
         this.callbacks = callbacks;
         this.world = world;
         this.setSize(Cfg.BLOCK_SIZE_PPM, Cfg.BLOCK_SIZE_PPM);
-        setPosition(centerX - Cfg.BLOCK_SIZE_PPM / 2, spawnY);
+        setSpawnPosition(centerX, centerY);
         destroyBody = new MarkedAction();
         body = defineBody(centerX, centerY + Cfg.BLOCK_SIZE_PPM);
     }
 
     public abstract Body defineBody(float x, float y);
 
+    private void setSpawnPosition(float centerX, float centerY) {
+        spawnY = centerY - Cfg.BLOCK_SIZE_PPM / 2 + SPAWN_ITEM_OFFSET_Y;
+        targetY = spawnY + Cfg.BLOCK_SIZE_PPM - SPAWN_ITEM_OFFSET_Y;
+        setPosition(centerX - Cfg.BLOCK_SIZE_PPM / 2, spawnY);
+    }
+
+    /**
+     * Spawns a removed item again at the given position, reusing its deactivated body.
+     */
+    public void respawn(float centerX, float centerY) {
+        id = IdAllocator.NONE;
+        collected = false;
+        destroyBody.reset();
+        state.reset(State.SPAWNING);
+        markDirty();
+        setSpawnPosition(centerX, centerY);
+        body.setTransform(centerX, centerY + Cfg.BLOCK_SIZE_PPM, 0);
+        body.setLinearVelocity(0, 0);
+        body.setAngularVelocity(0);
+        body.setActive(true);
+        body.setAwake(true);
+    }
+
     public void update(float delta) {
+        // items are always moving or spawning, so they change with every update
+        markDirty();
         state.update(delta);
         if (state.is(State.SPAWNING)) {
             float progress = state.timer() / SPAWN_TIME;
@@ -79,7 +102,7 @@ public abstract class Item extends Sprite implements CollectableItem, BinarySeri
 
     public void postUpdate() {
         if (destroyBody.needsAction()) {
-            dispose();
+            deactivate();
             destroyBody.done();
         }
     }
@@ -101,9 +124,19 @@ public abstract class Item extends Sprite implements CollectableItem, BinarySeri
 
     protected abstract void onCollect(Player player);
 
+    /**
+     * Removes the body from the simulation, but keeps it, so that the item can be respawned.
+     * Deactivating a body is not allowed during a world step.
+     */
+    public void deactivate() {
+        if (body.isActive()) {
+            body.setActive(false);
+        }
+    }
+
     @Override
     public void dispose() {
-        if (!destroyBody.isDone()) {
+        if (body != null) {
             world.destroyBody(body);
             body = null;
         }
@@ -113,10 +146,14 @@ public abstract class Item extends Sprite implements CollectableItem, BinarySeri
         destroyBody.mark();
     }
 
-    public String getId() {
+    public int getId() {
         return id;
     }
 
+    public void setId(int id) {
+        this.id = id;
+    }
+
     public World getWorld() {
         return world;
     }
@@ -129,13 +166,28 @@ public abstract class Item extends Sprite implements CollectableItem, BinarySeri
         return destroyBody.isDone();
     }
 
+    /**
+     * Returns whether the state has changed since the game has been saved the last time.
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void clearDirty() {
+        dirty = false;
+    }
+
+    protected void markDirty() {
+        dirty = true;
+    }
+
     public GameCallbacks getCallbacks() {
         return callbacks;
     }
 
     @Override
     public void write(DataOutputStream out) throws IOException {
-        out.writeUTF(id);
+        SerializerUtils.writeVarInt(out, id);
         out.writeFloat(body.getPosition().x);
         out.writeFloat(body.getPosition().y);
         out.writeFloat(body.getLinearVelocity().x);
@@ -146,7 +198,7 @@ public abstract class Item extends Sprite implements CollectableItem, BinarySeri
 
     @Override
     public void read(DataInputStream in) throws IOException {
-        id = in.readUTF();
+        id = SerializerUtils.readVarInt(in);
         body.setTransform(in.readFloat(), in.readFloat(), 0);
         body.setLinearVelocity(in.readFloat(), in.readFloat());
         destroyBody.read(in);
@@ -1,11 +1,8 @@
 package de.bsautermeister.jump.sprites;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
 
 import java.io.DataInputStream;
@@ -14,9 +11,11 @@ import java.io.IOException;
 
 import de.bsautermeister.jump.Cfg;
 import de.bsautermeister.jump.assets.RegionNames;
-import de.bsautermeister.jump.effects.SimpleFragmentEffect;
+import de.bsautermeister.jump.effects.FragmentSystem;
 import de.bsautermeister.jump.physics.Bits;
 import de.bsautermeister.jump.screens.game.GameCallbacks;
+import de.bsautermeister.jump.screens.game.level.LevelObject;
+import de.bsautermeister.jump.serializer.SerializerUtils;
 
 public class ItemBox extends InteractiveTileObject {
 
@@ -35,20 +34,18 @@ public class ItemBox extends InteractiveTileObject {
 
     private static TiledMapTileSet tileSet;
 
-    private final SimpleFragmentEffect simpleFragmentEffect;
-
     private boolean spotted;
 
-    public ItemBox(GameCallbacks callbacks, World world, TiledMap map, TextureAtlas atlas, MapObject mapObject) {
-        super(callbacks, Bits.ITEM_BOX, world, map, mapObject);
+    public ItemBox(GameCallbacks callbacks, World world, TiledMap map, TextureAtlas atlas, LevelObject levelObject) {
+        super(callbacks, Bits.ITEM_BOX, world, map, levelObject);
 
         tileSet = map.getTileSets().getTileSet("OctoberBro");
-        Boolean coin = (Boolean) mapObject.getProperties().get("coin");
-        Boolean multiCoin = (Boolean) mapObject.getProperties().get("multiCoin");
-        Boolean food = (Boolean) mapObject.getProperties().get("food");
-        Boolean foodIfSmall = (Boolean) mapObject.getProperties().get("foodIfSmall");
-        Boolean pretzel = (Boolean) mapObject.getProperties().get("pretzel");
-        Boolean beer = (Boolean) mapObject.getProperties().get("beer");
+        Boolean coin = (Boolean) levelObject.getProperties().get("coin");
+        Boolean multiCoin = (Boolean) levelObject.getProperties().get("multiCoin");
+        Boolean food = (Boolean) levelObject.getProperties().get("food");
+        Boolean foodIfSmall = (Boolean) levelObject.getProperties().get("foodIfSmall");
+        Boolean pretzel = (Boolean) levelObject.getProperties().get("pretzel");
+        Boolean beer = (Boolean) levelObject.getProperties().get("beer");
         if (multiCoin != null && multiCoin) {
             type = Type.COIN;
             remainingItems = 5;
@@ -72,27 +69,12 @@ public class ItemBox extends InteractiveTileObject {
             remainingItems = 0;
             updateCellBlankState();
         }
-
-        simpleFragmentEffect = new SimpleFragmentEffect(atlas, RegionNames.BOX_FRAGMENT_TPL);
-    }
-
-    @Override
-    public void update(float delta) {
-        super.update(delta);
-
-        simpleFragmentEffect.update(delta);
-    }
-
-    @Override
-    public void draw(SpriteBatch batch) {
-        super.draw(batch);
-
-        simpleFragmentEffect.draw(batch);
     }
 
     public void isInCameraView() {
         if (!spotted) {
             spotted = true;
+            markDirty();
             getCallbacks().spotted(this);
         }
     }
@@ -104,23 +86,18 @@ public class ItemBox extends InteractiveTileObject {
         getCallbacks().hit(
                 player,
                 this,
-                new Vector2(getBody().getPosition().x, getBody().getPosition().y),
+                getBody().getPosition(),
                 closeEnough);
 
         if(closeEnough && !isBlank()) {
             // apply effect to objects on top
-            for (String objectOnTop : getObjectsOnTop()) {
-                getCallbacks().indirectObjectHit(this, objectOnTop);
-
-                // ensure that object is un-registered from objects on top, because Box2D does not seem
-                // to call endContact anymore
-                steppedOff(objectOnTop);
-            }
+            hitObjectsOnTop();
 
             remainingItems--;
+            markDirty();
             updateCellBlankState();
             if (isBlank()) {
-                simpleFragmentEffect.emit(getBounds());
+                getCallbacks().shatter(this, RegionNames.BOX_FRAGMENT_TPL);
             }
             bumpUp();
         }
@@ -163,8 +140,7 @@ public class ItemBox extends InteractiveTileObject {
     public void write(DataOutputStream out) throws IOException {
         super.write(out);
         out.writeInt(remainingItems);
-        out.writeUTF(type.name());
-        simpleFragmentEffect.write(out);
+        SerializerUtils.writeEnum(out, type);
         out.writeBoolean(spotted);
     }
 
@@ -172,10 +148,26 @@ public class ItemBox extends InteractiveTileObject {
     public void read(DataInputStream in) throws IOException {
         super.read(in);
         remainingItems = in.readInt();
-        type = Enum.valueOf(Type.class, in.readUTF());
-        simpleFragmentEffect.read(in);
+        type = SerializerUtils.readEnum(in, Type.class);
         spotted = in.readBoolean();
 
         updateCellBlankState();
     }
+
+    @Override
+    public void migrateLegacyState(DataInputStream in, DataOutputStream out) throws IOException {
+        super.migrateLegacyState(in, out);
+        out.writeInt(in.readInt());
+        SerializerUtils.writeVarInt(out, SerializerUtils.readVarInt(in));
+        FragmentSystem.skipLegacyFragments(in);
+        out.writeBoolean(in.readBoolean());
+    }
+
+    @Override
+    public void migrateFixedWidthIds(DataInputStream in, DataOutputStream out) throws IOException {
+        super.migrateFixedWidthIds(in, out);
+        out.writeInt(in.readInt());
+        SerializerUtils.writeVarInt(out, SerializerUtils.readVarInt(in));
+        out.writeBoolean(in.readBoolean());
+    }
 }
@@ -1,13 +1,14 @@
 package de.bsautermeister.jump.sprites;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 
-public class ItemDef {
-    private Vector2 position;
+public class ItemDef implements Pool.Poolable {
+    private final Vector2 position = new Vector2();
     private Class<?> type;
 
-    public ItemDef(Vector2 position, Class<?> type) {
-        this.position = position;
+    public void set(Vector2 position, Class<?> type) {
+        this.position.set(position);
         this.type = type;
     }
 
@@ -18,4 +19,10 @@ public class ItemDef {
     public Class<?> getType() {
         return type;
     }
+
+    @Override
+    public void reset() {
+        position.setZero();
+        type = null;
+    }
 }
@@ -0,0 +1,38 @@
+package de.bsautermeister.jump.sprites;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.physics.box2d.World;
+
+import de.bsautermeister.jump.screens.game.GameCallbacks;
+
+/**
+ * The types of items that can be spawned, saved and restored. Removed items are pooled, because
+ * they are spawned frequently during the game.
+ */
+public final class ItemTypes {
+    private ItemTypes() {}
+
+    public static EntityRegistry<Item> createRegistry(GameCallbacks callbacks, TextureAtlas atlas) {
+        EntityRegistry<Item> registry = new EntityRegistry<>(callbacks, atlas);
+        // the order defines the saved type IDs, so new types have to be appended
+        registry.register(GrilledChickenItem.class, new PooledItemFactory<GrilledChickenItem>() {
+            @Override
+            protected GrilledChickenItem newItem(GameCallbacks callbacks, World world, TextureAtlas atlas, float x, float y) {
+                return new GrilledChickenItem(callbacks, world, atlas, x, y);
+            }
+        });
+        registry.register(PretzelItem.class, new PooledItemFactory<PretzelItem>() {
+            @Override
+            protected PretzelItem newItem(GameCallbacks callbacks, World world, TextureAtlas atlas, float x, float y) {
+                return new PretzelItem(callbacks, world, atlas, x, y);
+            }
+        });
+        registry.register(BeerItem.class, new PooledItemFactory<BeerItem>() {
+            @Override
+            protected BeerItem newItem(GameCallbacks callbacks, World world, TextureAtlas atlas, float x, float y) {
+                return new BeerItem(callbacks, world, atlas, x, y);
+            }
+        });
+        return registry;
+    }
+}
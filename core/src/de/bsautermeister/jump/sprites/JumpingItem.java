@@ -15,6 +15,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 
 import de.bsautermeister.jump.Cfg;
+import de.bsautermeister.jump.assets.AtlasCache;
 import de.bsautermeister.jump.assets.RegionNames;
 import de.bsautermeister.jump.physics.Bits;
 import de.bsautermeister.jump.physics.TaggedUserData;
@@ -30,7 +31,7 @@ public abstract class JumpingItem extends Item {
                        boolean doJump) {
         super(callbacks, world, x, y);
         this.doJump = doJump;
-        setRegion(atlas.findRegion(regionName), 0, 0, Cfg.BLOCK_SIZE, Cfg.BLOCK_SIZE);
+        setRegion(AtlasCache.of(atlas).findRegion(regionName), 0, 0, Cfg.BLOCK_SIZE, Cfg.BLOCK_SIZE);
         impulsTimer = new GameTimer(5f);
         state.setStateCallback(new GameObjectState.StateCallback<State>() {
             @Override
@@ -65,6 +66,12 @@ public abstract class JumpingItem extends Item {
         return body;
     }
 
+    @Override
+    public void respawn(float centerX, float centerY) {
+        super.respawn(centerX, centerY);
+        impulsTimer.reset();
+    }
+
     @Override
     public void update(float delta) {
         super.update(delta);
@@ -1,6 +1,7 @@
 package de.bsautermeister.jump.sprites;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Intersector;
@@ -18,14 +19,15 @@ import com.badlogic.gdx.utils.Array;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
-import java.util.UUID;
 
 import de.bsautermeister.jump.Cfg;
 import de.bsautermeister.jump.screens.game.GameCallbacks;
+import de.bsautermeister.jump.assets.AtlasCache;
 import de.bsautermeister.jump.assets.RegionNames;
 import de.bsautermeister.jump.models.PlatformBouncer;
 import de.bsautermeister.jump.physics.Bits;
 import de.bsautermeister.jump.serializer.BinarySerializable;
+import de.bsautermeister.jump.serializer.SerializerUtils;
 
 public class Platform extends Sprite implements BinarySerializable {
     public static final float DEFAULT_SPEED = 2.5f;
@@ -36,7 +38,8 @@ public class Platform extends Sprite implements BinarySerializable {
         MOVING, BREAKING, FALLING
     }
 
-    private String id;
+    private int id = IdAllocator.NONE;
+    private boolean dirty = true;
     private GameCallbacks callbacks;
     private World world;
     private Body body;
@@ -48,18 +51,24 @@ public class Platform extends Sprite implements BinarySerializable {
 
     private Array<PlatformBouncer> bouncerRegions;
 
+    private final float spawnX;
+    private final float spawnY;
+
     private String group;
 
+    private final InterpolatedPosition interpolatedPosition = new InterpolatedPosition();
+
     public Platform(GameCallbacks callbacks, World world, TextureAtlas atlas, Rectangle bounds,
                     String group, int startAngle, boolean breakable, float speed,
                     Array<PlatformBouncer> bouncerRegions) {
-        this.id = UUID.randomUUID().toString();
         this.callbacks = callbacks;
         this.world = world;
         state = new GameObjectState<>(State.MOVING);
         setBounds(bounds.x, bounds.y, bounds.width, bounds.height);
+        spawnX = bounds.x;
+        spawnY = bounds.y;
 
-        setRegion(getTextureRegion(atlas, bounds, breakable));
+        setRegion(getTextureRegion(AtlasCache.of(atlas), bounds, breakable));
 
         body = defineBody();
         targetVelocity = getDirectionOfSimpleAngle(startAngle).scl(speed);
@@ -69,18 +78,37 @@ public class Platform extends Sprite implements BinarySerializable {
         this.group = group;
     }
 
-    private TextureAtlas.AtlasRegion getTextureRegion(TextureAtlas atlas, Rectangle bounds,
+    /**
+     * Creates the body in the given world again and restores the state that has been written right
+     * after the platform was created. This is used to restart a level without resolving the
+     * texture region again.
+     */
+    public void respawn(World world, DataInputStream in) throws IOException {
+        this.world = world;
+        state = new GameObjectState<>(State.MOVING);
+        // set the bounds again, because moving the sprite accumulates rounding errors in its vertices,
+        // which would change the shape of the body
+        setBounds(spawnX, spawnY, getWidth(), getHeight());
+        body = defineBody();
+        // a new vector, because the target velocity might still reference the falling velocity
+        targetVelocity = new Vector2();
+        setActive(false);
+        interpolatedPosition.reset();
+        read(in);
+    }
+
+    private TextureAtlas.AtlasRegion getTextureRegion(AtlasCache cache, Rectangle bounds,
                                                       boolean breakable) {
         int width = Math.round(bounds.width / (Cfg.BLOCK_SIZE_PPM));
         switch (width) {
             case 2:
-                return atlas.findRegion(breakable ?
+                return cache.findRegion(breakable ?
                         RegionNames.BREAK_PLATFORM2 : RegionNames.PLATFORM2);
             case 3:
-                return atlas.findRegion(breakable ?
+                return cache.findRegion(breakable ?
                         RegionNames.BREAK_PLATFORM3 : RegionNames.PLATFORM3);
             case 4:
-                return atlas.findRegion(breakable ?
+                return cache.findRegion(breakable ?
                         RegionNames.BREAK_PLATFORM4 : RegionNames.PLATFORM4);
             default:
                 throw new IllegalArgumentException("Unsupported block_width for platform: " + width);
@@ -147,6 +175,11 @@ public class Platform extends Sprite implements BinarySerializable {
     }
 
     public void update(float delta) {
+        // sleeping platforms do not move until they are woken up
+        if (body.isActive()) {
+            markDirty();
+        }
+
         state.update(delta);
 
         if (!state.is(State.FALLING)) {
@@ -190,11 +223,20 @@ public class Platform extends Sprite implements BinarySerializable {
                 body.getPosition().y + yOffset - getHeight() / 2);
     }
 
+    public void storePreviousPosition() {
+        interpolatedPosition.store(this);
+    }
+
+    public void drawInterpolated(Batch batch, float alpha) {
+        interpolatedPosition.draw(this, batch, alpha);
+    }
+
     private void bounce(int angle, float speed) {
         targetVelocity = getDirectionOfSimpleAngle(angle).scl(speed);
     }
 
     public void touch(float delta) {
+        markDirty();
         touchTTL -= delta;
         if (touchTTL < 0 && breakable && state.is(State.MOVING)) {
             state.set(State.BREAKING);
@@ -210,12 +252,32 @@ public class Platform extends Sprite implements BinarySerializable {
         return otherBodyLinearVelocity.sub(body.getLinearVelocity());
     }
 
-    public String getId() {
+    public int getId() {
         return id;
     }
 
+    public void setId(int id) {
+        this.id = id;
+    }
+
     public void setActive(boolean active) {
         body.setActive(active);
+        markDirty();
+    }
+
+    /**
+     * Returns whether the state has changed since the game has been saved the last time.
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void clearDirty() {
+        dirty = false;
+    }
+
+    protected void markDirty() {
+        dirty = true;
     }
 
     public boolean isActive() {
@@ -244,8 +306,8 @@ public class Platform extends Sprite implements BinarySerializable {
 
     @Override
     public void write(DataOutputStream out) throws IOException {
-        out.writeUTF(id);
-        out.writeUTF(group != null ? group : "null");
+        SerializerUtils.writeVarInt(out, id);
+        SerializerUtils.writeNullableString(out, group);
         out.writeFloat(body.getPosition().x);
         out.writeFloat(body.getPosition().y);
         out.writeFloat(body.getLinearVelocity().x);
@@ -258,15 +320,30 @@ public class Platform extends Sprite implements BinarySerializable {
 
     @Override
     public void read(DataInputStream in) throws IOException {
-        id = in.readUTF();
-        group = in.readUTF();
-        if (group.equals("null")) {
-            group = null;
-        }
+        id = SerializerUtils.readVarInt(in);
+        group = SerializerUtils.readNullableString(in);
         body.setTransform(in.readFloat(), in.readFloat(), 0);
         body.setLinearVelocity(in.readFloat(), in.readFloat());
         targetVelocity.set(in.readFloat(), in.readFloat());
         breakable = in.readBoolean();
         touchTTL = in.readFloat();
     }
+
+    /**
+     * Copies the state in the format of older saves, which stored the ID with a fixed width, to
+     * the current format.
+     */
+    public void migrateFixedWidthIds(DataInputStream in, DataOutputStream out) throws IOException {
+        SerializerUtils.writeVarInt(out, in.readInt());
+        SerializerUtils.writeNullableString(out, SerializerUtils.readNullableString(in));
+        // position, velocity and target velocity
+        out.writeFloat(in.readFloat());
+        out.writeFloat(in.readFloat());
+        out.writeFloat(in.readFloat());
+        out.writeFloat(in.readFloat());
+        out.writeFloat(in.readFloat());
+        out.writeFloat(in.readFloat());
+        out.writeBoolean(in.readBoolean());
+        out.writeFloat(in.readFloat());
+    }
 }
@@ -1,9 +1,10 @@
 package de.bsautermeister.jump.sprites;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.ParticleEffectPool;
 import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
@@ -27,7 +28,9 @@ import java.io.IOException;
 
 import de.bsautermeister.jump.Cfg;
 import de.bsautermeister.jump.assets.AssetPaths;
+import de.bsautermeister.jump.assets.AtlasCache;
 import de.bsautermeister.jump.assets.RegionNames;
+import de.bsautermeister.jump.effects.ParticleEffectRegistry;
 import de.bsautermeister.jump.managers.Drownable;
 import de.bsautermeister.jump.physics.Bits;
 import de.bsautermeister.jump.physics.WorldCreator;
@@ -109,7 +112,7 @@ public class Player extends Sprite implements BinarySerializable, Drownable {
     private Animation<TextureRegion> bigPlayerPrezelizedJump;
     private TextureRegion bigPlayerPrezelizedCrouch;
 
-    private final ParticleEffect slideEffect = new ParticleEffect();
+    private final ParticleEffectPool.PooledEffect slideEffect;
 
     private boolean isTurning;
 
@@ -127,7 +130,7 @@ public class Player extends Sprite implements BinarySerializable, Drownable {
 
     private float timeToLive;
 
-    private String lastJumpThroughPlatformId;
+    private int lastJumpThroughPlatformId = IdAllocator.NONE;
 
     private static final float BEER_EFFECT_TRANSITION_DURATION = 5f;
 
@@ -152,6 +155,8 @@ public class Player extends Sprite implements BinarySerializable, Drownable {
 
     private MarkedAction started;
 
+    private final InterpolatedPosition interpolatedPosition = new InterpolatedPosition();
+
     public Player(GameCallbacks callbacks, World world, TextureAtlas atlas,
                   WorldCreator.StartParams start, int initialTimeToLive) {
         this.callbacks = callbacks;
@@ -186,8 +191,10 @@ public class Player extends Sprite implements BinarySerializable, Drownable {
 
         timeToLive = initialTimeToLive;
 
-        slideEffect.load(Gdx.files.internal(AssetPaths.Pfx.SLIDE_SMOKE), atlas);
-        slideEffect.scaleEffect(0.1f / Cfg.PPM);
+        slideEffect = ParticleEffectRegistry.of(atlas)
+                .getPool(AssetPaths.Pfx.SLIDE_SMOKE, 0.1f / Cfg.PPM).obtain();
+        // pooled effects are already started, but the slide smoke is only started when turning
+        slideEffect.allowCompletion();
 
         changeSizeTimer = new GameTimer(0.75f);
         changeSizeTimer.setCallbacks(new GameTimer.TimerCallbacks() {
@@ -212,6 +219,33 @@ public class Player extends Sprite implements BinarySerializable, Drownable {
         started = new MarkedAction();
     }
 
+    /**
+     * Creates the body at the start position in the given world again and restores the state that
+     * has been written right after the player was created. This is used to restart a level without
+     * resolving the textures and loading the particle effects again.
+     */
+    public void respawn(World world, WorldCreator.StartParams start, DataInputStream in)
+            throws IOException {
+        this.world = world;
+        defineSmallBody(start.centerPosition, Vector2.Zero, true);
+        setBounds(body.getPosition().x, body.getPosition().y,
+                Cfg.BLOCK_SIZE_PPM, Cfg.BLOCK_SIZE_PPM);
+        setRegion(smallPlayerStand[0]);
+        setColor(Color.WHITE);
+        slideEffect.allowCompletion();
+        pretzelBullet.respawn(world);
+
+        platformContact = null;
+        groundContactCounter = 0;
+        canDoubleJump = false;
+        didDoubleJump = false;
+        upWaitForRelease = false;
+        pretzelizedTexture = null;
+        interpolatedPosition.reset();
+
+        read(in);
+    }
+
     private void setMainBodyFilterMask(short maskBits) {
         Filter filter = new Filter();
         filter.categoryBits = Bits.PLAYER;
@@ -220,66 +254,43 @@ public class Player extends Sprite implements BinarySerializable, Drownable {
         getBody().getFixtureList().get(UPPER_BODY_IDX).setFilterData(filter);
     }
 
-    private TextureRegion[] createTextureArray(String templateName, int count) {
-        TextureRegion[] result = new TextureRegion[count];
-        for (int i = 0; i < count; ++i) {
-            result[i] = atlas.findRegion(RegionNames.fromTemplate(templateName, i));
-        }
-        return result;
-    }
-
-    private Animation<TextureRegion>[] createAnimationArray(
-            String templateName, int count, float frameDuration, Animation.PlayMode playMode) {
-        Animation<TextureRegion>[] result = new Animation[count];
-        for (int i = 0; i < count; ++i) {
-            result[i] = new Animation<TextureRegion>(frameDuration,
-                    atlas.findRegions(RegionNames.fromTemplate(templateName, i)), playMode);
-        }
-        return result;
-    }
-
     private void initTextures(TextureAtlas atlas) {
-        smallPlayerStand = createTextureArray(RegionNames.SMALL_PLAYER_STAND_TPL, CHARACTER_LEVELS);
-        smallPlayerWalk = createAnimationArray(RegionNames.SMALL_PLAYER_WALK_TPL, CHARACTER_LEVELS,
+        AtlasCache cache = AtlasCache.of(atlas);
+        smallPlayerStand = cache.getTemplateRegions(RegionNames.SMALL_PLAYER_STAND_TPL, CHARACTER_LEVELS);
+        smallPlayerWalk = cache.getTemplateAnimations(RegionNames.SMALL_PLAYER_WALK_TPL, CHARACTER_LEVELS,
                 0.1f, Animation.PlayMode.LOOP_PINGPONG);
-        smallPlayerTurn = createTextureArray(RegionNames.SMALL_PLAYER_TURN_TPL, CHARACTER_LEVELS);
-        smallPlayerJump = createAnimationArray(RegionNames.SMALL_PLAYER_JUMP_TPL, CHARACTER_LEVELS,
+        smallPlayerTurn = cache.getTemplateRegions(RegionNames.SMALL_PLAYER_TURN_TPL, CHARACTER_LEVELS);
+        smallPlayerJump = cache.getTemplateAnimations(RegionNames.SMALL_PLAYER_JUMP_TPL, CHARACTER_LEVELS,
                 0.125f, Animation.PlayMode.NORMAL);
-        smallPlayerCrouch = createTextureArray(RegionNames.SMALL_PLAYER_CROUCH_TPL, CHARACTER_LEVELS);
-        smallPlayerDrown = createAnimationArray(RegionNames.SMALL_PLAYER_DROWN_TPL, CHARACTER_LEVELS,
+        smallPlayerCrouch = cache.getTemplateRegions(RegionNames.SMALL_PLAYER_CROUCH_TPL, CHARACTER_LEVELS);
+        smallPlayerDrown = cache.getTemplateAnimations(RegionNames.SMALL_PLAYER_DROWN_TPL, CHARACTER_LEVELS,
                 0.25f, Animation.PlayMode.LOOP);
-        smallPlayerDead = createAnimationArray(RegionNames.SMALL_PLAYER_DEAD_TPL, CHARACTER_LEVELS,
+        smallPlayerDead = cache.getTemplateAnimations(RegionNames.SMALL_PLAYER_DEAD_TPL, CHARACTER_LEVELS,
                 0.25f, Animation.PlayMode.LOOP);
-        smallPlayerVictory = new Animation[VICTORY_VARIATIONS];
-        smallPlayerVictory[0] = new Animation<TextureRegion>(0.125f,
-                atlas.findRegions(RegionNames.SMALL_PLAYER_VICTORY), Animation.PlayMode.NORMAL);
-        smallPlayerVictory[1] = new Animation<TextureRegion>(0.125f,
-                atlas.findRegions(RegionNames.SMALL_PLAYER_BEER_VICTORY), Animation.PlayMode.NORMAL);
-
-        bigPlayerStand = createTextureArray(RegionNames.BIG_PLAYER_STAND_TPL, CHARACTER_LEVELS);
-        bigPlayerWalk = createAnimationArray(RegionNames.BIG_PLAYER_WALK_TPL, CHARACTER_LEVELS,
+        smallPlayerVictory = cache.getAnimations(0.125f, Animation.PlayMode.NORMAL,
+                RegionNames.SMALL_PLAYER_VICTORY, RegionNames.SMALL_PLAYER_BEER_VICTORY);
+
+        bigPlayerStand = cache.getTemplateRegions(RegionNames.BIG_PLAYER_STAND_TPL, CHARACTER_LEVELS);
+        bigPlayerWalk = cache.getTemplateAnimations(RegionNames.BIG_PLAYER_WALK_TPL, CHARACTER_LEVELS,
                 0.1f, Animation.PlayMode.LOOP_PINGPONG);
-        bigPlayerTurn = createTextureArray(RegionNames.BIG_PLAYER_TURN_TPL, CHARACTER_LEVELS);
-        bigPlayerJump = createAnimationArray(RegionNames.BIG_PLAYER_JUMP_TPL, CHARACTER_LEVELS,
+        bigPlayerTurn = cache.getTemplateRegions(RegionNames.BIG_PLAYER_TURN_TPL, CHARACTER_LEVELS);
+        bigPlayerJump = cache.getTemplateAnimations(RegionNames.BIG_PLAYER_JUMP_TPL, CHARACTER_LEVELS,
                 0.05f, Animation.PlayMode.NORMAL);
-        bigPlayerCrouch = createTextureArray(RegionNames.BIG_PLAYER_CROUCH_TPL, CHARACTER_LEVELS);
-        bigPlayerDrown = createAnimationArray(RegionNames.BIG_PLAYER_DROWN_TPL, CHARACTER_LEVELS,
+        bigPlayerCrouch = cache.getTemplateRegions(RegionNames.BIG_PLAYER_CROUCH_TPL, CHARACTER_LEVELS);
+        bigPlayerDrown = cache.getTemplateAnimations(RegionNames.BIG_PLAYER_DROWN_TPL, CHARACTER_LEVELS,
                 0.25f, Animation.PlayMode.LOOP);
-        bigPlayerDead = createAnimationArray(RegionNames.BIG_PLAYER_DEAD_TPL, CHARACTER_LEVELS,
+        bigPlayerDead = cache.getTemplateAnimations(RegionNames.BIG_PLAYER_DEAD_TPL, CHARACTER_LEVELS,
                 0.25f, Animation.PlayMode.LOOP);
-        bigPlayerVictory = new Animation[VICTORY_VARIATIONS];
-        bigPlayerVictory[0] = new Animation<TextureRegion>(0.125f,
-                atlas.findRegions(RegionNames.BIG_PLAYER_VICTORY), Animation.PlayMode.NORMAL);
-        bigPlayerVictory[1] = new Animation<TextureRegion>(0.125f,
-                atlas.findRegions(RegionNames.BIG_PLAYER_BEER_VICTORY), Animation.PlayMode.NORMAL);
+        bigPlayerVictory = cache.getAnimations(0.125f, Animation.PlayMode.NORMAL,
+                RegionNames.BIG_PLAYER_VICTORY, RegionNames.BIG_PLAYER_BEER_VICTORY);
 
-        bigPlayerPrezelizedStand = atlas.findRegion(RegionNames.BIG_PLAYER_PREZELIZED_STAND);
-        bigPlayerPrezelizedWalk = new Animation<TextureRegion>(0.1f,
-                atlas.findRegions(RegionNames.BIG_PLAYER_PREZELIZED_WALK), Animation.PlayMode.LOOP_PINGPONG);
-        bigPlayerPrezelizedTurn = atlas.findRegion(RegionNames.BIG_PLAYER_PREZELIZED_TURN);
-        bigPlayerPrezelizedJump = new Animation<TextureRegion>(0.1f,
-                atlas.findRegions(RegionNames.BIG_PLAYER_PREZELIZED_JUMP), Animation.PlayMode.NORMAL);
-        bigPlayerPrezelizedCrouch = atlas.findRegion(RegionNames.BIG_PLAYER_PREZELIZED_CROUCH);
+        bigPlayerPrezelizedStand = cache.findRegion(RegionNames.BIG_PLAYER_PREZELIZED_STAND);
+        bigPlayerPrezelizedWalk = cache.getAnimation(RegionNames.BIG_PLAYER_PREZELIZED_WALK,
+                0.1f, Animation.PlayMode.LOOP_PINGPONG);
+        bigPlayerPrezelizedTurn = cache.findRegion(RegionNames.BIG_PLAYER_PREZELIZED_TURN);
+        bigPlayerPrezelizedJump = cache.getAnimation(RegionNames.BIG_PLAYER_PREZELIZED_JUMP,
+                0.1f, Animation.PlayMode.NORMAL);
+        bigPlayerPrezelizedCrouch = cache.findRegion(RegionNames.BIG_PLAYER_PREZELIZED_CROUCH);
     }
 
     public void update(float delta) {
@@ -651,6 +662,21 @@ public class Player extends Sprite implements BinarySerializable, Drownable {
         slideEffect.draw(batch, Gdx.graphics.getDeltaTime());
     }
 
+    /**
+     * Returns the slide effect to its pool, after which the player must not be used anymore.
+     */
+    public void dispose() {
+        slideEffect.free();
+    }
+
+    public void storePreviousPosition() {
+        interpolatedPosition.store(this);
+    }
+
+    public void drawInterpolated(Batch batch, float alpha) {
+        interpolatedPosition.draw(this, batch, alpha);
+    }
+
     public State getState() {
         return state.current();
     }
@@ -990,15 +1016,15 @@ public class Player extends Sprite implements BinarySerializable, Drownable {
         setMainBodyFilterMask(NO_ENEMY_FILTER_BITS);
     }
 
-    public String getLastJumpThroughPlatformId() {
+    public int getLastJumpThroughPlatformId() {
         return lastJumpThroughPlatformId;
     }
 
     public boolean hasLastJumpThroughPlatformId() {
-        return lastJumpThroughPlatformId != null;
+        return lastJumpThroughPlatformId != IdAllocator.NONE;
     }
 
-    public void setLastJumpThroughPlatformId(String lastJumpThroughPlatformId) {
+    public void setLastJumpThroughPlatformId(int lastJumpThroughPlatformId) {
         this.lastJumpThroughPlatformId = lastJumpThroughPlatformId;
     }
 
@@ -1058,7 +1084,7 @@ public class Player extends Sprite implements BinarySerializable, Drownable {
         out.writeBoolean(markRedefineBody);
         out.writeBoolean(deadAnimationStarted);
         out.writeFloat(timeToLive);
-        out.writeUTF(lastJumpThroughPlatformId != null ? lastJumpThroughPlatformId : "null");
+        out.writeInt(lastJumpThroughPlatformId);
         out.writeFloat(characterProgress);
         out.writeFloat(recentHighestYForLanding);
     }
@@ -1085,10 +1111,7 @@ public class Player extends Sprite implements BinarySerializable, Drownable {
         markRedefineBody = in.readBoolean();
         deadAnimationStarted = in.readBoolean();
         timeToLive = in.readFloat();
-        lastJumpThroughPlatformId = in.readUTF();
-        if (lastJumpThroughPlatformId.equals("null")) {
-            lastJumpThroughPlatformId = null;
-        }
+        lastJumpThroughPlatformId = in.readInt();
         characterProgress = in.readFloat();
         recentHighestYForLanding = in.readFloat();
 
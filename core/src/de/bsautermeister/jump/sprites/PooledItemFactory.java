@@ -0,0 +1,46 @@
+package de.bsautermeister.jump.sprites;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+
+import de.bsautermeister.jump.screens.game.GameCallbacks;
+
+/**
+ * Keeps removed items with their deactivated bodies and respawns them, instead of creating a new
+ * item with a new body every time. The kept items belong to the world they have been created in,
+ * so they have to be cleared together with the world.
+ */
+public abstract class PooledItemFactory<T extends Item> extends EntityFactory<T> {
+    private static final int MAX_FREE_ITEMS = 8;
+
+    private final Array<T> freeItems = new Array<>(false, MAX_FREE_ITEMS);
+
+    protected abstract T newItem(GameCallbacks callbacks, World world, TextureAtlas atlas,
+                                 float x, float y);
+
+    @Override
+    public T create(GameCallbacks callbacks, World world, TextureAtlas atlas, float x, float y) {
+        if (freeItems.size == 0) {
+            return newItem(callbacks, world, atlas, x, y);
+        }
+        T item = freeItems.pop();
+        item.respawn(x, y);
+        return item;
+    }
+
+    @Override
+    public void free(T item) {
+        if (freeItems.size < MAX_FREE_ITEMS) {
+            item.deactivate();
+            freeItems.add(item);
+        } else {
+            item.dispose();
+        }
+    }
+
+    @Override
+    public void clear() {
+        freeItems.clear();
+    }
+}
@@ -35,7 +35,7 @@ public class PretzelBullet extends Sprite implements BinarySerializable {
     private static final float VELOCITY_X = 10f;
 
     private final GameCallbacks callbacks;
-    private final World world;
+    private World world;
     private Body body;
     private float rotation;
     private boolean rightDirection;
@@ -72,6 +72,20 @@ public class PretzelBullet extends Sprite implements BinarySerializable {
         activeTime = 0f;
     }
 
+    /**
+     * Creates the body in the given world again, at the same position as the constructor did.
+     */
+    public void respawn(World world) {
+        this.world = world;
+        setPosition(0f, 0f);
+        setRotation(0f);
+        body = defineBody();
+        reset.reset();
+        explodeEffect.reset();
+
+        reset();
+    }
+
     public void fire(float posX, float posY, boolean rightDirection) {
         body.setTransform(posX, posY, 0);
         body.setActive(true);
@@ -3,6 +3,7 @@ package de.bsautermeister.jump.sprites;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
@@ -29,10 +30,12 @@ public class Tent extends Sprite implements BinarySerializable {
     private float wabbleTime;
     private Vector2 playerPosition = new Vector2(Float.MAX_VALUE, Float.MAX_VALUE);
 
+    private final TextureRegion closedRegion;
     private final SimplePooledEffect singingEffect;
 
     public Tent(TextureAtlas atlas, Rectangle goal) {
-        setRegion(atlas.findRegion(RegionNames.TENT_CLOSED));
+        closedRegion = atlas.findRegion(RegionNames.TENT_CLOSED);
+        setRegion(closedRegion);
         this.center = new Vector2(goal.getX() + goal.getWidth() / 2,
                 goal.getY() + goal.getHeight() / 2);
         this.atlas = atlas;
@@ -46,6 +49,18 @@ public class Tent extends Sprite implements BinarySerializable {
         singingEffect = new SimplePooledEffect(AssetPaths.Pfx.MUSIC, atlas, 0.2f / Cfg.PPM);
     }
 
+    /**
+     * Closes the tent again, which is used when the level is restarted.
+     */
+    public void reset() {
+        open = false;
+        wabbleTime = 0f;
+        playerPosition.set(Float.MAX_VALUE, Float.MAX_VALUE);
+        setRegion(closedRegion);
+        setSize(tentWidth, getRegionHeight() / Cfg.PPM);
+        singingEffect.reset();
+    }
+
     public void update(float delta) {
         if (open) {
             wabbleTime += delta;
@@ -17,6 +17,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 
 import de.bsautermeister.jump.Cfg;
+import de.bsautermeister.jump.assets.AtlasCache;
 import de.bsautermeister.jump.assets.RegionNames;
 import de.bsautermeister.jump.physics.Bits;
 import de.bsautermeister.jump.physics.TaggedUserData;
@@ -47,8 +48,8 @@ public class DrunkenGuy extends Enemy {
     public DrunkenGuy(GameCallbacks callbacks, World world, TextureAtlas atlas,
                       float posX, float posY) {
         super(callbacks, world, posX, posY - hiddenOffsetY, Cfg.BLOCK_SIZE_PPM, (int)(1.5f * Cfg.BLOCK_SIZE) / Cfg.PPM);
-        animation = new Animation<TextureRegion>(0.1f,
-                atlas.findRegions(RegionNames.DRUNKEN_GUY), Animation.PlayMode.LOOP);
+        AtlasCache cache = AtlasCache.of(atlas);
+        animation = cache.getAnimation(RegionNames.DRUNKEN_GUY, 0.1f, Animation.PlayMode.LOOP);
         state = new GameObjectState<>(State.HIDDEN);
         hiddenTargetY = getBody().getPosition().y;
         waitingTargetY = getBody().getPosition().y + getHeight() + hiddenOffsetY - 1 / Cfg.PPM;
@@ -158,6 +159,11 @@ public class DrunkenGuy extends Enemy {
         return false;
     }
 
+    @Override
+    protected void onRespawn() {
+        setRegion(animation.getKeyFrame(peekTime));
+    }
+
     @Override
     public void write(DataOutputStream out) throws IOException {
         super.write(out);
@@ -178,7 +184,17 @@ public class DrunkenGuy extends Enemy {
         peekTime = in.readFloat();
     }
 
-    public void setBlocked(boolean blocked) {
-        this.blocked = blocked;
+    @Override
+    public void beginSensorContact(String sensorTag, short otherCategoryBits) {
+        if (otherCategoryBits == Bits.PLAYER) {
+            blocked = true;
+        }
+    }
+
+    @Override
+    public void endSensorContact(String sensorTag, short otherCategoryBits) {
+        if (otherCategoryBits == Bits.PLAYER) {
+            blocked = false;
+        }
     }
 }
@@ -1,5 +1,6 @@
 package de.bsautermeister.jump.sprites.enemies;
 
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
@@ -11,22 +12,26 @@ import com.badlogic.gdx.utils.Disposable;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
-import java.util.UUID;
 
 import de.bsautermeister.jump.screens.game.GameCallbacks;
 import de.bsautermeister.jump.Cfg;
 import de.bsautermeister.jump.physics.Bits;
+import de.bsautermeister.jump.physics.SensorContactHandler;
 import de.bsautermeister.jump.serializer.BinarySerializable;
+import de.bsautermeister.jump.serializer.SerializerUtils;
+import de.bsautermeister.jump.sprites.IdAllocator;
+import de.bsautermeister.jump.sprites.InterpolatedPosition;
 import de.bsautermeister.jump.sprites.MarkedAction;
 import de.bsautermeister.jump.sprites.Player;
 
-public abstract class Enemy extends Sprite implements BinarySerializable, Disposable {
+public abstract class Enemy extends Sprite
+        implements BinarySerializable, Disposable, SensorContactHandler {
     protected static final String TAG_LEFT = "left";
     protected static final String TAG_RIGHT = "right";
     protected static final String TAG_TOP = "top";
     protected static final String TAG_BOTTOM = "bottom";
 
-    private String id;
+    private int id = IdAllocator.NONE;
 
     /**
      * An optional group, which is used so that all enemies of the same group are woken up together.
@@ -36,15 +41,22 @@ public abstract class Enemy extends Sprite implements BinarySerializable, Dispos
     private World world;
     private Body body;
 
+    private final float spawnX;
+    private final float spawnY;
+
     private boolean dead;
     private boolean removable;
 
     private MarkedAction destroyBody;
+    private boolean dirty = true;
+
+    private final InterpolatedPosition interpolatedPosition = new InterpolatedPosition();
 
     public Enemy(GameCallbacks callbacks, World world, float posX, float posY, float width, float height) {
-        this.id = UUID.randomUUID().toString();
         this.callbacks = callbacks;
         this.world = world;
+        this.spawnX = posX;
+        this.spawnY = posY;
         setBounds(posX, posY, width, height);
         this.body = defineBody();
         destroyBody = new MarkedAction();
@@ -53,11 +65,42 @@ public abstract class Enemy extends Sprite implements BinarySerializable, Dispos
 
     protected abstract Body defineBody();
 
+    /**
+     * Creates the body in the given world again, the same way as the constructor did, and restores
+     * the state that has been written right after the enemy was created. This is used to restart
+     * a level without resolving the animations again.
+     */
+    public void respawn(World world, DataInputStream in) throws IOException {
+        this.world = world;
+        // set the bounds again, because moving the sprite accumulates rounding errors in its vertices
+        setBounds(spawnX, spawnY, getWidth(), getHeight());
+        setRotation(0f);
+        body = defineBody();
+        setActive(false);
+        interpolatedPosition.reset();
+        read(in);
+        onRespawn();
+    }
+
+    /**
+     * Resets the state that is not part of the serialized state, after the enemy has been
+     * respawned.
+     */
+    protected void onRespawn() {
+        // NOOP by default
+    }
+
     public boolean renderInForeground() {
         return isDead();
     }
 
     public void update(float delta) {
+        // the timers of sleeping enemies keep running, but that is not worth an autosave until
+        // they are woken up or hit by something
+        if (body == null || body.isActive()) {
+            markDirty();
+        }
+
         if (isOutOfBounds()) {
             markRemovable();
         }
@@ -85,6 +128,7 @@ public abstract class Enemy extends Sprite implements BinarySerializable, Dispos
 
     public void kill(float pushFactor) {
         dead = true;
+        markDirty();
         updateMaskFilter(Bits.NOTHING);
 
         callbacks.killed(this);
@@ -114,16 +158,39 @@ public abstract class Enemy extends Sprite implements BinarySerializable, Dispos
         destroyBody.mark();
     }
 
+    public void storePreviousPosition() {
+        interpolatedPosition.store(this);
+    }
+
+    public void drawInterpolated(Batch batch, float alpha) {
+        interpolatedPosition.draw(this, batch, alpha);
+    }
+
     public abstract void onHeadHit(Player player);
 
     public abstract void onEnemyHit(Enemy enemy);
 
-    public String getId() {
+    @Override
+    public void beginSensorContact(String sensorTag, short otherCategoryBits) {
+        // NOOP by default
+    }
+
+    @Override
+    public void endSensorContact(String sensorTag, short otherCategoryBits) {
+        // NOOP by default
+    }
+
+    public int getId() {
         return id;
     }
 
+    public void setId(int id) {
+        this.id = id;
+    }
+
     public void setActive(boolean active) {
         body.setActive(active);
+        markDirty();
     }
 
     public boolean isActive() {
@@ -152,6 +219,22 @@ public abstract class Enemy extends Sprite implements BinarySerializable, Dispos
 
     public void markRemovable() {
         this.removable = true;
+        markDirty();
+    }
+
+    /**
+     * Returns whether the state has changed since the game has been saved the last time.
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void clearDirty() {
+        dirty = false;
+    }
+
+    protected void markDirty() {
+        dirty = true;
     }
 
     public boolean isRemovable() {
@@ -172,8 +255,8 @@ public abstract class Enemy extends Sprite implements BinarySerializable, Dispos
 
     @Override
     public void write(DataOutputStream out) throws IOException {
-        out.writeUTF(id);
-        out.writeUTF(group != null ? group : "null");
+        SerializerUtils.writeVarInt(out, id);
+        SerializerUtils.writeNullableString(out, group);
         out.writeFloat(body.getPosition().x);
         out.writeFloat(body.getPosition().y);
         out.writeFloat(body.getLinearVelocity().x);
@@ -186,11 +269,8 @@ public abstract class Enemy extends Sprite implements BinarySerializable, Dispos
 
     @Override
     public void read(DataInputStream in) throws IOException {
-        id = in.readUTF();
-        group = in.readUTF();
-        if (group.equals("null")) {
-            group = null;
-        }
+        id = SerializerUtils.readVarInt(in);
+        group = SerializerUtils.readNullableString(in);
         body.setTransform(in.readFloat(), in.readFloat(), 0);
         body.setLinearVelocity(in.readFloat(), in.readFloat());
         if (in.readBoolean()) {
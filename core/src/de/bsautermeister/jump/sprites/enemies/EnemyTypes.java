@@ -0,0 +1,58 @@
+package de.bsautermeister.jump.sprites.enemies;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.physics.box2d.World;
+
+import de.bsautermeister.jump.screens.game.GameCallbacks;
+import de.bsautermeister.jump.sprites.EntityFactory;
+import de.bsautermeister.jump.sprites.EntityRegistry;
+
+/**
+ * The types of enemies that can be saved and restored. The properties that are passed to the
+ * constructors are placeholders, because they are part of the restored state.
+ */
+public final class EnemyTypes {
+    private EnemyTypes() {}
+
+    public static EntityRegistry<Enemy> createRegistry(GameCallbacks callbacks, TextureAtlas atlas) {
+        EntityRegistry<Enemy> registry = new EntityRegistry<>(callbacks, atlas);
+        // the order defines the saved type IDs, so new types have to be appended
+        registry.register(Fox.class, new EntityFactory<Fox>() {
+            @Override
+            public Fox create(GameCallbacks callbacks, World world, TextureAtlas atlas, float x, float y) {
+                return new Fox(callbacks, world, atlas, x, y, false);
+            }
+        });
+        registry.register(Hedgehog.class, new EntityFactory<Hedgehog>() {
+            @Override
+            public Hedgehog create(GameCallbacks callbacks, World world, TextureAtlas atlas, float x, float y) {
+                return new Hedgehog(callbacks, world, atlas, x, y, false);
+            }
+        });
+        registry.register(DrunkenGuy.class, new EntityFactory<DrunkenGuy>() {
+            @Override
+            public DrunkenGuy create(GameCallbacks callbacks, World world, TextureAtlas atlas, float x, float y) {
+                return new DrunkenGuy(callbacks, world, atlas, x, y);
+            }
+        });
+        registry.register(Fish.class, new EntityFactory<Fish>() {
+            @Override
+            public Fish create(GameCallbacks callbacks, World world, TextureAtlas atlas, float x, float y) {
+                return new Fish(callbacks, world, atlas, x, y);
+            }
+        });
+        registry.register(Frog.class, new EntityFactory<Frog>() {
+            @Override
+            public Frog create(GameCallbacks callbacks, World world, TextureAtlas atlas, float x, float y) {
+                return new Frog(callbacks, world, atlas, x, y, false);
+            }
+        });
+        registry.register(Raven.class, new EntityFactory<Raven>() {
+            @Override
+            public Raven create(GameCallbacks callbacks, World world, TextureAtlas atlas, float x, float y) {
+                return new Raven(callbacks, world, atlas, x, y, false, false, false);
+            }
+        });
+        return registry;
+    }
+}
@@ -16,6 +16,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 
 import de.bsautermeister.jump.Cfg;
+import de.bsautermeister.jump.assets.AtlasCache;
 import de.bsautermeister.jump.assets.RegionNames;
 import de.bsautermeister.jump.managers.Drownable;
 import de.bsautermeister.jump.physics.Bits;
@@ -43,7 +44,8 @@ public class Fish extends Enemy implements Drownable {
     public Fish(GameCallbacks callbacks, World world, TextureAtlas atlas,
                 float posX, float posY) {
         super(callbacks, world, posX, 0f, Cfg.BLOCK_SIZE_PPM, Cfg.BLOCK_SIZE_PPM);
-        animation = new Animation<TextureRegion>(0.25f, atlas.findRegions(RegionNames.FISH), Animation.PlayMode.LOOP);
+        AtlasCache cache = AtlasCache.of(atlas);
+        animation = cache.getAnimation(RegionNames.FISH, 0.25f, Animation.PlayMode.LOOP);
         state = new GameObjectState<>(State.WAITING);
         setRegion(animation.getKeyFrame(state.timer()));
         setOriginCenter();
@@ -107,7 +109,8 @@ public class Fish extends Enemy implements Drownable {
     protected Body defineBody() {
         BodyDef bodyDef = new BodyDef();
         bodyDef.gravityScale = 0.25f;
-        bodyDef.position.set(startCenterX, startCenterY);
+        // the start position is not known yet when this is called from the constructor, so the body
+        // is created at the origin and moved to the start position by the update
         bodyDef.type = BodyDef.BodyType.DynamicBody;
         Body body = getWorld().createBody(bodyDef);
 
@@ -209,6 +212,11 @@ public class Fish extends Enemy implements Drownable {
         return getBody().getLinearVelocity();
     }
 
+    @Override
+    protected void onRespawn() {
+        setRegion(animation.getKeyFrame(state.timer()));
+    }
+
     @Override
     public void write(DataOutputStream out) throws IOException {
         super.write(out);
@@ -17,6 +17,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 
 import de.bsautermeister.jump.Cfg;
+import de.bsautermeister.jump.assets.AtlasCache;
 import de.bsautermeister.jump.assets.RegionNames;
 import de.bsautermeister.jump.managers.Drownable;
 import de.bsautermeister.jump.physics.Bits;
@@ -49,10 +50,11 @@ public class Fox extends Enemy implements Drownable {
     public Fox(GameCallbacks callbacks, World world, TextureAtlas atlas,
                float posX, float posY, boolean rightDirection) {
         super(callbacks, world, posX, posY, Cfg.BLOCK_SIZE_PPM, Cfg.BLOCK_SIZE_PPM);
+        AtlasCache cache = AtlasCache.of(atlas);
 
-        walkAnimation = new Animation<TextureRegion>(0.05f, atlas.findRegions(RegionNames.FOX_WALK), Animation.PlayMode.LOOP);
-        standingAnimation = new Animation<TextureRegion>(0.05f, atlas.findRegions(RegionNames.FOX_STANDING), Animation.PlayMode.LOOP);
-        stompedAnimation = new Animation<TextureRegion>(0.05f, atlas.findRegions(RegionNames.FOX_STOMP), Animation.PlayMode.NORMAL);
+        walkAnimation = cache.getAnimation(RegionNames.FOX_WALK, 0.05f, Animation.PlayMode.LOOP);
+        standingAnimation = cache.getAnimation(RegionNames.FOX_STANDING, 0.05f, Animation.PlayMode.LOOP);
+        stompedAnimation = cache.getAnimation(RegionNames.FOX_STOMP, 0.05f, Animation.PlayMode.NORMAL);
 
         state = new GameObjectState<>(State.WALKING);
         speed = rightDirection ? SPEED : -SPEED;
@@ -249,21 +251,23 @@ public class Fox extends Enemy implements Drownable {
                 ? -SPEED : SPEED;
     }
 
-    public void beginContactSensor(String sideSensorTag, boolean wait) {
+    @Override
+    public void beginSensorContact(String sideSensorTag, short otherCategoryBits) {
         if (TAG_LEFT.equals(sideSensorTag)) {
             leftSensorContacts += 1;
         } else if (TAG_RIGHT.equals(sideSensorTag)) {
             rightSensorContacts += 1;
         }
 
-        if (wait) {
+        if (otherCategoryBits == Bits.COLLIDER) {
             state.set(State.STANDING);
             previousDirectionLeft = speed <= 0;
             speed = 0;
         }
     }
 
-    public void endContactSensor(String sideSensorTag) {
+    @Override
+    public void endSensorContact(String sideSensorTag, short otherCategoryBits) {
         if (TAG_LEFT.equals(sideSensorTag)) {
             leftSensorContacts = Math.max(0, leftSensorContacts - 1);
         } else if (TAG_RIGHT.equals(sideSensorTag)) {
@@ -306,6 +310,14 @@ public class Fox extends Enemy implements Drownable {
         this.playerPosition.set(playerPosition);
     }
 
+    @Override
+    protected void onRespawn() {
+        drowning = false;
+        leftSensorContacts = 0;
+        rightSensorContacts = 0;
+        setRegion(getFrame());
+    }
+
     @Override
     public void write(DataOutputStream out) throws IOException {
         super.write(out);
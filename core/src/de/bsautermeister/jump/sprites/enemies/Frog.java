@@ -17,6 +17,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 
 import de.bsautermeister.jump.Cfg;
+import de.bsautermeister.jump.assets.AtlasCache;
 import de.bsautermeister.jump.assets.RegionNames;
 import de.bsautermeister.jump.managers.Drownable;
 import de.bsautermeister.jump.physics.Bits;
@@ -48,11 +49,10 @@ public class Frog extends Enemy implements Drownable {
         super(callbacks, world, posX, posY, Cfg.BLOCK_SIZE_PPM, Cfg.BLOCK_SIZE_PPM);
         this.isLeft = !rightDirection;
 
-        standing = atlas.findRegion(RegionNames.FROG_STANDING);
-        jumpingAnimation = new Animation<TextureRegion>(0.15f,
-                atlas.findRegions(RegionNames.FROG_JUMPING), Animation.PlayMode.NORMAL);
-        stompedAnimation = new Animation<TextureRegion>(0.05f,
-                atlas.findRegions(RegionNames.FROG_STOMPED), Animation.PlayMode.NORMAL);
+        AtlasCache cache = AtlasCache.of(atlas);
+        standing = cache.findRegion(RegionNames.FROG_STANDING);
+        jumpingAnimation = cache.getAnimation(RegionNames.FROG_JUMPING, 0.15f, Animation.PlayMode.NORMAL);
+        stompedAnimation = cache.getAnimation(RegionNames.FROG_STOMPED, 0.05f, Animation.PlayMode.NORMAL);
 
         state = new GameObjectState<>(State.STANDING);
         setRegion(getFrame());
@@ -248,7 +248,8 @@ public class Frog extends Enemy implements Drownable {
         isLeft = getBody().getPosition().x < otherEnemy.getBody().getPosition().x;
     }
 
-    public void beginContactSensor(String sideSensorTag) {
+    @Override
+    public void beginSensorContact(String sideSensorTag, short otherCategoryBits) {
         if (TAG_LEFT.equals(sideSensorTag)) {
             leftSensorContacts += 1;
         } else if (TAG_RIGHT.equals(sideSensorTag)) {
@@ -260,7 +261,8 @@ public class Frog extends Enemy implements Drownable {
         }
     }
 
-    public void endContactSensor(String sideSensorTag) {
+    @Override
+    public void endSensorContact(String sideSensorTag, short otherCategoryBits) {
         if (TAG_LEFT.equals(sideSensorTag)) {
             leftSensorContacts = Math.max(0, leftSensorContacts - 1);
         } else if (TAG_RIGHT.equals(sideSensorTag)) {
@@ -292,6 +294,14 @@ public class Frog extends Enemy implements Drownable {
         return getBody().getLinearVelocity();
     }
 
+    @Override
+    protected void onRespawn() {
+        drowning = false;
+        leftSensorContacts = 0;
+        rightSensorContacts = 0;
+        setRegion(getFrame());
+    }
+
     @Override
     public void write(DataOutputStream out) throws IOException {
         super.write(out);
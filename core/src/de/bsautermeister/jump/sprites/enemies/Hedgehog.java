@@ -19,6 +19,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 
 import de.bsautermeister.jump.Cfg;
+import de.bsautermeister.jump.assets.AtlasCache;
 import de.bsautermeister.jump.assets.RegionNames;
 import de.bsautermeister.jump.managers.Drownable;
 import de.bsautermeister.jump.physics.Bits;
@@ -59,13 +60,11 @@ public class Hedgehog extends Enemy implements Drownable {
     public Hedgehog(GameCallbacks callbacks, World world, TextureAtlas atlas,
                     float posX, float posY, boolean rightDirection) {
         super(callbacks, world, posX, posY, Cfg.BLOCK_SIZE_PPM, Cfg.BLOCK_SIZE_PPM);
-        walkAnimation = new Animation<TextureRegion>(0.05f,
-                atlas.findRegions(RegionNames.HEDGEHOG_WALK), Animation.PlayMode.LOOP);
-        rollAnimation = new Animation<TextureRegion>(0.1f,
-                atlas.findRegions(RegionNames.HEDGEHOG_ROLL), Animation.PlayMode.NORMAL);
-        unrollAnimation = new Animation<TextureRegion>(0.2f,
-                atlas.findRegions(RegionNames.HEDGEHOG_ROLL), Animation.PlayMode.REVERSED);
-        rollingTexture = atlas.findRegion(RegionNames.HEDGEHOG_ROLL, 2);
+        AtlasCache cache = AtlasCache.of(atlas);
+        walkAnimation = cache.getAnimation(RegionNames.HEDGEHOG_WALK, 0.05f, Animation.PlayMode.LOOP);
+        rollAnimation = cache.getAnimation(RegionNames.HEDGEHOG_ROLL, 0.1f, Animation.PlayMode.NORMAL);
+        unrollAnimation = cache.getAnimation(RegionNames.HEDGEHOG_ROLL, 0.2f, Animation.PlayMode.REVERSED);
+        rollingTexture = cache.findRegion(RegionNames.HEDGEHOG_ROLL, 2);
 
         state = new GameObjectState<>(State.WALKING);
         state.setStateCallback(new GameObjectState.StateCallback<State>() {
@@ -322,7 +321,25 @@ public class Hedgehog extends Enemy implements Drownable {
                 ? -SPEED_VALUE : SPEED_VALUE;
     }
 
-    public void beginContactWallSensor(String sideSensorTag) {
+    @Override
+    public void beginSensorContact(String sideSensorTag, short otherCategoryBits) {
+        if (otherCategoryBits == Bits.COLLIDER) {
+            beginContactColliderSensor(sideSensorTag);
+        } else {
+            beginContactWallSensor(sideSensorTag);
+        }
+    }
+
+    @Override
+    public void endSensorContact(String sideSensorTag, short otherCategoryBits) {
+        if (otherCategoryBits == Bits.COLLIDER) {
+            endContactColliderSensor(sideSensorTag);
+        } else {
+            endContactWallSensor(sideSensorTag);
+        }
+    }
+
+    private void beginContactWallSensor(String sideSensorTag) {
         if (TAG_LEFT.equals(sideSensorTag)) {
             leftSensorWallContacts += 1;
         } else if (TAG_RIGHT.equals(sideSensorTag)) {
@@ -343,7 +360,7 @@ public class Hedgehog extends Enemy implements Drownable {
         getCallbacks().hitWall(this);
     }
 
-    public void beginContactColliderSensor(String sideSensorTag) {
+    private void beginContactColliderSensor(String sideSensorTag) {
         if (TAG_LEFT.equals(sideSensorTag)) {
             leftSensorColliderContacts += 1;
         } else if (TAG_RIGHT.equals(sideSensorTag)) {
@@ -351,7 +368,7 @@ public class Hedgehog extends Enemy implements Drownable {
         }
     }
 
-    public void endContactWallSensor(String sideSensorTag) {
+    private void endContactWallSensor(String sideSensorTag) {
         if (TAG_LEFT.equals(sideSensorTag)) {
             leftSensorWallContacts = Math.max(0, leftSensorWallContacts - 1);
         } else if (TAG_RIGHT.equals(sideSensorTag)) {
@@ -359,7 +376,7 @@ public class Hedgehog extends Enemy implements Drownable {
         }
     }
 
-    public void endContactColliderSensor(String sideSensorTag) {
+    private void endContactColliderSensor(String sideSensorTag) {
         if (TAG_LEFT.equals(sideSensorTag)) {
             leftSensorColliderContacts = Math.max(0, leftSensorColliderContacts - 1);
         } else if (TAG_RIGHT.equals(sideSensorTag)) {
@@ -406,6 +423,16 @@ public class Hedgehog extends Enemy implements Drownable {
         return getBody().getLinearVelocity();
     }
 
+    @Override
+    protected void onRespawn() {
+        drowning = false;
+        leftSensorWallContacts = 0;
+        rightSensorWallContacts = 0;
+        leftSensorColliderContacts = 0;
+        rightSensorColliderContacts = 0;
+        setRegion(getFrame());
+    }
+
     @Override
     public void write(DataOutputStream out) throws IOException {
         super.write(out);
@@ -18,6 +18,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 
 import de.bsautermeister.jump.Cfg;
+import de.bsautermeister.jump.assets.AtlasCache;
 import de.bsautermeister.jump.assets.RegionNames;
 import de.bsautermeister.jump.managers.Drownable;
 import de.bsautermeister.jump.physics.Bits;
@@ -56,20 +57,17 @@ public class Raven extends Enemy implements Drownable {
     public Raven(GameCallbacks callbacks, World world, TextureAtlas atlas, float posX, float posY,
                  boolean rightDirection, boolean swinging, boolean autoAttack) {
         super(callbacks, world, posX, posY, Cfg.BLOCK_SIZE_PPM, Cfg.BLOCK_SIZE_PPM);
+        AtlasCache cache = AtlasCache.of(atlas);
         this.isLeft = !rightDirection;
         this.autoAttack = autoAttack;
         this.upperY = getBody().getPosition().y + SWING_DISTANCE;
         this.lowerY = getBody().getPosition().y - SWING_DISTANCE;
         this.upwards = true;
 
-        flyingAnimation = new Animation<TextureRegion>(0.1f,
-                atlas.findRegions(RegionNames.RAVEN_FLYING), Animation.PlayMode.LOOP);
-        spottedAnimation = new Animation<TextureRegion>(0.05f,
-                atlas.findRegions(RegionNames.RAVEN_SPOTTED), Animation.PlayMode.NORMAL);
-        attackingAnimation = new Animation<TextureRegion>(0.25f,
-                atlas.findRegions(RegionNames.RAVEN_ATTACKING), Animation.PlayMode.LOOP);
-        crashingAnimation = new Animation<TextureRegion>(0.066f,
-                atlas.findRegions(RegionNames.RAVEN_CRASHING), Animation.PlayMode.LOOP);
+        flyingAnimation = cache.getAnimation(RegionNames.RAVEN_FLYING, 0.1f, Animation.PlayMode.LOOP);
+        spottedAnimation = cache.getAnimation(RegionNames.RAVEN_SPOTTED, 0.05f, Animation.PlayMode.NORMAL);
+        attackingAnimation = cache.getAnimation(RegionNames.RAVEN_ATTACKING, 0.25f, Animation.PlayMode.LOOP);
+        crashingAnimation = cache.getAnimation(RegionNames.RAVEN_CRASHING, 0.066f, Animation.PlayMode.LOOP);
 
         state = new GameObjectState<>(swinging ? State.SWINGING : State.WAITING);
         setRegion(getFrame());
@@ -275,7 +273,12 @@ public class Raven extends Enemy implements Drownable {
         return super.renderInForeground() || state.is(State.CRASHING);
     }
 
-    public void touchGround() {
+    @Override
+    public void beginSensorContact(String sensorTag, short otherCategoryBits) {
+        touchGround();
+    }
+
+    private void touchGround() {
         if (state.is(State.ATTACKING)) {
             state.set(State.LEAVING);
         }
@@ -333,6 +336,12 @@ public class Raven extends Enemy implements Drownable {
         }
     }
 
+    @Override
+    protected void onRespawn() {
+        drowning = false;
+        setRegion(getFrame());
+    }
+
     @Override
     public void write(DataOutputStream out) throws IOException {
         super.write(out);
@@ -1,7 +1,4 @@
 package de.bsautermeister.jump.text;
 
 public class LanguageUiMessage extends UiMessage<String> {
-    public LanguageUiMessage(String message) {
-        super(message);
-    }
 }
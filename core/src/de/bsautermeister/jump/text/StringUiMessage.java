@@ -1,7 +1,4 @@
 package de.bsautermeister.jump.text;
 
 public class StringUiMessage extends UiMessage<String> {
-    public StringUiMessage(String message) {
-        super(message);
-    }
 }
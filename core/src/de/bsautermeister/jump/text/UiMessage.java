@@ -1,15 +1,17 @@
 package de.bsautermeister.jump.text;
 
-public abstract class UiMessage<T> {
+import com.badlogic.gdx.utils.Pool;
+
+public abstract class UiMessage<T> implements Pool.Poolable {
     private static final float SPEED_Y = 0.1f;
     private static final float INITIAL_TTL = 1f;
 
-    private final T message;
+    private T message;
     private float normalizedX;
     private float normalizedY;
     private float ttl;
 
-    public UiMessage(T message) {
+    public void init(T message) {
         this.message = message;
         this.ttl = INITIAL_TTL;
     }
@@ -39,4 +41,12 @@ public abstract class UiMessage<T> {
     public boolean isAlive() {
         return ttl > 0;
     }
+
+    @Override
+    public void reset() {
+        message = null;
+        normalizedX = 0f;
+        normalizedY = 0f;
+        ttl = 0f;
+    }
 }
@@ -1,6 +1,8 @@
 package de.bsautermeister.jump.utils;
 
 import de.bsautermeister.jump.Cfg;
+import de.bsautermeister.jump.commons.JumpGameStats;
+import de.bsautermeister.jump.screens.game.level.LevelMetadata;
 
 public final class LevelUtils {
     private LevelUtils() {}
@@ -9,4 +11,12 @@ public final class LevelUtils {
         int page = level / Cfg.LEVELS_PER_PAGE + 1;
         return Math.min(page, Cfg.LEVEL_PAGES);
     }
+
+    /**
+     * The level the player is most likely to play next, which is the first one not finished yet.
+     */
+    public static int getNextLevelToPlay() {
+        int level = JumpGameStats.INSTANCE.getHighestFinishedLevel() + 1;
+        return Math.min(level, LevelMetadata.getLevelCount() - 1);
+    }
 }
@@ -0,0 +1,258 @@
+package de.bsautermeister.jump.desktop;
+
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.XmlReader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import de.bsautermeister.jump.Cfg;
+import de.bsautermeister.jump.screens.game.level.LevelData;
+import de.bsautermeister.jump.screens.game.level.LevelObject;
+
+/**
+ * Compiles the TMX levels into the binary level format, which is loaded by the game at runtime.
+ * This has to be run after a level has been modified in the Tiled editor. When started with
+ * {@code --check}, nothing is written, but it fails in case any compiled level is missing or
+ * differs from what its TMX level compiles to.
+ */
+public class LevelCompiler {
+    private static final String ASSETS_PATH = "android/assets";
+    private static final String MAPS_PATH = "maps";
+    private static final String LEVEL_PATTERN = "{level[0-9][0-9],menu_background}.tmx";
+    private static final String LEVEL_EXTENSION = ".lvl";
+    private static final String CHECK_OPTION = "--check";
+
+    public static void main(String[] args) throws IOException {
+        boolean check = args.length > 0 && CHECK_OPTION.equals(args[0]);
+        Path assetsPath = Paths.get(ASSETS_PATH);
+        List<Path> tmxPaths = new ArrayList<>();
+        try (DirectoryStream<Path> levels = Files.newDirectoryStream(
+                assetsPath.resolve(MAPS_PATH), LEVEL_PATTERN)) {
+            for (Path tmxPath : levels) {
+                tmxPaths.add(tmxPath);
+            }
+        }
+        Collections.sort(tmxPaths);
+
+        List<String> outdatedLevels = new ArrayList<>();
+        for (Path tmxPath : tmxPaths) {
+            String tmxName = tmxPath.getFileName().toString();
+            Path levelPath = tmxPath.resolveSibling(
+                    tmxName.substring(0, tmxName.length() - 4) + LEVEL_EXTENSION);
+            LevelData levelData = compile(assetsPath, tmxPath);
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(output);
+            levelData.write(out);
+            out.flush();
+            byte[] compiled = output.toByteArray();
+
+            if (check) {
+                if (!Files.exists(levelPath)
+                        || !Arrays.equals(compiled, Files.readAllBytes(levelPath))) {
+                    outdatedLevels.add(levelPath.getFileName().toString());
+                }
+                continue;
+            }
+
+            Files.write(levelPath, compiled);
+            System.out.println(String.format("%s: %d objects, %d -> %d bytes", tmxName,
+                    levelData.getObjectCount(), Files.size(tmxPath), compiled.length));
+        }
+
+        if (!outdatedLevels.isEmpty()) {
+            System.err.println("Outdated compiled levels, run the compileLevels task: "
+                    + outdatedLevels);
+            System.exit(1);
+        }
+    }
+
+    public static LevelData compile(Path assetsPath, Path tmxPath) throws IOException {
+        XmlReader.Element map = parse(tmxPath);
+        if (!"orthogonal".equals(map.getAttribute("orientation", null))) {
+            throw new IOException("Only orthogonal maps are supported: " + tmxPath);
+        }
+
+        LevelData levelData = new LevelData();
+        int width = map.getIntAttribute("width");
+        int height = map.getIntAttribute("height");
+        int tileWidth = map.getIntAttribute("tilewidth");
+        int tileHeight = map.getIntAttribute("tileheight");
+        levelData.setSize(width, height, tileWidth, tileHeight);
+        int mapHeightInPixels = height * tileHeight;
+
+        for (XmlReader.Element tileSetElement : map.getChildrenByName("tileset")) {
+            levelData.addTileSet(compileTileSet(assetsPath, tmxPath, tileSetElement));
+        }
+
+        for (int i = 0; i < map.getChildCount(); ++i) {
+            XmlReader.Element element = map.getChild(i);
+            String name = element.getName();
+            if (name.equals("layer")) {
+                levelData.addLayer(compileTileLayer(tmxPath, element));
+            } else if (name.equals("imagelayer")) {
+                levelData.addLayer(compileImageLayer(assetsPath, tmxPath, element,
+                        mapHeightInPixels));
+            } else if (name.equals("objectgroup")) {
+                compileObjects(levelData, tmxPath, element, mapHeightInPixels);
+            }
+        }
+        return levelData;
+    }
+
+    private static LevelData.TileSet compileTileSet(Path assetsPath, Path tmxPath,
+                                                    XmlReader.Element element) throws IOException {
+        LevelData.TileSet tileSet = new LevelData.TileSet();
+        tileSet.firstId = element.getIntAttribute("firstgid", 1);
+
+        Path tileSetPath = tmxPath;
+        String source = element.getAttribute("source", null);
+        if (source != null) {
+            tileSetPath = tmxPath.resolveSibling(source);
+            element = parse(tileSetPath);
+        }
+
+        tileSet.name = element.getAttribute("name", null);
+        tileSet.tileWidth = element.getIntAttribute("tilewidth", 0);
+        tileSet.tileHeight = element.getIntAttribute("tileheight", 0);
+        tileSet.spacing = element.getIntAttribute("spacing", 0);
+        tileSet.margin = element.getIntAttribute("margin", 0);
+        if (element.getChildByName("tile") != null || element.getChildByName("tileoffset") != null) {
+            throw new IOException("Tile properties and offsets are not supported: " + tileSetPath);
+        }
+
+        XmlReader.Element image = element.getChildByName("image");
+        tileSet.imagePath = toAssetPath(assetsPath, tileSetPath.resolveSibling(
+                image.getAttribute("source")));
+        return tileSet;
+    }
+
+    private static LevelData.TileLayer compileTileLayer(Path tmxPath, XmlReader.Element element)
+            throws IOException {
+        LevelData.TileLayer layer = new LevelData.TileLayer();
+        compileLayerInfo(layer, element);
+        layer.width = element.getIntAttribute("width");
+        layer.height = element.getIntAttribute("height");
+
+        XmlReader.Element data = element.getChildByName("data");
+        if (!"csv".equals(data.getAttribute("encoding", null))) {
+            throw new IOException("Only CSV encoded tile layers are supported: " + tmxPath);
+        }
+
+        String[] values = data.getText().trim().split("\\s*,\\s*");
+        if (values.length != layer.width * layer.height) {
+            throw new IOException("Unexpected tile count in layer " + layer.name + ": " + tmxPath);
+        }
+
+        // store the bottom row first, which matches the y-axis of the world
+        layer.tileIds = new int[values.length];
+        for (int y = 0; y < layer.height; ++y) {
+            int flippedY = layer.height - 1 - y;
+            for (int x = 0; x < layer.width; ++x) {
+                layer.tileIds[flippedY * layer.width + x] =
+                        (int) Long.parseLong(values[y * layer.width + x]);
+            }
+        }
+        return layer;
+    }
+
+    private static LevelData.ImageLayer compileImageLayer(Path assetsPath, Path tmxPath,
+                                                          XmlReader.Element element,
+                                                          int mapHeightInPixels) {
+        LevelData.ImageLayer layer = new LevelData.ImageLayer();
+        compileLayerInfo(layer, element);
+
+        layer.x = element.getFloatAttribute("offsetx", 0f);
+        layer.top = mapHeightInPixels - element.getFloatAttribute("offsety", 0f);
+
+        XmlReader.Element image = element.getChildByName("image");
+        layer.imagePath = toAssetPath(assetsPath, tmxPath.resolveSibling(
+                image.getAttribute("source")));
+        return layer;
+    }
+
+    private static void compileLayerInfo(LevelData.Layer layer, XmlReader.Element element) {
+        layer.name = element.getAttribute("name", null);
+        layer.opacity = element.getFloatAttribute("opacity", 1f);
+        layer.visible = element.getIntAttribute("visible", 1) == 1;
+        layer.offsetX = element.getFloatAttribute("offsetx", 0f);
+        layer.offsetY = element.getFloatAttribute("offsety", 0f);
+    }
+
+    private static void compileObjects(LevelData levelData, Path tmxPath,
+                                       XmlReader.Element group, int mapHeightInPixels) {
+        for (XmlReader.Element element : group.getChildrenByName("object")) {
+            float x = element.getFloatAttribute("x", 0f);
+            float y = element.getFloatAttribute("y", 0f);
+            String type = element.getAttribute("type", null);
+            if (type == null) {
+                System.err.println(String.format("%s: missing object type in x: %f, y: %f",
+                        tmxPath.getFileName(), x, y));
+                continue;
+            }
+            if (element.hasAttribute("gid") || element.getChildCount() > 0
+                    && element.getChildByName("properties") == null) {
+                System.err.println(String.format("%s: skipping non-rectangle %s in x: %f, y: %f",
+                        tmxPath.getFileName(), type, x, y));
+                continue;
+            }
+
+            float width = element.getFloatAttribute("width", 0f);
+            float height = element.getFloatAttribute("height", 0f);
+            // same conversion to the y-up coordinate system as done by the TmxMapLoader
+            float flippedY = (mapHeightInPixels - y) - height;
+            Rectangle bounds = new Rectangle(x / Cfg.PPM, flippedY / Cfg.PPM,
+                    width / Cfg.PPM, height / Cfg.PPM);
+            levelData.addObject(type, new LevelObject(bounds, compileProperties(element)));
+        }
+    }
+
+    private static MapProperties compileProperties(XmlReader.Element element) {
+        MapProperties properties = new MapProperties();
+        XmlReader.Element propertiesElement = element.getChildByName("properties");
+        if (propertiesElement == null) {
+            return properties;
+        }
+
+        for (XmlReader.Element property : propertiesElement.getChildrenByName("property")) {
+            String name = property.getAttribute("name");
+            String value = property.getAttribute("value", property.getText());
+            String type = property.getAttribute("type", "string");
+            if (type.equals("bool")) {
+                properties.put(name, Boolean.parseBoolean(value));
+            } else if (type.equals("int")) {
+                properties.put(name, Integer.parseInt(value));
+            } else if (type.equals("float")) {
+                properties.put(name, Float.parseFloat(value));
+            } else {
+                properties.put(name, value);
+            }
+        }
+        return properties;
+    }
+
+    private static XmlReader.Element parse(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return new XmlReader().parse(reader);
+        }
+    }
+
+    private static String toAssetPath(Path assetsPath, Path path) {
+        Path relative = assetsPath.toAbsolutePath().normalize()
+                .relativize(path.toAbsolutePath().normalize());
+        return relative.toString().replace(File.separatorChar, '/');
+    }
+}
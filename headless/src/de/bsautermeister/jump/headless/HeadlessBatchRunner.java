@@ -0,0 +1,215 @@
+package de.bsautermeister.jump.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import de.bsautermeister.jump.assets.AssetPaths;
+import de.bsautermeister.jump.effects.ParticleEffectRegistry;
+import de.bsautermeister.jump.input.InputTape;
+import de.bsautermeister.jump.serializer.BinarySerializer;
+
+/**
+ * Runs many level sessions in parallel on all CPU cores. Each level is run once without any input
+ * and once per input tape found in the tape directory. Every worker thread owns its texture atlas
+ * and runs its sessions one after another, so that there is one Box2D world per worker at a time.
+ * Usage: <code>HeadlessBatchRunner [ticks] [tape directory] [threads]</code>
+ */
+public class HeadlessBatchRunner extends ApplicationAdapter {
+    private static final String TAG = HeadlessBatchRunner.class.getSimpleName();
+
+    private static final int NUM_LEVELS = 12;
+
+    private final int maxTicks;
+    private final String tapeDirectory;
+    private final int numThreads;
+
+    public HeadlessBatchRunner(int maxTicks, String tapeDirectory, int numThreads) {
+        this.maxTicks = maxTicks;
+        this.tapeDirectory = tapeDirectory;
+        this.numThreads = numThreads;
+    }
+
+    @Override
+    public void create() {
+        Noop.installGL();
+
+        ConcurrentLinkedQueue<Job> jobs = createJobs();
+        int numJobs = jobs.size();
+
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        List<Future<WorkerStats>> futures = new ArrayList<>(numThreads);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < numThreads; ++i) {
+            futures.add(executor.submit(new Worker(i, jobs)));
+        }
+
+        long totalTicks = 0;
+        try {
+            for (Future<WorkerStats> future : futures) {
+                WorkerStats stats = future.get();
+                totalTicks += stats.ticks;
+                Gdx.app.log(TAG, String.format(Locale.ROOT,
+                        "Worker %d: %d sessions, %d ticks, %.0f ticks/s, "
+                                + "%d peak effects, %d leaked effects",
+                        stats.index, stats.sessions, stats.ticks, stats.getTicksPerSecond(),
+                        stats.peakEffects, stats.leakedEffects));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Gdx.app.error(TAG, "Worker failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+
+        Gdx.app.log(TAG, String.format(Locale.ROOT,
+                "Total: %d sessions, %d ticks in %.3f s on %d threads (%.0f ticks/s)",
+                numJobs, totalTicks, seconds, numThreads, totalTicks / seconds));
+        Gdx.app.exit();
+    }
+
+    private ConcurrentLinkedQueue<Job> createJobs() {
+        ConcurrentLinkedQueue<Job> jobs = new ConcurrentLinkedQueue<>();
+        for (int level = 0; level < NUM_LEVELS; ++level) {
+            jobs.add(new Job(level, null, "-"));
+        }
+
+        if (tapeDirectory != null) {
+            Array<FileHandle> tapeFiles = new Array<>(Gdx.files.absolute(tapeDirectory).list());
+            tapeFiles.sort(new Comparator<FileHandle>() {
+                @Override
+                public int compare(FileHandle a, FileHandle b) {
+                    return a.name().compareTo(b.name());
+                }
+            });
+            for (FileHandle tapeFile : tapeFiles) {
+                InputTape tape = new InputTape();
+                if (tapeFile.isDirectory() || !BinarySerializer.read(tape, tapeFile.read())) {
+                    Gdx.app.error(TAG, "Skipped invalid input tape: " + tapeFile.path());
+                    continue;
+                }
+                jobs.add(new Job(tape.getLevel(), tape, tapeFile.name()));
+            }
+        }
+        return jobs;
+    }
+
+    private static class Job {
+        final int level;
+        final InputTape tape;
+        final String name;
+
+        Job(int level, InputTape tape, String name) {
+            this.level = level;
+            this.tape = tape;
+            this.name = name;
+        }
+    }
+
+    private static class WorkerStats {
+        final int index;
+        int sessions;
+        long ticks;
+        long nanos;
+        /**
+         * The particle effects of the worker's atlas, which were in use at the same time at most,
+         * and which were still in use after all sessions have been disposed.
+         */
+        int peakEffects;
+        int leakedEffects;
+
+        WorkerStats(int index) {
+            this.index = index;
+        }
+
+        double getTicksPerSecond() {
+            return nanos > 0 ? ticks / (nanos / 1e9) : 0.0;
+        }
+    }
+
+    private class Worker implements Callable<WorkerStats> {
+        private final ConcurrentLinkedQueue<Job> jobs;
+        private final WorkerStats stats;
+
+        Worker(int index, ConcurrentLinkedQueue<Job> jobs) {
+            this.jobs = jobs;
+            this.stats = new WorkerStats(index);
+        }
+
+        @Override
+        public WorkerStats call() {
+            TextureAtlas atlas;
+            synchronized (HeadlessSession.TEXTURE_LOCK) {
+                atlas = new TextureAtlas(AssetPaths.Atlas.GAMEPLAY);
+            }
+
+            try {
+                Job job;
+                while ((job = jobs.poll()) != null) {
+                    run(atlas, job);
+                }
+                ParticleEffectRegistry effects = ParticleEffectRegistry.of(atlas);
+                stats.peakEffects = effects.getPeakCount();
+                stats.leakedEffects = effects.getActiveCount();
+            } finally {
+                synchronized (HeadlessSession.TEXTURE_LOCK) {
+                    atlas.dispose();
+                }
+            }
+            return stats;
+        }
+
+        private void run(TextureAtlas atlas, Job job) {
+            HeadlessSession session = new HeadlessSession(atlas, job.level);
+            if (job.tape != null) {
+                session.getController().startReplay(job.tape);
+            }
+
+            long startTime = System.nanoTime();
+            while (session.getTicks() < maxTicks && !session.isFinished()) {
+                session.tick();
+            }
+            long elapsedNanos = System.nanoTime() - startTime;
+
+            String result = session.isSuccess() ? "success"
+                    : session.isFinished() ? "game over" : "timeout";
+            Gdx.app.log(TAG, String.format(Locale.ROOT,
+                    "Level %02d, tape %s: %s after %d ticks (worker %d)",
+                    job.level, job.name, result, session.getTicks(), stats.index));
+
+            stats.sessions++;
+            stats.ticks += session.getTicks();
+            stats.nanos += elapsedNanos;
+            session.dispose();
+        }
+    }
+
+    public static void main(String[] args) {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 60 * 60;
+        String tapeDirectory = args.length > 1 ? new File(args[1]).getAbsolutePath() : null;
+        int threads = args.length > 2 ? Integer.parseInt(args[2])
+                : Runtime.getRuntime().availableProcessors();
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.renderInterval = -1f;
+        new HeadlessApplication(new HeadlessBatchRunner(ticks, tapeDirectory, threads), config);
+    }
+}
@@ -0,0 +1,79 @@
+package de.bsautermeister.jump.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+
+import java.io.File;
+
+import de.bsautermeister.jump.assets.AssetPaths;
+import de.bsautermeister.jump.input.InputTape;
+import de.bsautermeister.jump.serializer.BinarySerializer;
+
+/**
+ * Runs the simulation of a level for a fixed number of ticks as fast as possible and reports the
+ * throughput. The player input is replayed from a recorded input tape, if one is given, in which
+ * case the level of the tape is used. Usage: <code>HeadlessLauncher [level] [ticks] [tape]</code>
+ */
+public class HeadlessLauncher extends ApplicationAdapter {
+    private static final String TAG = HeadlessLauncher.class.getSimpleName();
+
+    private final int level;
+    private final int maxTicks;
+    private final String tapePath;
+
+    public HeadlessLauncher(int level, int maxTicks, String tapePath) {
+        this.level = level;
+        this.maxTicks = maxTicks;
+        this.tapePath = tapePath;
+    }
+
+    @Override
+    public void create() {
+        Noop.installGL();
+        TextureAtlas atlas = new TextureAtlas(AssetPaths.Atlas.GAMEPLAY);
+
+        InputTape tape = null;
+        if (tapePath != null) {
+            tape = new InputTape();
+            if (!BinarySerializer.read(tape, Gdx.files.absolute(tapePath).read())) {
+                Gdx.app.error(TAG, "Could not read input tape: " + tapePath);
+                atlas.dispose();
+                Gdx.app.exit();
+                return;
+            }
+        }
+
+        int level = tape != null ? tape.getLevel() : this.level;
+        HeadlessSession session = new HeadlessSession(atlas, level);
+        if (tape != null) {
+            session.getController().startReplay(tape);
+        }
+
+        long startTime = System.nanoTime();
+        while (session.getTicks() < maxTicks && !session.isFinished()) {
+            session.tick();
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        double seconds = elapsedNanos / 1e9;
+        Gdx.app.log(TAG, String.format("Level %d: %d ticks in %.3f s (%.0f ticks/s)",
+                level, session.getTicks(), seconds, session.getTicks() / seconds));
+
+        session.dispose();
+        atlas.dispose();
+        Gdx.app.exit();
+    }
+
+    public static void main(String[] args) {
+        int level = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 60 * 60;
+        String tapePath = args.length > 2 ? new File(args[2]).getAbsolutePath() : null;
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.renderInterval = -1f;
+        new HeadlessApplication(new HeadlessLauncher(level, ticks, tapePath), config);
+    }
+}
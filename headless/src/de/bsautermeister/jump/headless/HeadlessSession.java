@@ -0,0 +1,100 @@
+package de.bsautermeister.jump.headless;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Disposable;
+
+import de.bsautermeister.jump.Cfg;
+import de.bsautermeister.jump.audio.MusicPlayer;
+import de.bsautermeister.jump.screens.game.GameController;
+import de.bsautermeister.jump.screens.game.GameScreenCallbacks;
+import de.bsautermeister.jump.screens.game.GameSoundEffects;
+import de.bsautermeister.jump.screens.game.level.PreparedLevel;
+
+/**
+ * Runs the game simulation of a single level without any renderer, audio or screen.
+ */
+public class HeadlessSession implements Disposable {
+
+    /**
+     * Guards the creation and disposal of textures, because libGDX tracks managed textures in a
+     * static map that is not thread-safe.
+     */
+    static final Object TEXTURE_LOCK = new Object();
+
+    private final GameController controller;
+    private int ticks;
+    private boolean finished;
+    private boolean success;
+
+    private final GameScreenCallbacks callbacks = new GameScreenCallbacks() {
+        @Override
+        public void success(int level, Vector2 goalCenterPosition) {
+            finished = true;
+            success = true;
+        }
+
+        @Override
+        public void backToMenu(Vector2 clickScreenPosition) {
+            finished = true;
+        }
+
+        @Override
+        public void reportKillSequelFinished(int count) { }
+
+        @Override
+        public void reportDrunkBeer() { }
+    };
+
+    public HeadlessSession(TextureAtlas atlas, int level) {
+        synchronized (TEXTURE_LOCK) {
+            controller = new GameController(callbacks, atlas, GameSoundEffects.createSilent(),
+                    MusicPlayer.createSilent(), MusicPlayer.createSilent(),
+                    PreparedLevel.prepare(level), null);
+        }
+        // there is no resize event without a window, but the camera frustum depends on the viewport
+        controller.getViewport().update(Cfg.WINDOW_WIDTH, Cfg.WINDOW_HEIGHT, false);
+        controller.getCamera().update();
+    }
+
+    /**
+     * Advances the simulation by exactly one fixed time step.
+     */
+    public void tick() {
+        controller.update(GameController.SIMULATION_STEP_TIME);
+        ticks++;
+    }
+
+    /**
+     * Restarts the level from the beginning with the next tick, which respawns the entities of the
+     * level instead of loading it again.
+     */
+    public void restart() {
+        finished = false;
+        success = false;
+        controller.getPauseCallback().restart();
+    }
+
+    public boolean isFinished() {
+        return finished || controller.getState().isGameOver();
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    public GameController getController() {
+        return controller;
+    }
+
+    @Override
+    public void dispose() {
+        synchronized (TEXTURE_LOCK) {
+            controller.dispose();
+        }
+    }
+}
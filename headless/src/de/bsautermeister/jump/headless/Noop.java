@@ -0,0 +1,57 @@
+package de.bsautermeister.jump.headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Creates implementations of interfaces that ignore every call. The headless backend does not
+ * provide any GL context, but loading the level map and the texture atlas still creates textures.
+ */
+public final class Noop {
+
+    private static final InvocationHandler HANDLER = new InvocationHandler() {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            return defaultValue(method.getReturnType());
+        }
+    };
+
+    private Noop() { }
+
+    /**
+     * Installs a GL20 that ignores every call.
+     */
+    public static void installGL() {
+        GL20 gl = create(GL20.class);
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+    }
+
+    public static <T> T create(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(),
+                new Class<?>[] { type }, HANDLER));
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        if (type == String.class) {
+            return "";
+        }
+        return null;
+    }
+}